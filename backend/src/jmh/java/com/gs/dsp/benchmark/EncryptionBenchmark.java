@@ -0,0 +1,108 @@
+package com.gs.dsp.benchmark;
+
+import com.gs.dsp.shared.util.EncryptionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credential encryption and decryption as pool creation and test-connection use them.
+ * <p>
+ * {@code decrypt} and {@code decryptLegacy} measure a full decryption, in the versioned
+ * AES-GCM and the legacy AES/ECB format respectively; {@code decryptCredential} measures
+ * the cached path taken for a connector whose credential was decrypted recently.
+ * {@code decryptOnVirtualThreads} decrypts once on each of a batch of fresh virtual
+ * threads, as request handling does, so nothing can be reused across calls by thread.
+ * Runs on four threads so the ciphers are exercised under contention.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class EncryptionBenchmark {
+
+    private static final String SECRET_KEY = "12345678901234567890123456789012";
+    private static final int VIRTUAL_THREAD_BATCH = 64;
+
+    @Param({"24"})
+    private int passwordLength;
+
+    private EncryptionUtil encryptionUtil;
+    private String password;
+    private String encrypted;
+    private String legacyEncrypted;
+    private UUID connectorId;
+
+    @Setup
+    public void setUp() throws Exception {
+        encryptionUtil = new EncryptionUtil(SECRET_KEY, 1, "", TimeUnit.MINUTES.toMillis(5), 1000);
+        password = "p".repeat(passwordLength);
+        encrypted = encryptionUtil.encrypt(password);
+        connectorId = UUID.randomUUID();
+
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "AES"));
+        legacyEncrypted = Base64.getEncoder().encodeToString(cipher.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtil.encrypt(password);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public String decryptLegacy() {
+        return encryptionUtil.decrypt(legacyEncrypted);
+    }
+
+    @Benchmark
+    public String decryptCredential() {
+        return encryptionUtil.decryptCredential(connectorId, encrypted);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VIRTUAL_THREAD_BATCH)
+    public void decryptOnVirtualThreads(Blackhole blackhole) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>(VIRTUAL_THREAD_BATCH);
+            for (int i = 0; i < VIRTUAL_THREAD_BATCH; i++) {
+                results.add(executor.submit(() -> encryptionUtil.decrypt(encrypted)));
+            }
+            for (Future<String> result : results) {
+                blackhole.consume(result.get());
+            }
+        }
+    }
+}
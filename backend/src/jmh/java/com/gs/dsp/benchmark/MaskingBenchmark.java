@@ -0,0 +1,76 @@
+package com.gs.dsp.benchmark;
+
+import com.gs.dsp.dataaccess.domain.model.MaskingConfig;
+import com.gs.dsp.dataaccess.infrastructure.secondary.query.MaskingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masking throughput per mask type, over a page of values as one masked column of a
+ * response would pass through {@link MaskingService}.
+ * <p>
+ * Values are synthetic email addresses and card-like numbers so the partial and regex
+ * masks have something to preserve. Each mask type is one {@code @Param}, so results
+ * compare directly.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskingBenchmark {
+
+    @Param({"FIXED", "REGEX", "PARTIAL_FIRST", "PARTIAL_LAST", "PARTIAL_EMAIL"})
+    private String maskType;
+
+    @Param({"1000"})
+    private int pageSize;
+
+    private MaskingService maskingService;
+    private MaskingConfig config;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        maskingService = new MaskingService();
+        config = switch (maskType) {
+            case "FIXED" -> new MaskingConfig(true, MaskingConfig.TYPE_FIXED, null, "CONFIDENTIAL");
+            case "REGEX" -> new MaskingConfig(true, MaskingConfig.TYPE_REGEX, "\\d", "*");
+            case "PARTIAL_FIRST" -> new MaskingConfig(true, MaskingConfig.TYPE_PARTIAL, "ShowFirst4", null);
+            case "PARTIAL_LAST" -> new MaskingConfig(true, MaskingConfig.TYPE_PARTIAL, "ShowLast4", null);
+            case "PARTIAL_EMAIL" -> new MaskingConfig(true, MaskingConfig.TYPE_PARTIAL, "***@***.com", null);
+            default -> throw new IllegalArgumentException(maskType);
+        };
+
+        Random random = new Random(42);
+        values = new String[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            values[i] = maskType.equals("PARTIAL_EMAIL")
+                    ? "customer" + random.nextInt(100_000) + "@example.com"
+                    : String.format("4%03d-%04d-%04d-%04d", random.nextInt(1000),
+                            random.nextInt(10_000), random.nextInt(10_000), random.nextInt(10_000));
+        }
+    }
+
+    @Benchmark
+    public void maskPage(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(maskingService.applyMasking(value, config));
+        }
+    }
+}
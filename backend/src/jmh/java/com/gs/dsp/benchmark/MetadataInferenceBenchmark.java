@@ -0,0 +1,86 @@
+package com.gs.dsp.benchmark;
+
+import com.gs.dsp.connectivity.domain.service.MetadataInferenceService;
+import com.gs.dsp.connectivity.domain.service.inference.SemanticTypeClassifier;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Semantic-type and display-name inference over a wide synthetic schema.
+ * <p>
+ * The schema mixes column names that repeat across tables (ids, audit timestamps) with
+ * table-specific ones, in roughly the proportions seen in warehouse schemas.
+ * {@code coldClassifier} measures the compiled rule table alone; {@code inferColumns}
+ * measures the service as introspection uses it, memo included.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataInferenceBenchmark {
+
+    private static final String[] SHARED_COLUMNS = {
+            "id", "tenant_id", "created_at", "updated_at", "deleted_at", "created_by", "status", "version"
+    };
+    private static final String[] WORDS = {
+            "customer", "order", "invoice", "line", "product", "price", "amount", "email", "shipping",
+            "billing", "city", "country", "lat", "lng", "photo", "url", "category", "note", "code", "qty"
+    };
+    private static final String[] TYPES = {
+            "uuid", "integer", "bigint", "numeric", "character varying", "text", "boolean",
+            "timestamp without time zone", "date", "jsonb", "double precision"
+    };
+
+    @Param({"100000"})
+    private int columnCount;
+
+    private List<ColumnMetadata> columns;
+    private MetadataInferenceService service;
+    private SemanticTypeClassifier classifier;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = random.nextInt(4) == 0
+                    ? SHARED_COLUMNS[random.nextInt(SHARED_COLUMNS.length)]
+                    : WORDS[random.nextInt(WORDS.length)] + "_" + WORDS[random.nextInt(WORDS.length)] + "_" + (i % 500);
+            columns.add(new ColumnMetadata(name, TYPES[random.nextInt(TYPES.length)]));
+        }
+        service = new MetadataInferenceService();
+        classifier = new SemanticTypeClassifier(SemanticTypeClassifier.DEFAULT_RULES);
+    }
+
+    @Benchmark
+    public void coldClassifier(Blackhole blackhole) {
+        for (ColumnMetadata column : columns) {
+            blackhole.consume(classifier.classify(column.getName(), column.getDataType()));
+        }
+    }
+
+    @Benchmark
+    public List<ColumnMetadata> inferColumns() {
+        service.inferColumns(columns);
+        return columns;
+    }
+}
@@ -0,0 +1,113 @@
+package com.gs.dsp.benchmark;
+
+import com.gs.dsp.dataaccess.infrastructure.security.QueryValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Injection and identifier checks of {@link QueryValidator} against the regex cascade they
+ * replaced, which is kept here as the baseline.
+ * <p>
+ * {@code typical} is a short filter value or join condition; {@code large} is a clean
+ * custom query of about 10 KB, the worst case since every check has to read all of it;
+ * {@code adversarial} is about 10 KB of near-misses, operators and quoted words that never
+ * complete a tautology, which makes the regexes backtrack at every {@code OR}.
+ * {@code identifiers} validates a batch of table and column names as {@code SqlBuilder}
+ * does for each request.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryValidatorBenchmark {
+
+    private static final Pattern[] REGEX_INJECTION_PATTERNS = {
+            Pattern.compile("--|/\\*|\\*/|#", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("(\\bOR\\b|\\bAND\\b)\\s+['\"]?\\w+['\"]?\\s*=\\s*['\"]?\\w+['\"]?", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\\bUNION\\b.*\\bSELECT\\b", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(";\\s*(SELECT|INSERT|UPDATE|DELETE|DROP|CREATE)", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\\b(EXEC|EXECUTE|xp_|sp_)\\b", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("<script|javascript:|onerror=|onclick=", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\\b(SLEEP|WAITFOR|DELAY)\\b\\s*\\(", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\\bDROP\\b\\s+(TABLE|DATABASE|SCHEMA)", Pattern.CASE_INSENSITIVE)
+    };
+    private static final Pattern REGEX_IDENTIFIER = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]*$");
+    private static final Set<String> REGEX_KEYWORDS = Set.of("SELECT", "DROP", "UNION", "OR", "AND", "WHERE");
+
+    private static final String TYPICAL_CONDITION = "orders.customer_id = customers.id AND orders.status = 'shipped'";
+    private static final String[] IDENTIFIERS = {
+            "customers", "orders", "order_items", "id", "customer_id", "created_at", "status", "total_amount"
+    };
+
+    @Param({"typical", "large", "adversarial"})
+    private String input;
+
+    private String sql;
+    private QueryValidator validator;
+
+    @Setup
+    public void setUp() {
+        if ("typical".equals(input)) {
+            sql = TYPICAL_CONDITION;
+        } else if ("adversarial".equals(input)) {
+            sql = ("OR '" + "a".repeat(200) + "' AND \"" + "b".repeat(40) + "\" union ").repeat(40);
+        } else {
+            StringBuilder builder = new StringBuilder("SELECT o.id, o.total_amount, c.name FROM orders o JOIN customers c ON ");
+            int i = 0;
+            while (builder.length() < 10_000) {
+                builder.append("o.customer_id = c.id AND o.region_").append(i++).append(" = 'EMEA' ");
+            }
+            sql = builder.toString();
+        }
+        validator = new QueryValidator();
+    }
+
+    @Benchmark
+    public boolean lexerInjectionCheck() {
+        return validator.containsSqlInjectionPattern(sql);
+    }
+
+    @Benchmark
+    public boolean regexInjectionCheck() {
+        for (Pattern pattern : REGEX_INJECTION_PATTERNS) {
+            if (pattern.matcher(sql).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public void lexerIdentifiers() {
+        for (String identifier : IDENTIFIERS) {
+            validator.validateColumnName(identifier);
+        }
+    }
+
+    @Benchmark
+    public void regexIdentifiers(Blackhole blackhole) {
+        for (String identifier : IDENTIFIERS) {
+            String trimmed = identifier.trim();
+            blackhole.consume(REGEX_IDENTIFIER.matcher(trimmed).matches()
+                    && !REGEX_KEYWORDS.contains(trimmed.toUpperCase(Locale.ROOT)));
+        }
+    }
+}
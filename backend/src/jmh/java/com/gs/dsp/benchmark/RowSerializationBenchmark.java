@@ -0,0 +1,103 @@
+package com.gs.dsp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetching and serializing a page of rows as the dynamic data endpoint does, against an
+ * in-memory H2 table.
+ * <p>
+ * {@code fetchPage} runs the paginated query through Jdbi's map mapper, {@code serializePage}
+ * writes an already fetched page in the endpoint's response envelope, and
+ * {@code fetchAndSerialize} does both. The table mixes the column types seen in practice:
+ * keys, text, decimals, timestamps, booleans and UUIDs.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowSerializationBenchmark {
+
+    private static final int TABLE_ROWS = 10_000;
+    private static final String PAGE_SQL = "SELECT * FROM (SELECT id, customer_email, status, total_amount, "
+            + "created_at, is_paid, external_ref FROM orders) AS subquery LIMIT :limit OFFSET :offset";
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private Jdbi jdbi;
+    private ObjectMapper objectMapper;
+    private List<Map<String, Object>> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:row-serialization;DB_CLOSE_DELAY=-1");
+        jdbi = Jdbi.create(dataSource);
+        jdbi.useHandle(handle -> {
+            handle.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, customer_email VARCHAR(255), "
+                    + "status VARCHAR(32), total_amount DECIMAL(12, 2), created_at TIMESTAMP, "
+                    + "is_paid BOOLEAN, external_ref UUID)");
+            handle.execute("INSERT INTO orders SELECT x, CONCAT('customer', x, '@example.com'), "
+                    + "CASE WHEN MOD(x, 3) = 0 THEN 'shipped' ELSE 'pending' END, x * 1.25, "
+                    + "DATEADD('MINUTE', -x, TIMESTAMP '2026-01-01 00:00:00'), MOD(x, 2) = 0, RANDOM_UUID() "
+                    + "FROM SYSTEM_RANGE(1, " + TABLE_ROWS + ")");
+        });
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        page = fetchPage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("SHUTDOWN"));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> fetchPage() {
+        return jdbi.withHandle(handle -> handle.createQuery(PAGE_SQL)
+                .bind("limit", pageSize)
+                .bind("offset", 0)
+                .mapToMap()
+                .list());
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return serialize(page);
+    }
+
+    @Benchmark
+    public byte[] fetchAndSerialize() throws Exception {
+        return serialize(fetchPage());
+    }
+
+    private byte[] serialize(List<Map<String, Object>> rows) throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of(
+                "meta", Map.of("page", 0, "size", pageSize),
+                "data", rows));
+    }
+}
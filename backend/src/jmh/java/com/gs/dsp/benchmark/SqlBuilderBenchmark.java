@@ -0,0 +1,110 @@
+package com.gs.dsp.benchmark;
+
+import com.gs.dsp.dataaccess.domain.model.QueryDefinition;
+import com.gs.dsp.dataaccess.infrastructure.secondary.query.SqlBuilder;
+import com.gs.dsp.dataaccess.infrastructure.security.QueryValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL building for query definitions shaped like the endpoints tenants configure.
+ * <p>
+ * {@code simpleBuilderQuery} is a single table with a projection and one filter;
+ * {@code joinedBuilderQuery} joins three tables with aliases, several filters including
+ * LIKE and IN, and a two-column sort, so every validation the builder performs is on the
+ * measured path. {@code customSqlQuery} covers SQL-mode endpoints not yet stored in
+ * prepared form.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlBuilderBenchmark {
+
+    private SqlBuilder sqlBuilder;
+    private QueryDefinition simpleQuery;
+    private QueryDefinition joinedQuery;
+    private QueryDefinition customSqlQuery;
+
+    @Setup
+    public void setUp() {
+        sqlBuilder = new SqlBuilder(new QueryValidator());
+
+        simpleQuery = QueryDefinition.builder()
+                .mode(QueryDefinition.QueryMode.BUILDER)
+                .rootTable("customers")
+                .columns(List.of(
+                        column("customers", "id", null),
+                        column("customers", "email", null),
+                        column("customers", "created_at", null)))
+                .filters(List.of(filter("status", "EQ", "active")))
+                .build();
+
+        joinedQuery = QueryDefinition.builder()
+                .mode(QueryDefinition.QueryMode.BUILDER)
+                .rootTable("orders")
+                .joins(List.of(
+                        QueryDefinition.JoinDefinition.builder()
+                                .type("INNER").table("customers").on("orders.customer_id = customers.id").build(),
+                        QueryDefinition.JoinDefinition.builder()
+                                .type("LEFT").table("order_items").on("order_items.order_id = orders.id").build()))
+                .columns(List.of(
+                        column("orders", "id", "order_id"),
+                        column("orders", "total_amount", null),
+                        column("customers", "email", "customer_email"),
+                        column("order_items", "product_id", null),
+                        column("order_items", "quantity", null)))
+                .filters(List.of(
+                        filter("status", "EQ", "shipped"),
+                        filter("total_amount", "GTE", 100),
+                        filter("email", "LIKE", "%@example.com"),
+                        filter("region", "IN", "1, 2, 3, 4")))
+                .sort(List.of(
+                        QueryDefinition.SortDefinition.builder().field("created_at").direction("desc").build(),
+                        QueryDefinition.SortDefinition.builder().field("id").direction("asc").build()))
+                .build();
+
+        customSqlQuery = QueryDefinition.builder()
+                .mode(QueryDefinition.QueryMode.SQL)
+                .sql("SELECT o.id, o.total_amount, c.email FROM public.orders o "
+                        + "JOIN public.customers c ON o.customer_id = c.id WHERE o.status = 'shipped'")
+                .build();
+    }
+
+    @Benchmark
+    public String simpleBuilderQuery() {
+        return sqlBuilder.buildSql(simpleQuery, true, "public");
+    }
+
+    @Benchmark
+    public String joinedBuilderQuery() {
+        return sqlBuilder.buildSql(joinedQuery, true, "public");
+    }
+
+    @Benchmark
+    public String customSqlQuery() {
+        return sqlBuilder.buildSql(customSqlQuery, true, "public");
+    }
+
+    private static QueryDefinition.ColumnDefinition column(String table, String name, String alias) {
+        return QueryDefinition.ColumnDefinition.builder().table(table).name(name).alias(alias).build();
+    }
+
+    private static QueryDefinition.FilterCondition filter(String field, String operator, Object value) {
+        return QueryDefinition.FilterCondition.builder().field(field).operator(operator).value(value).build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.gs.dsp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.dataaccess.domain.model.DataEndpointId;
+import com.gs.dsp.dataaccess.infrastructure.secondary.query.DynamicQueryService;
+import com.gs.dsp.shared.kernel.constants.AppConstants;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives the running application with concurrent clients, one virtual thread each, that
+ * send a weighted mix of {@link RequestKind}s over HTTP until the phase ends.
+ * <p>
+ * Each client keeps its own latency samples and merges them when the phase is over, so
+ * recording adds no contention to what is measured. Cold requests evict the endpoint's
+ * cached metadata just before they are sent, which makes the next call reload the endpoint,
+ * its connector and its query from the metadata database.
+ * </p>
+ */
+final class LoadTestClients {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int WARM_PAGES = 5;
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LoadTestSeeder.Fixture fixture;
+    private final LoadTestSettings settings;
+    private final DynamicQueryService dynamicQueryService;
+    private final byte[] previewBody;
+    private final RequestKind[] kinds;
+    private final int[] cumulativeWeights;
+
+    LoadTestClients(int port, LoadTestSeeder.Fixture fixture, LoadTestSettings settings,
+                    DynamicQueryService dynamicQueryService, ObjectMapper objectMapper) throws IOException {
+        this.http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.baseUrl = "http://localhost:" + port;
+        this.fixture = fixture;
+        this.settings = settings;
+        this.dynamicQueryService = dynamicQueryService;
+        this.previewBody = objectMapper.writeValueAsBytes(Map.of(
+                "connectorId", fixture.connectorId(),
+                "queryConfig", LoadTestSeeder.previewQuery(settings.pageSize())));
+        this.kinds = settings.mix().keySet().toArray(RequestKind[]::new);
+        this.cumulativeWeights = new int[kinds.length];
+        int total = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            total += settings.mix().get(kinds[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs all clients for the given time and returns what they observed.
+     */
+    PhaseResult run(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<RequestKind, Samples>>> futures = new ArrayList<>(settings.clients());
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.clients(); i++) {
+                futures.add(executor.submit(() -> runClient(deadline)));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<RequestKind, Samples> merged = new EnumMap<>(RequestKind.class);
+        for (Future<Map<RequestKind, Samples>> future : futures) {
+            future.get().forEach((kind, samples) ->
+                    merged.computeIfAbsent(kind, k -> new Samples()).addAll(samples));
+        }
+        return new PhaseResult(elapsed, merged);
+    }
+
+    private Map<RequestKind, Samples> runClient(long deadline) {
+        Map<RequestKind, Samples> samples = new EnumMap<>(RequestKind.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            RequestKind kind = pick(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+            HttpRequest request = request(kind, random);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.computeIfAbsent(kind, k -> new Samples()).add(System.nanoTime() - start, ok);
+        }
+        return samples;
+    }
+
+    private RequestKind pick(int roll) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return kinds[i];
+            }
+        }
+        return kinds[kinds.length - 1];
+    }
+
+    private HttpRequest request(RequestKind kind, ThreadLocalRandom random) {
+        List<String> endpoints = fixture.endpointIds();
+        return switch (kind) {
+            case PAGE -> get("/api/v1/data/" + endpoints.get(random.nextInt(LoadTestSettings.HOT_ENDPOINTS))
+                    + "?page=" + random.nextInt(WARM_PAGES) + "&size=" + settings.pageSize());
+            case COLD -> {
+                String endpointId = endpoints.get(random.nextInt(endpoints.size()));
+                dynamicQueryService.invalidateCache(new DataEndpointId(UUID.fromString(endpointId)), LoadTestSeeder.TENANT_ID);
+                int pages = Math.max(1, settings.rows() / settings.pageSize());
+                yield get("/api/v1/data/" + endpointId + "?page=" + random.nextInt(pages) + "&size=" + settings.pageSize());
+            }
+            case PREVIEW -> builder("/api/v1/data-endpoints/test")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(previewBody))
+                    .build();
+            case METADATA -> get("/api/v1/connectors/" + fixture.connectorId() + "/tables?page=0&size=20");
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(AppConstants.HEADER_API_KEY, fixture.apiKey());
+    }
+
+    /**
+     * What all clients observed during one phase.
+     *
+     * @param elapsedNanos Wall-clock length of the phase
+     * @param byKind       Latency samples and error counts per request kind
+     */
+    record PhaseResult(long elapsedNanos, Map<RequestKind, Samples> byKind) {
+    }
+
+    /**
+     * Growable array of latencies in nanoseconds, with the number of failed requests.
+     */
+    static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long latency, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        int count() {
+            return count;
+        }
+
+        int errors() {
+            return errors;
+        }
+
+        /**
+         * The latencies in ascending order.
+         */
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
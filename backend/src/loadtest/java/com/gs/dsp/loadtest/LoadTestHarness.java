@@ -0,0 +1,63 @@
+package com.gs.dsp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.DspApplication;
+import com.gs.dsp.dataaccess.infrastructure.secondary.query.DynamicQueryService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Offline load test: boots the application on an in-memory H2 metadata database, seeds an
+ * H2 source behind a connector with endpoints and an API key, and drives it over HTTP.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:exec}, passing settings as
+ * {@code -Dloadtest.args="clients=128 duration=60 sourceLatencyMs=5"}; see
+ * {@link LoadTestSettings} for the keys. After a warm-up phase the measured phase is
+ * summarised on stdout and, when {@code report} is set, written as JSON; the profile's
+ * default arguments write it to {@code target/loadtest-report.json}.
+ * </p>
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        LatencyInjectingDriver.setLatencyMillis(0);
+
+        SpringApplication application = new SpringApplication(DspApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        try (ConfigurableApplicationContext context = application.run()) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            System.out.printf("Seeding %d endpoints over %d rows%n", settings.endpoints(), settings.rows());
+            LoadTestSeeder.Fixture fixture = LoadTestSeeder.seed(context, settings);
+            LatencyInjectingDriver.setLatencyMillis(settings.sourceLatencyMs());
+
+            LoadTestClients clients = new LoadTestClients(port, fixture, settings,
+                    context.getBean(DynamicQueryService.class), objectMapper);
+            System.out.printf("Warming up for %ds with %d clients%n", settings.warmup().toSeconds(), settings.clients());
+            if (!settings.warmup().isZero()) {
+                clients.run(settings.warmup());
+            }
+
+            System.out.printf("Measuring for %ds, mix %s, source latency %dms%n",
+                    settings.duration().toSeconds(), settings.mix(), settings.sourceLatencyMs());
+            long allocatedBefore = LoadTestReport.totalAllocatedBytes();
+            LoadTestClients.PhaseResult result = clients.run(settings.duration());
+            long allocatedAfter = LoadTestReport.totalAllocatedBytes();
+
+            LoadTestReport report = LoadTestReport.of(settings, result,
+                    allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore);
+            report.print(System.out);
+            if (settings.report() != null) {
+                report.write(Path.of(settings.report()), objectMapper);
+                System.out.println("Report written to " + settings.report());
+            }
+        }
+    }
+}
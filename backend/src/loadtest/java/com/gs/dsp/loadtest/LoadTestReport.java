@@ -0,0 +1,119 @@
+package com.gs.dsp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of the measured phase: throughput, latency percentiles and error count per request
+ * kind and overall, plus the JVM's allocation rate.
+ * <p>
+ * The allocation rate is the growth of the total bytes allocated by all threads, divided by
+ * the phase length. Clients and server share the JVM, so it includes what the HTTP clients
+ * allocate; compare runs with the same client count rather than reading it as server cost.
+ * </p>
+ *
+ * @param settings            Settings of the run
+ * @param rows                One row per request kind, then the total
+ * @param allocatedBytesPerSec Allocation rate, or -1 when the JVM does not report it
+ */
+record LoadTestReport(LoadTestSettings settings, List<Row> rows, long allocatedBytesPerSec) {
+
+    private static final String TOTAL = "TOTAL";
+
+    /**
+     * Results of one request kind.
+     *
+     * @param kind        Request kind, or {@code TOTAL}
+     * @param requests    Requests completed
+     * @param errors      Requests that failed or did not return 200
+     * @param throughput  Requests per second
+     * @param p50Millis   Median latency
+     * @param p99Millis   99th percentile latency
+     * @param p999Millis  99.9th percentile latency
+     * @param maxMillis   Slowest request
+     */
+    record Row(String kind, int requests, int errors, double throughput,
+               double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    static LoadTestReport of(LoadTestSettings settings, LoadTestClients.PhaseResult result, long allocatedBytes) {
+        double seconds = result.elapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        List<Row> rows = new ArrayList<>();
+        LoadTestClients.Samples total = new LoadTestClients.Samples();
+        result.byKind().forEach((kind, samples) -> {
+            rows.add(row(kind.name(), samples, seconds));
+            total.addAll(samples);
+        });
+        rows.add(row(TOTAL, total, seconds));
+        long allocationRate = allocatedBytes < 0 ? -1 : (long) (allocatedBytes / seconds);
+        return new LoadTestReport(settings, List.copyOf(rows), allocationRate);
+    }
+
+    /**
+     * Total bytes allocated by all threads so far, or -1 when the JVM does not report it.
+     */
+    static long totalAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-10s %10s %8s %12s %10s %10s %10s %10s%n",
+                "kind", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Row row : rows) {
+            out.printf("%-10s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    row.kind(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Millis(), row.p99Millis(), row.p999Millis(), row.maxMillis());
+        }
+        if (allocatedBytesPerSec >= 0) {
+            out.printf("%nallocation rate: %.1f MB/s (server and clients)%n", allocatedBytesPerSec / (1024.0 * 1024.0));
+        }
+    }
+
+    void write(Path file, ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settings);
+        json.put("results", rows);
+        json.put("allocatedBytesPerSec", allocatedBytesPerSec);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), json);
+    }
+
+    private static Row row(String kind, LoadTestClients.Samples samples, double seconds) {
+        long[] sorted = samples.sorted();
+        return new Row(kind, samples.count(), samples.errors(), samples.count() / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+
+    /**
+     * Nearest-rank percentile of an ascending array.
+     */
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return toMillis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.gs.dsp.loadtest;
+
+import com.gs.dsp.connectivity.application.service.ConnectorApplicationService;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.dataaccess.application.service.DataEndpointApplicationService;
+import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
+import com.gs.dsp.iam.application.service.ApiKeyApplicationService;
+import com.gs.dsp.iam.application.service.TenantApplicationService;
+import com.gs.dsp.iam.domain.model.TenantStatus;
+import com.gs.dsp.shared.kernel.constants.FieldNames;
+import org.springframework.context.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds the source database and the application's metadata for a load-test run.
+ * <p>
+ * The source is an in-memory H2 database with an {@code orders} table of the configured
+ * size and a set of side tables, reached through {@link LatencyInjectingDriver} so source
+ * latency can be dialled in. An active tenant owns one approved connector that registers
+ * all of its tables; the endpoints alternate between builder queries and custom SQL, each
+ * with its own filter so no two share a cache entry.
+ * </p>
+ */
+final class LoadTestSeeder {
+
+    static final String TENANT_ID = "loadtest";
+    static final String ROOT_TABLE = "orders";
+
+    private static final String SOURCE_URL = "h2:mem:loadtest_source;DB_CLOSE_DELAY=-1";
+    private static final int SIDE_TABLES = 40;
+    private static final String[] STATUSES = {"NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    private LoadTestSeeder() {
+    }
+
+    /**
+     * What a run needs to address the seeded data.
+     *
+     * @param apiKey      Raw API key of the load-test tenant
+     * @param connectorId ID of the source connector
+     * @param endpointIds IDs of the seeded endpoints
+     */
+    record Fixture(String apiKey, String connectorId, List<String> endpointIds) {
+    }
+
+    static Fixture seed(ApplicationContext context, LoadTestSettings settings) throws SQLException {
+        createSourceTables(settings.rows());
+
+        // Requests of unknown or inactive tenants are refused, so the tenant must exist first
+        TenantApplicationService tenants = context.getBean(TenantApplicationService.class);
+        tenants.createTenant(TENANT_ID, "Load test", null);
+        tenants.updateTenantStatus(TENANT_ID, TenantStatus.ACTIVE);
+
+        ConnectorApplicationService connectors = context.getBean(ConnectorApplicationService.class);
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put(FieldNames.CONFIG_URL, LatencyInjectingDriver.PREFIX + SOURCE_URL);
+        config.put(FieldNames.CONFIG_USER, "sa");
+        config.put(FieldNames.CONFIG_PASSWORD, "");
+        config.put(FieldNames.CONFIG_DRIVER_CLASS, LatencyInjectingDriver.class.getName());
+        config.put(FieldNames.SCHEMA, "PUBLIC");
+
+        Connector connector = connectors.createConnector("Load test source", ConnectorType.DATABASE, config, TENANT_ID);
+        String connectorId = connector.getIdValue();
+        connectors.approveConnector(connectorId, TENANT_ID);
+        List<TableMetadata> tables = connectors.testConnectionAndFetchTables(config);
+        connectors.updateConnector(connectorId, connector.getName(), ConnectorType.DATABASE, config, tables, true, TENANT_ID);
+
+        DataEndpointApplicationService endpoints = context.getBean(DataEndpointApplicationService.class);
+        List<String> endpointIds = new ArrayList<>(settings.endpoints());
+        for (int i = 0; i < settings.endpoints(); i++) {
+            DataEndpoint endpoint = endpoints.createEndpoint(
+                    connectorId,
+                    "Load test endpoint " + i,
+                    "loadtest-" + i,
+                    null,
+                    queryConfig(i),
+                    null,
+                    TENANT_ID);
+            endpointIds.add(endpoint.getIdValue());
+        }
+
+        String apiKey = context.getBean(ApiKeyApplicationService.class).generateApiKey(TENANT_ID, "Load test", null);
+        return new Fixture(apiKey, connectorId, List.copyOf(endpointIds));
+    }
+
+    /**
+     * Query configuration of the preview requests: an unsaved builder query on the root table.
+     */
+    static Map<String, Object> previewQuery(int limit) {
+        return Map.of("mode", "BUILDER", "rootTable", ROOT_TABLE, "limit", limit);
+    }
+
+    private static String queryConfig(int index) {
+        if (index % 2 == 0) {
+            return """
+                    {"mode":"BUILDER","rootTable":"%s",\
+                    "filters":[{"field":"status","operator":"EQ","value":"%s"}],\
+                    "sort":[{"field":"id","direction":"ASC"}]}"""
+                    .formatted(ROOT_TABLE, STATUSES[index / 2 % STATUSES.length]);
+        }
+        return """
+                {"mode":"SQL","sql":"SELECT id, customer_id, status, amount, created_at FROM %s WHERE amount >= %d ORDER BY id"}"""
+                .formatted(ROOT_TABLE, index);
+    }
+
+    private static void createSourceTables(int rows) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:" + SOURCE_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE orders (
+                        id BIGINT PRIMARY KEY,
+                        customer_id BIGINT NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        amount DECIMAL(12, 2) NOT NULL,
+                        customer_email VARCHAR(255),
+                        created_at TIMESTAMP NOT NULL)""");
+            for (int t = 0; t < SIDE_TABLES; t++) {
+                statement.execute("CREATE TABLE audit_%02d (id BIGINT PRIMARY KEY, entity VARCHAR(50), changed_at TIMESTAMP)"
+                        .formatted(t));
+            }
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO orders VALUES (?, ?, ?, ?, ?, DATEADD('MINUTE', -?, CURRENT_TIMESTAMP))")) {
+                for (int i = 1; i <= rows; i++) {
+                    insert.setLong(1, i);
+                    insert.setLong(2, i % 997);
+                    insert.setString(3, STATUSES[i % STATUSES.length]);
+                    insert.setBigDecimal(4, BigDecimal.valueOf(i % 500_000, 2));
+                    insert.setString(5, "customer" + (i % 997) + "@example.com");
+                    insert.setInt(6, i);
+                    insert.addBatch();
+                    if (i % 1000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gs.dsp.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load-test run, parsed from {@code key=value} arguments.
+ *
+ * @param clients         Concurrent clients, each on its own virtual thread
+ * @param warmup          Time spent driving load before measuring
+ * @param duration        Time spent measuring
+ * @param endpoints       Data endpoints to seed; the first {@link #HOT_ENDPOINTS} take the warm traffic
+ * @param rows            Rows in the source table
+ * @param pageSize        Page size of data requests
+ * @param sourceLatencyMs Delay added to every statement on the source, 0 for none
+ * @param mix             Relative weight of each request kind
+ * @param report          File the JSON report is written to, or null for none
+ */
+public record LoadTestSettings(
+        int clients,
+        Duration warmup,
+        Duration duration,
+        int endpoints,
+        int rows,
+        int pageSize,
+        long sourceLatencyMs,
+        Map<RequestKind, Integer> mix,
+        String report) {
+
+    public static final int HOT_ENDPOINTS = 10;
+
+    private static final String DEFAULT_MIX = "page=60,cold=15,preview=15,metadata=10";
+
+    public static LoadTestSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        LoadTestSettings settings = new LoadTestSettings(
+                Integer.parseInt(values.getOrDefault("clients", "64")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "30"))),
+                Integer.parseInt(values.getOrDefault("endpoints", "200")),
+                Integer.parseInt(values.getOrDefault("rows", "10000")),
+                Integer.parseInt(values.getOrDefault("pageSize", "50")),
+                Long.parseLong(values.getOrDefault("sourceLatencyMs", "0")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                values.get("report"));
+        if (settings.clients <= 0 || settings.endpoints < HOT_ENDPOINTS || settings.rows <= 0
+                || settings.pageSize <= 0 || settings.sourceLatencyMs < 0 || settings.duration.isZero()) {
+            throw new IllegalArgumentException("Invalid load test settings: " + settings);
+        }
+        return settings;
+    }
+
+    private static Map<RequestKind, Integer> parseMix(String mix) {
+        Map<RequestKind, Integer> weights = new EnumMap<>(RequestKind.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(RequestKind.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Request mix has no positive weights: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gs.dsp.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The kinds of request a load-test client sends.
+ */
+public enum RequestKind {
+    /** A page of one of the hot endpoints, with warm metadata caches. */
+    PAGE,
+    /** A random page of a random endpoint whose cached metadata is evicted first. */
+    COLD,
+    /** A preview of an unsaved builder query, as the endpoint editor sends it. */
+    PREVIEW,
+    /** A page of the connector's registered tables. */
+    METADATA;
+
+    static RequestKind fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -2,16 +2,28 @@ package com.gs.dsp.connectivity.application.service;
 
 import com.gs.dsp.connectivity.domain.model.*;
 import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
 import com.gs.dsp.connectivity.domain.service.ConnectorMetadataService;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadataUpdate;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadataPage;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.UpdateTableMetadataRequest;
+import com.gs.dsp.shared.domain.model.AggregateRoot;
+import com.gs.dsp.shared.kernel.constants.AppConstants;
 import com.gs.dsp.shared.kernel.constants.ErrorMessages;
+import com.gs.dsp.shared.kernel.exception.InvalidMetadataException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -23,7 +35,9 @@ import java.util.UUID;
 public class ConnectorApplicationService {
     
     private final ConnectorRepository connectorRepository;
+    private final RegisteredTableRepository registeredTableRepository;
     private final ConnectorMetadataService connectorMetadataService;  // Domain interface
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all connectors for a tenant.
@@ -67,6 +81,7 @@ public class ConnectorApplicationService {
 
     /**
      * Update connector details.
+     * When registeredTables is null the registered tables are left unchanged.
      */
     @Transactional
     public Connector updateConnector(
@@ -88,7 +103,10 @@ public class ConnectorApplicationService {
         ConnectionConfig connectionConfig = new ConnectionConfig(config);
         
         // Use domain method
-        connector.updateDetails(name, connectorType, connectionConfig, registeredTables);
+        connector.updateDetails(name, connectorType, connectionConfig);
+        if (registeredTables != null) {
+            replaceRegisteredTables(connector, registeredTables);
+        }
         
         // Handle active status based on current state
         if (isActive && !connector.isActive()) {
@@ -97,7 +115,9 @@ public class ConnectorApplicationService {
             connector.deactivate();
         }
         
-        return connectorRepository.save(connector);
+        Connector saved = connectorRepository.save(connector);
+        publishEvents(connector);
+        return saved;
     }
 
     /**
@@ -113,7 +133,9 @@ public class ConnectorApplicationService {
         
         connector.approve();  // Business method
         
-        return connectorRepository.save(connector);
+        Connector saved = connectorRepository.save(connector);
+        publishEvents(connector);
+        return saved;
     }
 
     /**
@@ -129,7 +151,9 @@ public class ConnectorApplicationService {
         
         connector.reject();  // Business method
         
-        return connectorRepository.save(connector);
+        Connector saved = connectorRepository.save(connector);
+        publishEvents(connector);
+        return saved;
     }
 
     /**
@@ -157,7 +181,10 @@ public class ConnectorApplicationService {
                 String.format(ErrorMessages.NOT_FOUND_WITH_ID, "Connector", id)
             ));
         
+        connector.markDeleted();  // Business method
+        registeredTableRepository.deleteByConnectorId(connectorId);
         connectorRepository.delete(connector);
+        publishEvents(connector);
     }
 
     /**
@@ -182,15 +209,109 @@ public class ConnectorApplicationService {
     }
 
     /**
-     * Get tables for a connector (delegates to domain service).
+     * Get all registered tables of a connector.
      */
+    @Transactional(readOnly = true)
     public List<TableMetadata> getTables(String id, String tenantId) {
+        Connector connector = findConnector(id, tenantId);
+        return registeredTableRepository.findByConnectorIdOrderByPosition(connector.getId()).stream()
+                .map(RegisteredTable::toMetadata)
+                .toList();
+    }
+
+    /**
+     * Get one page of a connector's registered tables, optionally filtered.
+     */
+    @Transactional(readOnly = true)
+    public TableMetadataPage getTables(String id, String tenantId, String search, MetadataVisibility visibility,
+                                       int page, int size) {
+        Connector connector = findConnector(id, tenantId);
+        int pageSize = Math.min(Math.max(size, 1), AppConstants.MAX_PAGE_SIZE);
+        List<TableMetadata> tables = registeredTableRepository
+                .findPage(connector.getId(), search, visibility, Math.max(page, 0), pageSize).stream()
+                .map(RegisteredTable::toMetadata)
+                .toList();
+        long total = registeredTableRepository.countMatching(connector.getId(), search, visibility);
+        return new TableMetadataPage(tables, total);
+    }
+
+    /**
+     * Get one registered table of a connector.
+     */
+    @Transactional(readOnly = true)
+    public TableMetadata getTable(String id, String tableName, String tenantId) {
+        Connector connector = findConnector(id, tenantId);
+        return findTable(connector, tableName).toMetadata();
+    }
+
+    /**
+     * Update the curated metadata of one registered table and, optionally, some of its columns.
+     * Only the listed columns are written.
+     */
+    @Transactional
+    public TableMetadata updateTableMetadata(String id, String tableName, UpdateTableMetadataRequest request,
+                                             String tenantId) {
+        Connector connector = findConnector(id, tenantId);
+        RegisteredTable table = findTable(connector, tableName);
+
+        table.updateDetails(request.getDisplayName(), request.getDescription(), request.getVisibility());
+        if (request.getColumns() != null) {
+            for (ColumnMetadataUpdate column : request.getColumns()) {
+                table.updateColumn(column);
+            }
+        }
+        TableMetadata updated = registeredTableRepository.save(table).toMetadata();
+        publishEvents(table);
+        return updated;
+    }
+
+    private Connector findConnector(String id, String tenantId) {
         ConnectorId connectorId = ConnectorId.from(id);
-        Connector connector = connectorRepository.findByIdAndTenantId(connectorId, tenantId)
+        return connectorRepository.findByIdAndTenantId(connectorId, tenantId)
             .orElseThrow(() -> new IllegalArgumentException(
                 String.format(ErrorMessages.NOT_FOUND_WITH_ID, "Connector", id)
             ));
-        
-        return connector.getRegisteredTables();
+    }
+
+    private void publishEvents(AggregateRoot<?> aggregate) {
+        aggregate.getDomainEvents().forEach(eventPublisher::publishEvent);
+        aggregate.clearDomainEvents();
+    }
+
+    private RegisteredTable findTable(Connector connector, String tableName) {
+        return registeredTableRepository.findByConnectorIdAndName(connector.getId(), tableName)
+            .orElseThrow(() -> new IllegalArgumentException(
+                String.format(ErrorMessages.REGISTERED_TABLE_NOT_FOUND, tableName)
+            ));
+    }
+
+    /**
+     * Makes the registered tables match the given list: existing tables are updated in
+     * place, missing ones removed and new ones added, keeping the list order.
+     */
+    private void replaceRegisteredTables(Connector connector, List<TableMetadata> tables) {
+        Map<String, RegisteredTable> existing = new HashMap<>();
+        registeredTableRepository.findByConnectorIdOrderByPosition(connector.getId())
+                .forEach(table -> existing.put(table.getName(), table));
+
+        Set<String> kept = new HashSet<>();
+        for (int position = 0; position < tables.size(); position++) {
+            TableMetadata metadata = tables.get(position);
+            if (!kept.add(metadata.getName())) {
+                throw new InvalidMetadataException("Duplicate registered table: " + metadata.getName());
+            }
+            RegisteredTable table = existing.get(metadata.getName());
+            if (table == null) {
+                table = RegisteredTable.create(connector.getId(), connector.getTenantId(), metadata, position);
+            } else {
+                table.replaceWith(metadata);
+                table.moveTo(position);
+            }
+            registeredTableRepository.save(table);
+            publishEvents(table);
+        }
+        existing.values().stream()
+                .filter(table -> !kept.contains(table.getName()))
+                .forEach(registeredTableRepository::delete);
     }
 }
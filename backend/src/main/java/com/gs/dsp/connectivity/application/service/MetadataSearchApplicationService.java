@@ -0,0 +1,144 @@
+package com.gs.dsp.connectivity.application.service;
+
+import com.gs.dsp.connectivity.domain.event.ConnectorSchemaChangedEvent;
+import com.gs.dsp.connectivity.domain.event.RegisteredTablesChangedEvent;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.RegisteredTable;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataSearchResult;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.shared.kernel.constants.AppConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Searches the registered tables and columns of all connectors of a tenant.
+ * <p>
+ * Each tenant has its own {@link MetadataSearchIndex}, built from the database on the
+ * tenant's first search. After that the index is kept current per connector: change events
+ * mark a connector dirty once their transaction commits, and the next search re-indexes only
+ * the dirty connectors before querying.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MetadataSearchApplicationService {
+
+    private final ConnectorRepository connectorRepository;
+    private final RegisteredTableRepository registeredTableRepository;
+    private final TransactionTemplate readTransaction;
+    private final Map<String, TenantPartition> partitions = new ConcurrentHashMap<>();
+
+    public MetadataSearchApplicationService(
+            ConnectorRepository connectorRepository,
+            RegisteredTableRepository registeredTableRepository,
+            PlatformTransactionManager transactionManager) {
+        this.connectorRepository = connectorRepository;
+        this.registeredTableRepository = registeredTableRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Search the tenant's table and column metadata.
+     *
+     * @param query Words to look for, e.g. {@code customer email}
+     * @param limit Maximum number of results, capped at {@link AppConstants#MAX_PAGE_SIZE}
+     */
+    public List<MetadataSearchResult> search(String tenantId, String query, int limit) {
+        TenantPartition partition = partitions.computeIfAbsent(tenantId, TenantPartition::new);
+        partition.refresh();
+        return partition.index.search(query, Math.min(Math.max(limit, 1), AppConstants.MAX_PAGE_SIZE));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegisteredTablesChanged(RegisteredTablesChangedEvent event) {
+        markDirty(event.getTenantId(), event.getConnectorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchemaChanged(ConnectorSchemaChangedEvent event) {
+        markDirty(event.getTenantId(), event.getConnectorId());
+    }
+
+    private void markDirty(String tenantId, UUID connectorId) {
+        // Tenants that have not searched yet are read in full on their first search
+        TenantPartition partition = partitions.get(tenantId);
+        if (partition != null) {
+            partition.dirty.add(connectorId);
+        }
+    }
+
+    private final class TenantPartition {
+
+        private final String tenantId;
+        private final MetadataSearchIndex index = new MetadataSearchIndex();
+        private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile boolean loaded;
+
+        TenantPartition(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        void refresh() {
+            if (loaded && dirty.isEmpty()) {
+                return;
+            }
+            refreshLock.lock();
+            try {
+                if (!loaded) {
+                    load();
+                    loaded = true;
+                }
+                // Clear each mark before reading, so a change committed meanwhile marks it again
+                for (UUID connectorId : new ArrayList<>(dirty)) {
+                    dirty.remove(connectorId);
+                    reindex(connectorId);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private void load() {
+            readTransaction.executeWithoutResult(status -> {
+                Map<ConnectorId, List<TableMetadata>> tables = new HashMap<>();
+                for (RegisteredTable table : registeredTableRepository.findByTenantIdOrderByPosition(tenantId)) {
+                    tables.computeIfAbsent(table.getConnectorId(), id -> new ArrayList<>()).add(table.toMetadata());
+                }
+                for (Connector connector : connectorRepository.findByTenantId(tenantId)) {
+                    index.index(connector.getId().getId(), connector.getName(),
+                            tables.getOrDefault(connector.getId(), List.of()));
+                }
+            });
+            log.debug("Indexed {} table(s) and column(s) of tenant {} for metadata search", index.size(), tenantId);
+        }
+
+        private void reindex(UUID connectorId) {
+            readTransaction.executeWithoutResult(status -> {
+                ConnectorId id = new ConnectorId(connectorId);
+                connectorRepository.findByIdAndTenantId(id, tenantId).ifPresentOrElse(
+                        connector -> index.index(connectorId, connector.getName(),
+                                registeredTableRepository.findByConnectorIdOrderByPosition(id).stream()
+                                        .map(RegisteredTable::toMetadata)
+                                        .toList()),
+                        () -> index.remove(connectorId));
+            });
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.gs.dsp.connectivity.application.service;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataSearchResult;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the registered table metadata of one tenant.
+ * <p>
+ * Every table and every column is a document. Names, display names and semantic types are
+ * split into lower-case words ({@code customer_email} and {@code customerEmail} both give
+ * {@code customer} and {@code email}), and each word is indexed whole, by its prefixes and by
+ * its trigrams. A query matches a document when every query word matches it as a word, as a
+ * word prefix or, failing both, by the weighted share of its trigrams, which catches infixes
+ * and small typos. Name matches weigh more than display-name and semantic-type matches, and a
+ * column's table name weighs least; a document whose name is exactly the query ranks first.
+ * </p>
+ * <p>
+ * Postings are primitive arrays and queries score into arrays indexed by document, so a
+ * search costs one pass over the postings of its words. Documents are grouped per connector
+ * so one connector can be re-indexed without touching the rest: its old documents are only
+ * marked removed, and the postings are compacted once removed entries outnumber live ones.
+ * The index is safe for concurrent use; searches share a read lock.
+ * </p>
+ */
+public final class MetadataSearchIndex {
+
+    private static final float NAME_WEIGHT = 1.0f;
+    private static final float DISPLAY_NAME_WEIGHT = 0.8f;
+    private static final float SEMANTIC_TYPE_WEIGHT = 0.6f;
+    private static final float TABLE_NAME_WEIGHT = 0.4f;
+
+    private static final float PREFIX_FACTOR = 0.7f;
+    private static final float TRIGRAM_FACTOR = 0.4f;
+    private static final float MIN_TRIGRAM_SHARE = 0.5f;
+    private static final float EXACT_NAME_BONUS = 1.0f;
+    private static final int MAX_PREFIX_LENGTH = 16;
+
+    private static final String WORD = "w:";
+    private static final String PREFIX = "p:";
+    private static final String TRIGRAM = "g:";
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(hit -> hit.document().columnName() != null)
+            .thenComparingInt(hit -> hit.document().name().length())
+            .thenComparing(hit -> hit.document().name())
+            .thenComparing(hit -> hit.document().tableName());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();  // by document id, null once removed
+    private final Map<UUID, int[]> documentsByConnector = new HashMap<>();
+    private int liveDocuments;
+    private long livePostings;
+    private long removedPostings;
+
+    /**
+     * Replaces everything indexed for a connector with the given tables and their columns.
+     */
+    public void index(UUID connectorId, String connectorName, List<TableMetadata> tables) {
+        lock.writeLock().lock();
+        try {
+            removeDocuments(connectorId);
+            List<Integer> ids = new ArrayList<>();
+            Map<String, Float> terms = new HashMap<>();
+            for (TableMetadata table : tables) {
+                terms.clear();
+                addField(terms, table.getName(), NAME_WEIGHT);
+                addField(terms, table.getDisplayName(), DISPLAY_NAME_WEIGHT);
+                ids.add(add(new Document(connectorId, connectorName, table.getName(), null,
+                        table.getDisplayName(), null, null, normalize(table.getName()), terms.size()), terms));
+
+                if (table.getColumns() == null) {
+                    continue;
+                }
+                for (ColumnMetadata column : table.getColumns()) {
+                    terms.clear();
+                    addField(terms, column.getName(), NAME_WEIGHT);
+                    addField(terms, column.getDisplayName(), DISPLAY_NAME_WEIGHT);
+                    if (column.getSemanticType() != null && column.getSemanticType() != SemanticType.UNKNOWN) {
+                        addField(terms, column.getSemanticType().name(), SEMANTIC_TYPE_WEIGHT);
+                    }
+                    addField(terms, table.getName(), TABLE_NAME_WEIGHT);
+                    ids.add(add(new Document(connectorId, connectorName, table.getName(), column.getName(),
+                            column.getDisplayName(), column.getSemanticType(), column.getDataType(),
+                            normalize(column.getName()), terms.size()), terms));
+                }
+            }
+            if (!ids.isEmpty()) {
+                documentsByConnector.put(connectorId, ids.stream().mapToInt(Integer::intValue).toArray());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes everything indexed for a connector.
+     */
+    public void remove(UUID connectorId) {
+        lock.writeLock().lock();
+        try {
+            removeDocuments(connectorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed tables and columns.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the tables and columns matching every word of the query, best first.
+     */
+    public List<MetadataSearchResult> search(String query, int limit) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String normalizedQuery = String.join(" ", words);
+
+        lock.readLock().lock();
+        try {
+            float[] scores = null;
+            for (String word : new LinkedHashSet<>(words)) {
+                float[] wordScores = match(word);
+                if (scores == null) {
+                    scores = wordScores;
+                } else {
+                    // A document stays a candidate only while every word matched it
+                    for (int id = 0; id < scores.length; id++) {
+                        scores[id] = scores[id] > 0 && wordScores[id] > 0 ? scores[id] + wordScores[id] : 0;
+                    }
+                }
+            }
+
+            // Keep the best `limit` hits in a heap whose head is the worst of them
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            for (int id = 0; id < scores.length; id++) {
+                Document document = documents.get(id);
+                if (scores[id] <= 0 || document == null) {
+                    continue;
+                }
+                float score = scores[id];
+                if (document.normalizedName().equals(normalizedQuery)) {
+                    score += EXACT_NAME_BONUS;
+                }
+                best.add(new Hit(document, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(best);
+            ranked.sort(RANKING);
+            return ranked.stream().map(Hit::toResult).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits a name into lower-case words at non-alphanumeric characters and camelCase humps.
+     */
+    static List<String> tokenize(String value) {
+        List<String> words = new ArrayList<>();
+        if (value == null) {
+            return words;
+        }
+        StringBuilder word = new StringBuilder();
+        char previous = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                flush(word, words);
+                previous = 0;
+                continue;
+            }
+            if (Character.isUpperCase(c) && (Character.isLowerCase(previous) || Character.isDigit(previous))) {
+                flush(word, words);
+            }
+            word.append(Character.toLowerCase(c));
+            previous = c;
+        }
+        flush(word, words);
+        return words;
+    }
+
+    private float[] match(String word) {
+        float[] scores = new float[documents.size()];
+        Posting exact = postings.get(WORD + word);
+        if (exact != null) {
+            exact.applyMax(scores, 1.0f);
+        }
+        Posting prefix = postings.get(PREFIX + word);
+        if (prefix != null) {
+            prefix.applyMax(scores, PREFIX_FACTOR);
+        }
+
+        Set<String> trigrams = trigrams(word);
+        if (!trigrams.isEmpty()) {
+            float[] shares = new float[scores.length];
+            for (String trigram : trigrams) {
+                Posting posting = postings.get(TRIGRAM + trigram);
+                if (posting != null) {
+                    posting.applySum(shares, 1.0f / trigrams.size());
+                }
+            }
+            for (int id = 0; id < scores.length; id++) {
+                if (shares[id] >= MIN_TRIGRAM_SHARE) {
+                    scores[id] = Math.max(scores[id], shares[id] * TRIGRAM_FACTOR);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private int add(Document document, Map<String, Float> terms) {
+        int id = documents.size();
+        documents.add(document);
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new Posting()).add(id, weight));
+        liveDocuments++;
+        livePostings += terms.size();
+        return id;
+    }
+
+    private void removeDocuments(UUID connectorId) {
+        int[] ids = documentsByConnector.remove(connectorId);
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            Document document = documents.set(id, null);
+            liveDocuments--;
+            livePostings -= document.termCount();
+            removedPostings += document.termCount();
+        }
+        if (removedPostings > livePostings) {
+            compact();
+        }
+    }
+
+    /**
+     * Drops removed documents from the postings and renumbers the rest densely.
+     */
+    private void compact() {
+        int[] newIds = new int[documents.size()];
+        List<Document> live = new ArrayList<>(liveDocuments);
+        for (int id = 0; id < documents.size(); id++) {
+            Document document = documents.get(id);
+            newIds[id] = document == null ? -1 : live.size();
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        documents.clear();
+        documents.addAll(live);
+        documentsByConnector.replaceAll((connectorId, ids) ->
+                Arrays.stream(ids).map(id -> newIds[id]).toArray());
+
+        Iterator<Posting> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Posting posting = iterator.next();
+            posting.renumber(newIds);
+            if (posting.size == 0) {
+                iterator.remove();
+            }
+        }
+        removedPostings = 0;
+    }
+
+    private static void addField(Map<String, Float> terms, String value, float weight) {
+        for (String word : tokenize(value)) {
+            terms.merge(WORD + word, weight, Math::max);
+            for (int length = 2; length < word.length() && length <= MAX_PREFIX_LENGTH; length++) {
+                terms.merge(PREFIX + word.substring(0, length), weight, Math::max);
+            }
+            // A field that weighs less than the trigram threshold can never pass it alone
+            if (weight >= MIN_TRIGRAM_SHARE) {
+                for (String trigram : trigrams(word)) {
+                    terms.merge(TRIGRAM + trigram, weight, Math::max);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String word) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            trigrams.add(word.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String name) {
+        return String.join(" ", tokenize(name));
+    }
+
+    private static void flush(StringBuilder word, List<String> words) {
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    /**
+     * Documents containing one term, with the weight of the best field it appears in.
+     */
+    private static final class Posting {
+
+        private int[] ids = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int id, float weight) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ids[size] = id;
+            weights[size] = weight;
+            size++;
+        }
+
+        void applyMax(float[] scores, float factor) {
+            for (int i = 0; i < size; i++) {
+                scores[ids[i]] = Math.max(scores[ids[i]], weights[i] * factor);
+            }
+        }
+
+        void applySum(float[] scores, float factor) {
+            for (int i = 0; i < size; i++) {
+                scores[ids[i]] += weights[i] * factor;
+            }
+        }
+
+        void renumber(int[] newIds) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int id = newIds[ids[i]];
+                if (id >= 0) {
+                    ids[kept] = id;
+                    weights[kept] = weights[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, Math.max(size, 4));
+                weights = Arrays.copyOf(weights, Math.max(size, 4));
+            }
+        }
+    }
+
+    private record Document(UUID connectorId, String connectorName, String tableName, String columnName,
+                            String displayName, SemanticType semanticType, String dataType,
+                            String normalizedName, int termCount) {
+
+        String name() {
+            return columnName != null ? columnName : tableName;
+        }
+    }
+
+    private record Hit(Document document, float score) {
+
+        MetadataSearchResult toResult() {
+            return new MetadataSearchResult(document.connectorId(), document.connectorName(), document.tableName(),
+                    document.columnName(), document.displayName(), document.semanticType(), document.dataType(),
+                    score);
+        }
+    }
+}
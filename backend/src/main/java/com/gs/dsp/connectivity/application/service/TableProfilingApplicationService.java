@@ -0,0 +1,205 @@
+package com.gs.dsp.connectivity.application.service;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorStatus;
+import com.gs.dsp.connectivity.domain.model.RegisteredColumn;
+import com.gs.dsp.connectivity.domain.model.RegisteredTable;
+import com.gs.dsp.connectivity.domain.model.RegisteredTableId;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
+import com.gs.dsp.connectivity.domain.service.MaskedColumnResolver;
+import com.gs.dsp.connectivity.domain.service.MetadataInferenceService;
+import com.gs.dsp.connectivity.domain.service.TableProfiler;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.shared.kernel.constants.ErrorMessages;
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application Service for profiling the values of registered tables.
+ * <p>
+ * A table is profiled on demand, or by the scheduled job once its profile is older than
+ * {@code profiling.max-age-ms}; each tick profiles at most {@code profiling.tables-per-tick}
+ * tables, least recently profiled first. The sample is read outside any transaction, and
+ * the resulting column profiles are then stored in a short one. Generic semantic types are
+ * refined from the values, e.g. a text column holding email addresses becomes EMAIL.
+ * Columns masked by an endpoint keep their counts but not their sampled values.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TableProfilingApplicationService {
+
+    private final ConnectorRepository connectorRepository;
+    private final RegisteredTableRepository registeredTableRepository;
+    private final TableProfiler tableProfiler;
+    private final MetadataInferenceService metadataInferenceService;
+    private final MaskedColumnResolver maskedColumnResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long maxAgeMs;
+    private final int tablesPerTick;
+
+    /** Tables whose last scheduled run failed, with the time before which they are skipped. */
+    private final Map<RegisteredTableId, LocalDateTime> retryAfter = new ConcurrentHashMap<>();
+
+    public TableProfilingApplicationService(
+            ConnectorRepository connectorRepository,
+            RegisteredTableRepository registeredTableRepository,
+            TableProfiler tableProfiler,
+            MetadataInferenceService metadataInferenceService,
+            MaskedColumnResolver maskedColumnResolver,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${profiling.enabled:true}") boolean enabled,
+            @Value("${profiling.max-age-ms:86400000}") long maxAgeMs,
+            @Value("${profiling.tables-per-tick:5}") int tablesPerTick) {
+        if (maxAgeMs <= 0 || tablesPerTick <= 0) {
+            throw new IllegalArgumentException("Invalid profiling settings");
+        }
+        this.connectorRepository = connectorRepository;
+        this.registeredTableRepository = registeredTableRepository;
+        this.tableProfiler = tableProfiler;
+        this.metadataInferenceService = metadataInferenceService;
+        this.maskedColumnResolver = maskedColumnResolver;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAgeMs = maxAgeMs;
+        this.tablesPerTick = tablesPerTick;
+    }
+
+    /**
+     * Profile one registered table now.
+     *
+     * @return The table with its new column profiles
+     */
+    public TableMetadata profileTable(String id, String tableName, String tenantId) {
+        ConnectorId connectorId = ConnectorId.from(id);
+        Connector connector = connectorRepository.findByIdAndTenantId(connectorId, tenantId)
+            .orElseThrow(() -> new IllegalArgumentException(
+                String.format(ErrorMessages.NOT_FOUND_WITH_ID, "Connector", id)
+            ));
+        if (connector.getStatus() != ConnectorStatus.APPROVED || !connector.isActive()) {
+            throw new IllegalStateException("Only approved, active connectors can be profiled");
+        }
+        RegisteredTableId tableId = registeredTableRepository.findByConnectorIdAndName(connectorId, tableName)
+            .map(RegisteredTable::getId)
+            .orElseThrow(() -> new IllegalArgumentException(
+                String.format(ErrorMessages.REGISTERED_TABLE_NOT_FOUND, tableName)
+            ));
+        return profile(connector, tableId);
+    }
+
+    /**
+     * Profiles the registered tables of approved, active connectors whose profile is missing
+     * or older than the maximum age.
+     */
+    @Scheduled(fixedDelayString = "${profiling.tick-ms:300000}")
+    public void profileStaleTables() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusNanos(maxAgeMs * 1_000_000);
+        retryAfter.values().removeIf(until -> until.isBefore(now));
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Connector connector : connectorRepository.findByStatus(ConnectorStatus.APPROVED)) {
+            if (!connector.isActive()) {
+                continue;
+            }
+            for (RegisteredTable table : registeredTableRepository.findByConnectorIdOrderByPosition(connector.getId())) {
+                boolean stale = table.getProfiledAt() == null || table.getProfiledAt().isBefore(staleBefore);
+                if (stale && !retryAfter.containsKey(table.getId())) {
+                    candidates.add(new Candidate(connector, table.getId(), table.getProfiledAt()));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparing(Candidate::profiledAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        for (Candidate candidate : candidates.subList(0, Math.min(tablesPerTick, candidates.size()))) {
+            try {
+                profile(candidate.connector(), candidate.tableId());
+            } catch (ConnectorUnavailableException e) {
+                log.debug("Skipping profiling, connector {} is unavailable", candidate.connector().getIdValue());
+            } catch (Exception e) {
+                log.warn("Profiling failed for table {} of connector {}: {}",
+                        candidate.tableId().getId(), candidate.connector().getIdValue(), e.getMessage());
+                retryAfter.put(candidate.tableId(), now.plusNanos(maxAgeMs * 1_000_000));
+            }
+        }
+    }
+
+    private TableMetadata profile(Connector connector, RegisteredTableId tableId) {
+        TableMetadata metadata = transactionTemplate.execute(status ->
+                registeredTableRepository.findById(tableId).map(RegisteredTable::toMetadata).orElse(null));
+        if (metadata == null) {
+            throw new IllegalArgumentException(String.format(ErrorMessages.REGISTERED_TABLE_NOT_FOUND, tableId.getId()));
+        }
+
+        Map<String, ColumnProfile> profiles = tableProfiler.profile(connector, metadata);
+        LocalDateTime profiledAt = LocalDateTime.now();
+        // Stored profiles are served as metadata, so masked values must not end up in them
+        Set<String> masked = maskedColumnResolver.maskedColumns(connector);
+
+        // Re-read so edits saved while the sample was read are kept
+        TableMetadata profiled = transactionTemplate.execute(status -> {
+            RegisteredTable table = registeredTableRepository.findById(tableId).orElse(null);
+            if (table == null) {
+                return null;
+            }
+            for (RegisteredColumn column : List.copyOf(table.getColumns())) {
+                ColumnProfile profile = profiles.get(column.getName());
+                if (profile == null) {
+                    continue;
+                }
+                if (masked.contains(column.getName().toLowerCase(Locale.ROOT))) {
+                    profile = profile.withoutValues();
+                }
+                SemanticType semanticType = metadataInferenceService.refineSemanticType(column.getSemanticType(), profile);
+                Map<String, Object> formatting = column.getFormatting();
+                // Formatting follows a refined type unless it was edited away from the old type's default
+                if (semanticType != column.getSemanticType()
+                        && (formatting == null || Objects.equals(formatting,
+                                metadataInferenceService.inferFormatting(column.getSemanticType())))) {
+                    formatting = metadataInferenceService.inferFormatting(semanticType);
+                }
+                table.recordProfile(column.getName(), profile, semanticType, formatting);
+            }
+            table.markProfiled(profiledAt);
+            TableMetadata saved = registeredTableRepository.save(table).toMetadata();
+            table.getDomainEvents().forEach(eventPublisher::publishEvent);
+            table.clearDomainEvents();
+            return saved;
+        });
+        if (profiled == null) {
+            throw new IllegalArgumentException(String.format(ErrorMessages.REGISTERED_TABLE_NOT_FOUND, tableId.getId()));
+        }
+        log.debug("Profiled {} column(s) of table {}", profiles.size(), profiled.getName());
+        return profiled;
+    }
+
+    private record Candidate(Connector connector, RegisteredTableId tableId, LocalDateTime profiledAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.gs.dsp.connectivity.domain.event;
+
+import com.gs.dsp.shared.domain.model.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Raised when the connection details or the status of a connector change, or when the
+ * connector is deleted, so resources opened with the old details can be released.
+ */
+public final class ConnectorChangedEvent implements DomainEvent {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final LocalDateTime occurredOn = LocalDateTime.now();
+    private final UUID connectorId;
+    private final String tenantId;
+
+    public ConnectorChangedEvent(UUID connectorId, String tenantId) {
+        this.connectorId = connectorId;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String getEventType() {
+        return "ConnectorChanged";
+    }
+
+    public UUID getConnectorId() {
+        return connectorId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+}
@@ -0,0 +1,56 @@
+package com.gs.dsp.connectivity.domain.event;
+
+import com.gs.dsp.shared.domain.model.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Raised when a metadata sync finds that registered tables of a connector changed
+ * (columns added, removed or retyped, or the table dropped) in the source database.
+ */
+public final class ConnectorSchemaChangedEvent implements DomainEvent {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final LocalDateTime occurredOn = LocalDateTime.now();
+    private final UUID connectorId;
+    private final String tenantId;
+    private final Set<String> changedTables;
+
+    public ConnectorSchemaChangedEvent(UUID connectorId, String tenantId, Set<String> changedTables) {
+        this.connectorId = connectorId;
+        this.tenantId = tenantId;
+        this.changedTables = Set.copyOf(changedTables);
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String getEventType() {
+        return "ConnectorSchemaChanged";
+    }
+
+    public UUID getConnectorId() {
+        return connectorId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Names of the registered tables that changed, as stored in the connector metadata.
+     */
+    public Set<String> getChangedTables() {
+        return changedTables;
+    }
+}
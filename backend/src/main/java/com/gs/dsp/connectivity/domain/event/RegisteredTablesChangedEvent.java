@@ -0,0 +1,46 @@
+package com.gs.dsp.connectivity.domain.event;
+
+import com.gs.dsp.shared.domain.model.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Raised when the registered tables of a connector, or their curated metadata, are edited,
+ * or when the connector itself is renamed or deleted.
+ */
+public final class RegisteredTablesChangedEvent implements DomainEvent {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final LocalDateTime occurredOn = LocalDateTime.now();
+    private final UUID connectorId;
+    private final String tenantId;
+
+    public RegisteredTablesChangedEvent(UUID connectorId, String tenantId) {
+        this.connectorId = connectorId;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String getEventType() {
+        return "RegisteredTablesChanged";
+    }
+
+    public UUID getConnectorId() {
+        return connectorId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+}
@@ -1,16 +1,16 @@
 package com.gs.dsp.connectivity.domain.model;
 
-import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.connectivity.domain.event.ConnectorChangedEvent;
+import com.gs.dsp.connectivity.domain.event.ConnectorSchemaChangedEvent;
+import com.gs.dsp.connectivity.domain.event.RegisteredTablesChangedEvent;
 import com.gs.dsp.shared.domain.model.AggregateRoot;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Set;
 
 /**
  * Connector Aggregate Root.
@@ -45,9 +45,11 @@ public class Connector extends AggregateRoot<ConnectorId> {
     @Column(name = "is_active")
     private boolean isActive;
     
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(columnDefinition = "jsonb")
-    private List<TableMetadata> registeredTables;
+    @Column(name = "schema_fingerprint", length = 64)
+    private String schemaFingerprint;
+    
+    @Column(name = "metadata_synced_at")
+    private LocalDateTime metadataSyncedAt;
     
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
@@ -90,6 +92,7 @@ public class Connector extends AggregateRoot<ConnectorId> {
         }
         this.status = ConnectorStatus.APPROVED;
         this.isActive = true;
+        registerEvent(new ConnectorChangedEvent(id.getId(), tenantId));
     }
 
     // Business method: Reject connector
@@ -99,14 +102,14 @@ public class Connector extends AggregateRoot<ConnectorId> {
         }
         this.status = ConnectorStatus.REJECTED;
         this.isActive = false;
+        registerEvent(new ConnectorChangedEvent(id.getId(), tenantId));
     }
 
     // Business method: Update connector details
     public void updateDetails(
             String name,
             ConnectorType type,
-            ConnectionConfig config,
-            List<TableMetadata> registeredTables) {
+            ConnectionConfig config) {
         
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Connector name cannot be blank");
@@ -115,7 +118,9 @@ public class Connector extends AggregateRoot<ConnectorId> {
         this.name = name;
         this.type = type;
         this.config = config;
-        this.registeredTables = registeredTables;
+        registerEvent(new ConnectorChangedEvent(id.getId(), tenantId));
+        // The connector name is part of its tables' metadata
+        registerEvent(new RegisteredTablesChangedEvent(id.getId(), tenantId));
     }
 
     // Business method: Activate connector
@@ -124,16 +129,34 @@ public class Connector extends AggregateRoot<ConnectorId> {
             throw new IllegalStateException("Can only activate approved connectors");
         }
         this.isActive = true;
+        registerEvent(new ConnectorChangedEvent(id.getId(), tenantId));
     }
 
     // Business method: Deactivate connector
     public void deactivate() {
         this.isActive = false;
+        registerEvent(new ConnectorChangedEvent(id.getId(), tenantId));
+    }
+
+    // Business method: Record that the connector is being deleted
+    public void markDeleted() {
+        this.isActive = false;
+        registerEvent(new ConnectorChangedEvent(id.getId(), tenantId));
+        registerEvent(new RegisteredTablesChangedEvent(id.getId(), tenantId));
+    }
+
+    // Business method: Record a metadata sync that found no changes
+    public void markMetadataSynced(String fingerprint, LocalDateTime syncedAt) {
+        this.schemaFingerprint = fingerprint;
+        this.metadataSyncedAt = syncedAt;
     }
 
-    // Business method: Update registered tables
-    public void updateRegisteredTables(List<TableMetadata> tables) {
-        this.registeredTables = tables;
+    // Business method: Record a metadata sync that changed some registered tables
+    public void applyMetadataSync(Set<String> changedTables, String fingerprint, LocalDateTime syncedAt) {
+        markMetadataSynced(fingerprint, syncedAt);
+        if (!changedTables.isEmpty()) {
+            registerEvent(new ConnectorSchemaChangedEvent(id.getId(), tenantId, changedTables));
+        }
     }
 
     // Getter for ID value
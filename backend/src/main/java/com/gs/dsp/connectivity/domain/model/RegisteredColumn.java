@@ -0,0 +1,140 @@
+package com.gs.dsp.connectivity.domain.model;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.shared.domain.model.ValueObject;
+import com.gs.dsp.shared.kernel.exception.InvalidMetadataException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Value Object holding the metadata of one column of a registered table.
+ * Structure (name, data type, keys) comes from the source; the rest is curated.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor  // For JPA
+public class RegisteredColumn implements ValueObject, Serializable {
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "display_name")
+    private String displayName;
+
+    @Column(name = "data_type")
+    private String dataType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "semantic_type")
+    private SemanticType semanticType;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private MetadataVisibility visibility;
+
+    @Column(name = "is_primary_key")
+    private boolean primaryKey;
+
+    @Column(name = "is_foreign_key")
+    private boolean foreignKey;
+
+    @Column(name = "foreign_key_target")
+    private String foreignKeyTarget;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> formatting;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private ColumnProfile profile;
+
+    public static RegisteredColumn from(ColumnMetadata metadata) {
+        if (metadata.getName() == null || metadata.getName().isBlank()) {
+            throw new InvalidMetadataException("Column name cannot be blank");
+        }
+        RegisteredColumn column = new RegisteredColumn();
+        column.name = metadata.getName();
+        column.displayName = metadata.getDisplayName();
+        column.dataType = metadata.getDataType();
+        column.semanticType = metadata.getSemanticType();
+        column.description = metadata.getDescription();
+        column.visibility = metadata.getVisibility();
+        column.primaryKey = metadata.isPrimaryKey();
+        column.foreignKey = metadata.isForeignKey();
+        column.foreignKeyTarget = metadata.getForeignKeyTarget();
+        column.formatting = metadata.getFormatting() != null ? new HashMap<>(metadata.getFormatting()) : null;
+        column.profile = metadata.getProfile();
+        return column;
+    }
+
+    /**
+     * Copy with the given curated fields replaced; null arguments keep the current value.
+     */
+    public RegisteredColumn withCuration(String displayName, String description, SemanticType semanticType,
+                                         MetadataVisibility visibility, Map<String, Object> formatting) {
+        RegisteredColumn column = from(toMetadata());
+        if (displayName != null) {
+            column.displayName = displayName;
+        }
+        if (description != null) {
+            column.description = description;
+        }
+        if (semanticType != null) {
+            column.semanticType = semanticType;
+        }
+        if (visibility != null) {
+            column.visibility = visibility;
+        }
+        if (formatting != null) {
+            column.formatting = new HashMap<>(formatting);
+        }
+        return column;
+    }
+
+    /**
+     * Copy with new value statistics and the semantic type and formatting they suggest.
+     */
+    public RegisteredColumn withProfile(ColumnProfile profile, SemanticType semanticType,
+                                        Map<String, Object> formatting) {
+        RegisteredColumn column = from(toMetadata());
+        column.profile = profile;
+        column.semanticType = semanticType;
+        column.formatting = formatting != null ? new HashMap<>(formatting) : null;
+        return column;
+    }
+
+    public ColumnMetadata toMetadata() {
+        ColumnMetadata metadata = new ColumnMetadata(name, dataType);
+        metadata.setDisplayName(displayName);
+        if (semanticType != null) {
+            metadata.setSemanticType(semanticType);
+        }
+        metadata.setDescription(description);
+        if (visibility != null) {
+            metadata.setVisibility(visibility);
+        }
+        metadata.setPrimaryKey(primaryKey);
+        metadata.setForeignKey(foreignKey);
+        metadata.setForeignKeyTarget(foreignKeyTarget);
+        metadata.setFormatting(formatting != null ? new HashMap<>(formatting) : null);
+        metadata.setProfile(profile);
+        return metadata;
+    }
+}
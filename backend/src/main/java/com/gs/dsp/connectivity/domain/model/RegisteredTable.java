@@ -0,0 +1,177 @@
+package com.gs.dsp.connectivity.domain.model;
+
+import com.gs.dsp.connectivity.domain.event.RegisteredTablesChangedEvent;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadataUpdate;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.shared.domain.model.AggregateRoot;
+import com.gs.dsp.shared.kernel.exception.InvalidMetadataException;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RegisteredTable Aggregate Root.
+ * A table of a connector's source that has been registered for use, with its curated
+ * metadata. Columns are stored one row each so single columns can be updated in place.
+ */
+@Entity
+@Table(name = "registered_tables",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"connector_id", "name"}))
+@Getter
+@NoArgsConstructor  // For JPA only
+public class RegisteredTable extends AggregateRoot<RegisteredTableId> {
+
+    @EmbeddedId
+    @AttributeOverride(name = "id", column = @Column(name = "id"))
+    private RegisteredTableId id;
+
+    @Embedded
+    @AttributeOverride(name = "id", column = @Column(name = "connector_id", nullable = false))
+    private ConnectorId connectorId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "display_name")
+    private String displayName;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private MetadataVisibility visibility;
+
+    @Column(length = 64)
+    private String fingerprint;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "profiled_at")
+    private LocalDateTime profiledAt;
+
+    @Column(nullable = false)
+    private int position;
+
+    @ElementCollection
+    @CollectionTable(name = "registered_columns", joinColumns = @JoinColumn(name = "table_id"))
+    @OrderColumn(name = "position")
+    @BatchSize(size = 50)
+    private List<RegisteredColumn> columns = new ArrayList<>();
+
+    // Factory method
+    public static RegisteredTable create(ConnectorId connectorId, String tenantId, TableMetadata metadata, int position) {
+        if (metadata.getName() == null || metadata.getName().isBlank()) {
+            throw new InvalidMetadataException("Table name cannot be blank");
+        }
+        RegisteredTable table = new RegisteredTable();
+        table.id = RegisteredTableId.generate();
+        table.connectorId = connectorId;
+        table.tenantId = tenantId;
+        table.name = metadata.getName();
+        table.position = position;
+        table.replaceWith(metadata);
+        return table;
+    }
+
+    // Business method: Replace structure and curated metadata from a full description
+    public void replaceWith(TableMetadata metadata) {
+        this.displayName = metadata.getDisplayName();
+        this.description = metadata.getDescription();
+        this.visibility = metadata.getVisibility();
+        this.fingerprint = metadata.getFingerprint();
+        this.lastSyncedAt = metadata.getLastSyncedAt();
+        this.profiledAt = metadata.getProfiledAt();
+        this.columns.clear();
+        if (metadata.getColumns() != null) {
+            metadata.getColumns().forEach(column -> this.columns.add(RegisteredColumn.from(column)));
+        }
+        registerChanged();
+    }
+
+    // Business method: Update curated table fields; null arguments keep the current value
+    public void updateDetails(String displayName, String description, MetadataVisibility visibility) {
+        if (displayName != null) {
+            this.displayName = displayName;
+        }
+        if (description != null) {
+            this.description = description;
+        }
+        if (visibility != null) {
+            this.visibility = visibility;
+        }
+        registerChanged();
+    }
+
+    // Business method: Update curated fields of one column, leaving the others untouched
+    public void updateColumn(ColumnMetadataUpdate update) {
+        for (int i = 0; i < columns.size(); i++) {
+            RegisteredColumn column = columns.get(i);
+            if (column.getName().equals(update.getName())) {
+                columns.set(i, column.withCuration(update.getDisplayName(), update.getDescription(),
+                        update.getSemanticType(), update.getVisibility(), update.getFormatting()));
+                registerChanged();
+                return;
+            }
+        }
+        throw new InvalidMetadataException("Unknown column " + update.getName() + " in table " + name);
+    }
+
+    // Business method: Record new value statistics of one column and the type they suggest
+    public void recordProfile(String columnName, ColumnProfile profile, SemanticType semanticType,
+                              Map<String, Object> formatting) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(columnName)) {
+                columns.set(i, columns.get(i).withProfile(profile, semanticType, formatting));
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column " + columnName + " in table " + name);
+    }
+
+    // Business method: Mark the table as profiled
+    public void markProfiled(LocalDateTime profiledAt) {
+        this.profiledAt = profiledAt;
+        registerChanged();
+    }
+
+    // Business method: Move the table in the connector's ordering
+    public void moveTo(int position) {
+        this.position = position;
+        registerChanged();
+    }
+
+    private void registerChanged() {
+        // One event per unit of work is enough for listeners to refresh the connector
+        if (getDomainEvents().stream().noneMatch(RegisteredTablesChangedEvent.class::isInstance)) {
+            registerEvent(new RegisteredTablesChangedEvent(connectorId.getId(), tenantId));
+        }
+    }
+
+    public TableMetadata toMetadata() {
+        List<ColumnMetadata> columnMetadata = new ArrayList<>(columns.size());
+        columns.forEach(column -> columnMetadata.add(column.toMetadata()));
+        TableMetadata metadata = new TableMetadata(name, columnMetadata);
+        metadata.setDisplayName(displayName);
+        metadata.setDescription(description);
+        if (visibility != null) {
+            metadata.setVisibility(visibility);
+        }
+        metadata.setFingerprint(fingerprint);
+        metadata.setLastSyncedAt(lastSyncedAt);
+        metadata.setProfiledAt(profiledAt);
+        return metadata;
+    }
+}
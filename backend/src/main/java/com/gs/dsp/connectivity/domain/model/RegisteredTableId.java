@@ -0,0 +1,41 @@
+package com.gs.dsp.connectivity.domain.model;
+
+import com.gs.dsp.shared.domain.model.ValueObject;
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Value Object representing a registered table's unique identifier.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor  // For JPA
+public class RegisteredTableId implements ValueObject, Serializable {
+
+    private UUID id;
+
+    public RegisteredTableId(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Registered table ID cannot be null");
+        }
+        this.id = id;
+    }
+
+    /**
+     * Generate a new random RegisteredTableId.
+     */
+    public static RegisteredTableId generate() {
+        return new RegisteredTableId(UUID.randomUUID());
+    }
+
+    @Override
+    public String toString() {
+        return id.toString();
+    }
+}
@@ -2,6 +2,7 @@ package com.gs.dsp.connectivity.domain.repository;
 
 import com.gs.dsp.connectivity.domain.model.Connector;
 import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorStatus;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,11 @@ public interface ConnectorRepository {
      */
     Optional<Connector> findByIdAndTenantId(ConnectorId id, String tenantId);
     
+    /**
+     * Find all connectors in the given approval status.
+     */
+    List<Connector> findByStatus(ConnectorStatus status);
+    
     /**
      * Save connector (create or update).
      */
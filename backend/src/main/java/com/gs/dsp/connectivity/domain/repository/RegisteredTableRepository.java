@@ -0,0 +1,72 @@
+package com.gs.dsp.connectivity.domain.repository;
+
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.RegisteredTable;
+import com.gs.dsp.connectivity.domain.model.RegisteredTableId;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Domain repository interface for RegisteredTable aggregate.
+ * This is a pure domain interface, not tied to any persistence framework.
+ */
+public interface RegisteredTableRepository {
+
+    /**
+     * Find registered table by ID.
+     */
+    Optional<RegisteredTable> findById(RegisteredTableId id);
+
+    /**
+     * Find all registered tables of a connector, in registration order.
+     */
+    List<RegisteredTable> findByConnectorIdOrderByPosition(ConnectorId connectorId);
+
+    /**
+     * Find all registered tables of a tenant, across its connectors.
+     */
+    List<RegisteredTable> findByTenantIdOrderByPosition(String tenantId);
+
+    /**
+     * Find one registered table of a connector by name.
+     */
+    Optional<RegisteredTable> findByConnectorIdAndName(ConnectorId connectorId, String name);
+
+    /**
+     * Find one page of a connector's registered tables, in registration order.
+     *
+     * @param search     Case-insensitive substring of the table name, or null for all
+     * @param visibility Only tables with this visibility, or null for all
+     * @param page       Page number (0-indexed)
+     * @param size       Page size
+     */
+    List<RegisteredTable> findPage(ConnectorId connectorId, String search, MetadataVisibility visibility,
+                                   int page, int size);
+
+    /**
+     * Count the registered tables matching the same filters as {@link #findPage}.
+     */
+    long countMatching(ConnectorId connectorId, String search, MetadataVisibility visibility);
+
+    /**
+     * Count all registered tables of a connector.
+     */
+    long countByConnectorId(ConnectorId connectorId);
+
+    /**
+     * Save registered table (create or update).
+     */
+    RegisteredTable save(RegisteredTable table);
+
+    /**
+     * Delete registered table.
+     */
+    void delete(RegisteredTable table);
+
+    /**
+     * Delete all registered tables of a connector.
+     */
+    void deleteByConnectorId(ConnectorId connectorId);
+}
@@ -0,0 +1,21 @@
+package com.gs.dsp.connectivity.domain.service;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+
+import java.util.Set;
+
+/**
+ * Domain Service interface for finding the columns of a connector whose values are masked
+ * when served. This is a Port in Hexagonal Architecture; the adapter reads the masking
+ * settings of the connector's data endpoints.
+ */
+public interface MaskedColumnResolver {
+
+    /**
+     * Names of the columns masked by any endpoint of the connector.
+     *
+     * @param connector The connector the endpoints read from
+     * @return Lower-case column names
+     */
+    Set<String> maskedColumns(Connector connector);
+}
@@ -1,19 +1,48 @@
 package com.gs.dsp.connectivity.domain.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gs.dsp.connectivity.domain.service.inference.SemanticTypeClassifier;
+import com.gs.dsp.connectivity.domain.service.inference.SemanticTypeRule;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Domain Service for intelligent metadata inference from database schema information.
  * Automatically infers semantic types, generates display names, and suggests formatting.
  * 
+ * Semantic types come from a rule table compiled once into a single multi-keyword
+ * matcher (see {@link SemanticTypeClassifier}); results are memoized per
+ * (column name, data type) and per display name, since wide schemas repeat the same
+ * columns across many tables.
+ * 
  * NOTE: This is a pure Domain Service (framework-agnostic). It is registered as a
  * Spring bean via ConnectivityDomainConfig in the infrastructure layer.
  */
 public class MetadataInferenceService {
 
+    private static final long DEFAULT_MEMO_SIZE = 100_000;
+
+    private final SemanticTypeClassifier classifier;
+    private final Cache<ColumnKey, SemanticType> semanticTypeMemo;
+    private final Cache<String, String> displayNameMemo;
+
+    public MetadataInferenceService() {
+        this(SemanticTypeClassifier.DEFAULT_RULES, DEFAULT_MEMO_SIZE);
+    }
+
+    public MetadataInferenceService(List<SemanticTypeRule> rules, long memoSize) {
+        this.classifier = new SemanticTypeClassifier(rules);
+        this.semanticTypeMemo = Caffeine.newBuilder().maximumSize(memoSize).build();
+        this.displayNameMemo = Caffeine.newBuilder().maximumSize(memoSize).build();
+    }
+
     /**
      * Infers the semantic type of a column based on its name and database data type.
      * 
@@ -30,84 +59,40 @@ public class MetadataInferenceService {
         if (columnName == null || dataType == null) {
             return SemanticType.UNKNOWN;
         }
+        return semanticTypeMemo.get(new ColumnKey(columnName, dataType),
+                key -> classifier.classify(columnName.toLowerCase(), dataType.toLowerCase()));
+    }
 
-        String lowerColumnName = columnName.toLowerCase();
-        String lowerDataType = dataType.toLowerCase();
-
-        // Priority 1: Database type exact patterns
-        if (lowerDataType.contains("uuid")) {
-            return SemanticType.UUID;
-        }
-        if (lowerDataType.contains("boolean") || lowerDataType.equals("bool")) {
-            return SemanticType.BOOLEAN;
-        }
-        if (lowerDataType.contains("timestamp")) {
-            return SemanticType.TIMESTAMP;
-        }
-        
-        // Check DATE/DATETIME/TIME datatype BEFORE column name patterns
-        if (lowerDataType.contains("datetime")) {
-            return SemanticType.DATETIME;
-        }
-        if (lowerDataType.contains("date") && !lowerDataType.contains("time")) {
-            return SemanticType.DATE;
-        }
-        if (lowerDataType.equals("time") || (lowerDataType.contains("time") && !lowerDataType.contains("stamp") && !lowerDataType.contains("date"))) {
-            return SemanticType.TIME;
-        }
-
-        // Priority 2: Column name patterns (more specific first)
-        if (lowerColumnName.matches(".*email.*")) {
-            return SemanticType.EMAIL;
-        }
-        // Check IMAGE patterns BEFORE URL patterns (more specific)
-        if (lowerColumnName.matches(".*(image|img|photo|picture).*")) {
-            return SemanticType.IMAGE_URL;
-        }
-        if (lowerColumnName.matches(".*(url|link).*")) {
-            return SemanticType.URL;
-        }
-        if (lowerColumnName.matches(".*(price|amount|cost|total|subtotal|fee).*")) {
-            return SemanticType.CURRENCY;
-        }
-        if (lowerColumnName.matches(".*(status|state).*")) {
-            return SemanticType.STATUS;
-        }
-        if (lowerColumnName.matches(".*(category|type|kind).*")) {
-            return SemanticType.CATEGORY;
-        }
-        
-        // Date/time column name patterns (after datatype checks)
-        // Note: _date pattern here will only match if datatype is NOT 'date' (checked earlier)
-        if (lowerColumnName.matches(".*(_at|_date|created|updated|modified|deleted)$")) {
-            return SemanticType.DATETIME;
-        }
-        
-        // Geography patterns
-        if (lowerColumnName.matches(".*(city).*")) {
-            return SemanticType.CITY;
-        }
-        if (lowerColumnName.matches(".*(country|nation).*")) {
-            return SemanticType.COUNTRY;
-        }
-        if (lowerColumnName.matches(".*(latitude|lat)$")) {
-            return SemanticType.LATITUDE;
-        }
-        if (lowerColumnName.matches(".*(longitude|lon|lng)$")) {
-            return SemanticType.LONGITUDE;
+    /**
+     * Refines a semantic type with what the column's sampled values look like, e.g. a
+     * {@code contact} text column whose values are email addresses becomes EMAIL.
+     * Only generic types (UNKNOWN, TEXT) are replaced, so specific name-based and
+     * curated types are kept.
+     *
+     * @param current The column's current semantic type
+     * @param profile The column's value profile, may be null
+     * @return The refined semantic type
+     */
+    public SemanticType refineSemanticType(SemanticType current, ColumnProfile profile) {
+        if (profile == null || profile.detectedType() == null) {
+            return current;
         }
+        boolean generic = current == null || current == SemanticType.UNKNOWN || current == SemanticType.TEXT;
+        return generic ? profile.detectedType() : current;
+    }
 
-        // Priority 3: Generic type fallback based on database type
-        if (lowerDataType.contains("char") || lowerDataType.contains("text") || lowerDataType.contains("string")) {
-            return SemanticType.TEXT;
-        }
-        if (lowerDataType.contains("int") || lowerDataType.contains("serial") || 
-            lowerDataType.contains("numeric") || lowerDataType.contains("decimal") || 
-            lowerDataType.contains("float") || lowerDataType.contains("double")) {
-            return SemanticType.NUMBER;
+    /**
+     * Fills display name, semantic type and formatting of every column in one pass.
+     * Used by introspection, where a schema can have many thousands of columns.
+     *
+     * @param columns Columns with name and data type set
+     */
+    public void inferColumns(Collection<ColumnMetadata> columns) {
+        for (ColumnMetadata column : columns) {
+            column.setDisplayName(generateDisplayName(column.getName()));
+            column.setSemanticType(inferSemanticType(column.getName(), column.getDataType()));
+            column.setFormatting(inferFormatting(column.getSemanticType()));
         }
-
-        return SemanticType.UNKNOWN;
     }
 
     /**
@@ -126,32 +111,54 @@ public class MetadataInferenceService {
         if (technicalName == null || technicalName.isEmpty()) {
             return technicalName;
         }
+        return displayNameMemo.get(technicalName, MetadataInferenceService::toTitleCase);
+    }
 
-        // Handle snake_case or SCREAMING_SNAKE_CASE
-        String result = technicalName.replace("_", " ");
-
-        // Handle camelCase by inserting spaces before capitals
-        result = result.replaceAll("([a-z])([A-Z])", "$1 $2");
-
-        // Convert to Title Case
-        String[] words = result.split("\\s+");
-        StringBuilder titleCase = new StringBuilder();
-        
-        for (String word : words) {
-            if (word.length() > 0) {
-                if (titleCase.length() > 0) {
-                    titleCase.append(" ");
-                }
-                titleCase.append(Character.toUpperCase(word.charAt(0)));
-                if (word.length() > 1) {
-                    titleCase.append(word.substring(1).toLowerCase());
-                }
+    /**
+     * Single pass over the name: underscores and whitespace separate words, and a
+     * lower-case ASCII letter followed by an upper-case one starts a new word.
+     */
+    private static String toTitleCase(String technicalName) {
+        StringBuilder titleCase = new StringBuilder(technicalName.length() + 4);
+        StringBuilder word = new StringBuilder();
+        char previous = 0;
+        for (int i = 0; i < technicalName.length(); i++) {
+            char c = technicalName.charAt(i);
+            if (c == '_' || isRegexWhitespace(c)) {
+                appendWord(titleCase, word);
+                previous = ' ';
+                continue;
             }
+            if (previous >= 'a' && previous <= 'z' && c >= 'A' && c <= 'Z') {
+                appendWord(titleCase, word);
+            }
+            word.append(c);
+            previous = c;
         }
-
+        appendWord(titleCase, word);
         return titleCase.toString();
     }
 
+    private static void appendWord(StringBuilder titleCase, StringBuilder word) {
+        if (word.isEmpty()) {
+            return;
+        }
+        if (!titleCase.isEmpty()) {
+            titleCase.append(' ');
+        }
+        titleCase.append(Character.toUpperCase(word.charAt(0)));
+        if (word.length() > 1) {
+            titleCase.append(word.substring(1).toLowerCase());
+        }
+        word.setLength(0);
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        // Same set as the regex class \s
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+
     /**
      * Infers default formatting options based on semantic type.
      * 
@@ -191,4 +198,7 @@ public class MetadataInferenceService {
 
         return formatting;
     }
+
+    private record ColumnKey(String columnName, String dataType) {
+    }
 }
@@ -0,0 +1,120 @@
+package com.gs.dsp.connectivity.domain.service;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Domain Service that merges freshly introspected table metadata into a connector's
+ * registered tables without losing curated edits.
+ * 
+ * Structure (columns, data types, keys) always comes from the source database, while
+ * display names, descriptions, visibility, semantic types and formatting are kept from
+ * the registered metadata, as are value profiles of columns whose type did not change.
+ * Columns new to a table get inferred metadata.
+ * 
+ * NOTE: This is a pure Domain Service (framework-agnostic). It is registered as a
+ * Spring bean via ConnectivityDomainConfig in the infrastructure layer.
+ */
+public class SchemaMetadataMerger {
+
+    private final MetadataInferenceService metadataInferenceService;
+
+    public SchemaMetadataMerger(MetadataInferenceService metadataInferenceService) {
+        this.metadataInferenceService = metadataInferenceService;
+    }
+
+    /**
+     * Merges the fresh metadata of the given tables into the registered tables.
+     * 
+     * @param registered The connector's registered tables
+     * @param fresh      Fresh metadata keyed by table name; a registered table that is
+     *                   listed in {@code checked} but missing here was dropped
+     * @param checked    Names of the registered tables that were re-read from the source
+     * @param syncedAt   Timestamp recorded on every table that was refreshed
+     * @return The merged table list and the names of the tables that changed
+     */
+    public MergeResult merge(List<TableMetadata> registered, Map<String, TableMetadata> fresh,
+                             Set<String> checked, LocalDateTime syncedAt) {
+        List<TableMetadata> merged = new ArrayList<>(registered.size());
+        Set<String> changed = new LinkedHashSet<>();
+
+        for (TableMetadata table : registered) {
+            if (!checked.contains(table.getName())) {
+                merged.add(table);
+                continue;
+            }
+            TableMetadata source = fresh.get(table.getName());
+            if (source == null) {
+                changed.add(table.getName());
+                continue;
+            }
+            if (!Objects.equals(table.getFingerprint(), source.getFingerprint())) {
+                changed.add(table.getName());
+            }
+            merged.add(mergeTable(table, source, syncedAt));
+        }
+        return new MergeResult(merged, changed);
+    }
+
+    private TableMetadata mergeTable(TableMetadata registered, TableMetadata source, LocalDateTime syncedAt) {
+        Map<String, ColumnMetadata> registeredColumns = new HashMap<>();
+        if (registered.getColumns() != null) {
+            registered.getColumns().forEach(column -> registeredColumns.put(column.getName(), column));
+        }
+
+        List<ColumnMetadata> columns = new ArrayList<>(source.getColumns().size());
+        for (ColumnMetadata column : source.getColumns()) {
+            ColumnMetadata previous = registeredColumns.get(column.getName());
+            if (previous != null) {
+                column.setDisplayName(previous.getDisplayName());
+                column.setDescription(previous.getDescription());
+                column.setVisibility(previous.getVisibility());
+                column.setSemanticType(previous.getSemanticType() != SemanticType.UNKNOWN
+                        ? previous.getSemanticType()
+                        : metadataInferenceService.inferSemanticType(column.getName(), column.getDataType()));
+                column.setFormatting(previous.getFormatting() != null
+                        ? previous.getFormatting()
+                        : metadataInferenceService.inferFormatting(column.getSemanticType()));
+                // Value statistics stay valid as long as the column keeps its type
+                if (Objects.equals(previous.getDataType(), column.getDataType())) {
+                    column.setProfile(previous.getProfile());
+                }
+            } else {
+                column.setDisplayName(metadataInferenceService.generateDisplayName(column.getName()));
+                column.setSemanticType(metadataInferenceService.inferSemanticType(column.getName(), column.getDataType()));
+                column.setVisibility(MetadataVisibility.EVERYWHERE);
+                column.setFormatting(metadataInferenceService.inferFormatting(column.getSemanticType()));
+            }
+            columns.add(column);
+        }
+
+        TableMetadata table = new TableMetadata(registered.getName(), columns);
+        table.setDisplayName(registered.getDisplayName());
+        table.setDescription(registered.getDescription());
+        table.setVisibility(registered.getVisibility());
+        table.setFingerprint(source.getFingerprint());
+        table.setLastSyncedAt(syncedAt);
+        table.setProfiledAt(registered.getProfiledAt());
+        return table;
+    }
+
+    /**
+     * Outcome of a merge.
+     * 
+     * @param tables        The registered tables after the merge
+     * @param changedTables Names of the tables whose structure changed or that were dropped
+     */
+    public record MergeResult(List<TableMetadata> tables, Set<String> changedTables) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.gs.dsp.connectivity.domain.service;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+
+import java.util.Map;
+
+/**
+ * Domain Service interface for profiling the values of a registered table.
+ * This is a Port in Hexagonal Architecture; the sampling adapter lives in the
+ * infrastructure layer.
+ */
+public interface TableProfiler {
+
+    /**
+     * Profiles every column of a table from a bounded sample of its rows.
+     *
+     * @param connector The connector the table is registered on
+     * @param table     The registered table, with its columns
+     * @return Profile by column name
+     */
+    Map<String, ColumnProfile> profile(Connector connector, TableMetadata table);
+}
@@ -0,0 +1,149 @@
+package com.gs.dsp.connectivity.domain.service.inference;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton that finds every occurrence of a fixed keyword set in one pass.
+ * <p>
+ * The transition table is dense over the ASCII characters that occur in the keywords;
+ * any other character sends the automaton back to its root. Instances are immutable and
+ * thread-safe.
+ * </p>
+ */
+final class KeywordMatcher {
+
+    private static final int ALPHABET_LIMIT = 128;
+
+    private final int[] keywordLengths;
+    private final int[] alphabet = new int[ALPHABET_LIMIT];
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    KeywordMatcher(List<String> keywords) {
+        keywordLengths = new int[keywords.size()];
+        Arrays.fill(alphabet, -1);
+        int symbols = 0;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ALPHABET_LIMIT) {
+                    throw new IllegalArgumentException("Keywords must be ASCII: " + keyword);
+                }
+                if (alphabet[c] < 0) {
+                    alphabet[c] = symbols++;
+                }
+            }
+        }
+        alphabetSize = symbols;
+
+        // Trie
+        List<Map<Integer, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        trie.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keywords must not be empty");
+            }
+            keywordLengths[k] = keyword.length();
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = alphabet[keyword.charAt(i)];
+                Integer next = trie.get(node).get(symbol);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(symbol, next);
+                    trie.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(k);
+        }
+
+        // Failure links folded into a full transition table (breadth-first)
+        int nodes = trie.size();
+        transitions = new int[nodes * Math.max(alphabetSize, 1)];
+        int[] failure = new int[nodes];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            Integer child = trie.get(0).get(symbol);
+            if (child != null) {
+                transitions[symbol] = child;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            nodeOutputs.get(node).addAll(nodeOutputs.get(failure[node]));
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                Integer child = trie.get(node).get(symbol);
+                int fallback = transitions[failure[node] * alphabetSize + symbol];
+                if (child != null) {
+                    failure[child] = fallback;
+                    transitions[node * alphabetSize + symbol] = child;
+                    queue.add(child);
+                } else {
+                    transitions[node * alphabetSize + symbol] = fallback;
+                }
+            }
+        }
+
+        outputs = new int[nodes][];
+        for (int node = 0; node < nodes; node++) {
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Scans the text once and records, per keyword, whether it occurs anywhere, whether
+     * the text ends with it and whether the text equals it.
+     */
+    Matches scan(String text) {
+        Matches matches = new Matches();
+        int last = text.length() - 1;
+        int state = 0;
+        for (int i = 0; i <= last; i++) {
+            char c = text.charAt(i);
+            int symbol = c < ALPHABET_LIMIT ? alphabet[c] : -1;
+            state = symbol < 0 ? 0 : transitions[state * alphabetSize + symbol];
+            for (int keyword : outputs[state]) {
+                matches.contains.set(keyword);
+                if (i == last) {
+                    matches.endsWith.set(keyword);
+                    if (keywordLengths[keyword] == text.length()) {
+                        matches.equals.set(keyword);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    static final class Matches {
+        private final BitSet contains = new BitSet();
+        private final BitSet endsWith = new BitSet();
+        private final BitSet equals = new BitSet();
+
+        boolean contains(int keyword) {
+            return contains.get(keyword);
+        }
+
+        boolean endsWith(int keyword) {
+            return endsWith.get(keyword);
+        }
+
+        boolean equals(int keyword) {
+            return equals.get(keyword);
+        }
+    }
+}
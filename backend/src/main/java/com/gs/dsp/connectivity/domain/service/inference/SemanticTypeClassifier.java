@@ -0,0 +1,130 @@
+package com.gs.dsp.connectivity.domain.service.inference;
+
+import com.gs.dsp.connectivity.domain.service.inference.SemanticTypeRule.Target;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.gs.dsp.connectivity.domain.service.inference.SemanticTypeRule.containing;
+import static com.gs.dsp.connectivity.domain.service.inference.SemanticTypeRule.endingWith;
+
+/**
+ * Classifies columns by evaluating an ordered rule table, first match wins.
+ * <p>
+ * All keywords of the table are compiled into one {@link KeywordMatcher} per input, so a
+ * classification scans the data type once and the column name at most once, however many
+ * rules there are. Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class SemanticTypeClassifier {
+
+    /**
+     * The default rule table, in priority order: exact data types, then column name
+     * patterns (more specific first), then generic data type fallbacks.
+     */
+    public static final List<SemanticTypeRule> DEFAULT_RULES = List.of(
+            // Priority 1: Database type exact patterns
+            containing(SemanticType.UUID, Target.DATA_TYPE, "uuid"),
+            containing(SemanticType.BOOLEAN, Target.DATA_TYPE, "boolean").orEqualTo("bool"),
+            containing(SemanticType.TIMESTAMP, Target.DATA_TYPE, "timestamp"),
+            containing(SemanticType.DATETIME, Target.DATA_TYPE, "datetime"),
+            containing(SemanticType.DATE, Target.DATA_TYPE, "date").excluding("time"),
+            containing(SemanticType.TIME, Target.DATA_TYPE, "time").excluding("stamp", "date"),
+
+            // Priority 2: Column name patterns (image before url, being more specific)
+            containing(SemanticType.EMAIL, Target.COLUMN_NAME, "email"),
+            containing(SemanticType.IMAGE_URL, Target.COLUMN_NAME, "image", "img", "photo", "picture"),
+            containing(SemanticType.URL, Target.COLUMN_NAME, "url", "link"),
+            containing(SemanticType.CURRENCY, Target.COLUMN_NAME, "price", "amount", "cost", "total", "subtotal", "fee"),
+            containing(SemanticType.STATUS, Target.COLUMN_NAME, "status", "state"),
+            containing(SemanticType.CATEGORY, Target.COLUMN_NAME, "category", "type", "kind"),
+            endingWith(SemanticType.DATETIME, Target.COLUMN_NAME, "_at", "_date", "created", "updated", "modified", "deleted"),
+            containing(SemanticType.CITY, Target.COLUMN_NAME, "city"),
+            containing(SemanticType.COUNTRY, Target.COLUMN_NAME, "country", "nation"),
+            endingWith(SemanticType.LATITUDE, Target.COLUMN_NAME, "latitude", "lat"),
+            endingWith(SemanticType.LONGITUDE, Target.COLUMN_NAME, "longitude", "lon", "lng"),
+
+            // Priority 3: Generic type fallback
+            containing(SemanticType.TEXT, Target.DATA_TYPE, "char", "text", "string"),
+            containing(SemanticType.NUMBER, Target.DATA_TYPE, "int", "serial", "numeric", "decimal", "float", "double")
+    );
+
+    private final CompiledRule[] rules;
+    private final KeywordMatcher columnNameMatcher;
+    private final KeywordMatcher dataTypeMatcher;
+
+    public SemanticTypeClassifier(List<SemanticTypeRule> rules) {
+        Map<String, Integer> nameKeywords = new LinkedHashMap<>();
+        Map<String, Integer> typeKeywords = new LinkedHashMap<>();
+        this.rules = new CompiledRule[rules.size()];
+        for (int r = 0; r < rules.size(); r++) {
+            SemanticTypeRule rule = rules.get(r);
+            Map<String, Integer> keywords = rule.target() == Target.COLUMN_NAME ? nameKeywords : typeKeywords;
+            int[] terms = new int[rule.anyOf().size()];
+            SemanticTypeRule.Position[] positions = new SemanticTypeRule.Position[terms.length];
+            for (int t = 0; t < terms.length; t++) {
+                SemanticTypeRule.Term term = rule.anyOf().get(t);
+                terms[t] = keywords.computeIfAbsent(term.keyword(), keyword -> keywords.size());
+                positions[t] = term.position();
+            }
+            int[] exclusions = rule.noneOf().stream()
+                    .mapToInt(keyword -> keywords.computeIfAbsent(keyword, k -> keywords.size()))
+                    .toArray();
+            this.rules[r] = new CompiledRule(rule.type(), rule.target(), terms, positions, exclusions);
+        }
+        this.columnNameMatcher = new KeywordMatcher(new ArrayList<>(nameKeywords.keySet()));
+        this.dataTypeMatcher = new KeywordMatcher(new ArrayList<>(typeKeywords.keySet()));
+    }
+
+    /**
+     * Returns the type of the first matching rule, or {@link SemanticType#UNKNOWN}.
+     *
+     * @param columnName Lower-cased column name
+     * @param dataType   Lower-cased database data type
+     */
+    public SemanticType classify(String columnName, String dataType) {
+        KeywordMatcher.Matches typeMatches = dataTypeMatcher.scan(dataType);
+        KeywordMatcher.Matches nameMatches = null;
+        for (CompiledRule rule : rules) {
+            KeywordMatcher.Matches matches;
+            if (rule.target() == Target.DATA_TYPE) {
+                matches = typeMatches;
+            } else {
+                if (nameMatches == null) {
+                    nameMatches = columnNameMatcher.scan(columnName);
+                }
+                matches = nameMatches;
+            }
+            if (rule.matches(matches)) {
+                return rule.type();
+            }
+        }
+        return SemanticType.UNKNOWN;
+    }
+
+    private record CompiledRule(SemanticType type, Target target, int[] terms,
+                                SemanticTypeRule.Position[] positions, int[] exclusions) {
+
+        boolean matches(KeywordMatcher.Matches matches) {
+            for (int exclusion : exclusions) {
+                if (matches.contains(exclusion)) {
+                    return false;
+                }
+            }
+            for (int t = 0; t < terms.length; t++) {
+                boolean hit = switch (positions[t]) {
+                    case ANYWHERE -> matches.contains(terms[t]);
+                    case SUFFIX -> matches.endsWith(terms[t]);
+                    case WHOLE -> matches.equals(terms[t]);
+                };
+                if (hit) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
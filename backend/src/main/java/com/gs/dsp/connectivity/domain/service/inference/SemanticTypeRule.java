@@ -0,0 +1,68 @@
+package com.gs.dsp.connectivity.domain.service.inference;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One row of the semantic-type rule table: the type to assign when any of its terms
+ * matches the lower-cased column name or data type and none of its exclusions occurs.
+ *
+ * @param type    The semantic type this rule assigns
+ * @param target  Which input the rule looks at
+ * @param anyOf   Terms of which at least one must match
+ * @param noneOf  Substrings of which none may occur
+ */
+public record SemanticTypeRule(SemanticType type, Target target, List<Term> anyOf, List<String> noneOf) {
+
+    public SemanticTypeRule {
+        if (anyOf.isEmpty()) {
+            throw new IllegalArgumentException("A rule needs at least one term");
+        }
+        anyOf = List.copyOf(anyOf);
+        noneOf = List.copyOf(noneOf);
+    }
+
+    /**
+     * Rule matching when the target contains any of the keywords.
+     */
+    public static SemanticTypeRule containing(SemanticType type, Target target, String... keywords) {
+        return new SemanticTypeRule(type, target, terms(Position.ANYWHERE, keywords), List.of());
+    }
+
+    /**
+     * Rule matching when the target ends with any of the keywords.
+     */
+    public static SemanticTypeRule endingWith(SemanticType type, Target target, String... keywords) {
+        return new SemanticTypeRule(type, target, terms(Position.SUFFIX, keywords), List.of());
+    }
+
+    /**
+     * Copy of this rule that also requires none of the given substrings to occur.
+     */
+    public SemanticTypeRule excluding(String... keywords) {
+        return new SemanticTypeRule(type, target, anyOf, Arrays.asList(keywords));
+    }
+
+    /**
+     * Copy of this rule that also matches when the target equals the given value.
+     */
+    public SemanticTypeRule orEqualTo(String value) {
+        List<Term> terms = new ArrayList<>(anyOf);
+        terms.add(new Term(value, Position.WHOLE));
+        return new SemanticTypeRule(type, target, terms, noneOf);
+    }
+
+    private static List<Term> terms(Position position, String... keywords) {
+        return Arrays.stream(keywords).map(keyword -> new Term(keyword, position)).toList();
+    }
+
+    public enum Target { COLUMN_NAME, DATA_TYPE }
+
+    public enum Position { ANYWHERE, SUFFIX, WHOLE }
+
+    public record Term(String keyword, Position position) {
+    }
+}
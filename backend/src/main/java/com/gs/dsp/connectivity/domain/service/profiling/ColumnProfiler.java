@@ -0,0 +1,145 @@
+package com.gs.dsp.connectivity.domain.service.profiling;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+
+import java.util.regex.Pattern;
+
+/**
+ * Streams the sampled values of one column into a {@link ColumnProfile}.
+ * <p>
+ * Memory stays constant whatever the sample size: distinct values are counted with a
+ * {@link HyperLogLog}, frequent values with a {@link TopKSketch}, and only the running
+ * minimum and maximum are kept. Text values are also checked against a few value shapes
+ * (email address, URL, UUID) so the column's semantic type can be recognized from its data.
+ * </p>
+ */
+public final class ColumnProfiler {
+
+    private static final int HLL_PRECISION = 12;
+    private static final int SKETCH_CAPACITY_FACTOR = 4;
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final int MAX_PATTERN_LENGTH = 2048;
+
+    /** Share of non-null text values that must have one shape for it to set the type. */
+    private static final double SHAPE_SHARE = 0.9;
+    /** A text column is a category when it has few distinct values relative to its sample. */
+    private static final int MIN_CATEGORY_VALUES = 20;
+    private static final long MAX_CATEGORY_DISTINCT = 50;
+    private static final double MAX_CATEGORY_DISTINCT_SHARE = 0.1;
+
+    private static final Pattern EMAIL_SHAPE = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final Pattern URL_SHAPE = Pattern.compile("(?i)https?://\\S+");
+    private static final Pattern UUID_SHAPE = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private final int topK;
+    private final HyperLogLog distinct = new HyperLogLog(HLL_PRECISION);
+    private final TopKSketch frequent;
+
+    private long rows;
+    private long nulls;
+    private long textValues;
+    private long emails;
+    private long urls;
+    private long uuids;
+    private Comparable<Object> min;
+    private Comparable<Object> max;
+    private boolean comparable = true;
+
+    public ColumnProfiler(int topK) {
+        this.topK = topK;
+        this.frequent = new TopKSketch(topK * SKETCH_CAPACITY_FACTOR);
+    }
+
+    /**
+     * Adds one sampled value; null for SQL NULL.
+     */
+    public void accept(Object value) {
+        rows++;
+        if (value == null) {
+            nulls++;
+            return;
+        }
+        if (value instanceof byte[]) {
+            // Binary values are counted but not profiled
+            comparable = false;
+            return;
+        }
+
+        String text = value.toString();
+        distinct.add(HyperLogLog.hash(text));
+        frequent.add(truncate(text));
+        trackRange(value);
+
+        if (value instanceof CharSequence) {
+            textValues++;
+            if (text.length() <= MAX_PATTERN_LENGTH) {
+                String trimmed = text.trim();
+                if (EMAIL_SHAPE.matcher(trimmed).matches()) {
+                    emails++;
+                } else if (URL_SHAPE.matcher(trimmed).matches()) {
+                    urls++;
+                } else if (UUID_SHAPE.matcher(trimmed).matches()) {
+                    uuids++;
+                }
+            }
+        }
+    }
+
+    public ColumnProfile finish() {
+        long values = rows - nulls;
+        long distinctEstimate = Math.min(distinct.estimate(), values);
+        return new ColumnProfile(
+                rows,
+                rows == 0 ? 0 : (double) nulls / rows,
+                distinctEstimate,
+                comparable && min != null ? truncate(min.toString()) : null,
+                comparable && max != null ? truncate(max.toString()) : null,
+                frequent.top(topK),
+                detectType(distinctEstimate));
+    }
+
+    private SemanticType detectType(long distinctEstimate) {
+        if (textValues == 0) {
+            return null;
+        }
+        if (emails >= textValues * SHAPE_SHARE) {
+            return SemanticType.EMAIL;
+        }
+        if (urls >= textValues * SHAPE_SHARE) {
+            return SemanticType.URL;
+        }
+        if (uuids >= textValues * SHAPE_SHARE) {
+            return SemanticType.UUID;
+        }
+        if (textValues >= MIN_CATEGORY_VALUES
+                && distinctEstimate <= MAX_CATEGORY_DISTINCT
+                && distinctEstimate <= textValues * MAX_CATEGORY_DISTINCT_SHARE) {
+            return SemanticType.CATEGORY;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void trackRange(Object value) {
+        if (!comparable) {
+            return;
+        }
+        if (!(value instanceof Comparable<?>) || (min != null && min.getClass() != value.getClass())) {
+            comparable = false;
+            return;
+        }
+        Comparable<Object> candidate = (Comparable<Object>) value;
+        if (min == null || candidate.compareTo(min) < 0) {
+            min = candidate;
+        }
+        if (max == null || candidate.compareTo(max) > 0) {
+            max = candidate;
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH);
+    }
+}
@@ -0,0 +1,63 @@
+package com.gs.dsp.connectivity.domain.service.profiling;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile.ValueCount;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving sketch (Metwally et al.) of the most frequent values in a stream.
+ * <p>
+ * It keeps at most {@code capacity} counters. A value without a counter takes over the
+ * smallest one and inherits its count, so counts can only be overestimated, by at most
+ * the smallest count. Every value occurring more than {@code n / capacity} times in a
+ * stream of {@code n} values is guaranteed to be kept.
+ * </p>
+ */
+public final class TopKSketch {
+
+    private final int capacity;
+    private final Map<String, Long> counts = new HashMap<>();
+
+    public TopKSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(String value) {
+        Long count = counts.get(value);
+        if (count != null) {
+            counts.put(value, count + 1);
+            return;
+        }
+        if (counts.size() < capacity) {
+            counts.put(value, 1L);
+            return;
+        }
+        Map.Entry<String, Long> smallest = null;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            if (smallest == null || entry.getValue() < smallest.getValue()) {
+                smallest = entry;
+            }
+        }
+        long inherited = smallest.getValue();
+        counts.remove(smallest.getKey());
+        counts.put(value, inherited + 1);
+    }
+
+    /**
+     * The {@code k} values with the highest counts, most frequent first.
+     */
+    public List<ValueCount> top(int k) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(k)
+                .map(entry -> new ValueCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -1,13 +1,19 @@
 package com.gs.dsp.connectivity.infrastructure.primary;
 
 import com.gs.dsp.shared.infrastructure.config.TenantContext;
+import com.gs.dsp.shared.kernel.constants.AppConstants;
 import com.gs.dsp.connectivity.application.service.ConnectorApplicationService;
+import com.gs.dsp.connectivity.application.service.TableProfilingApplicationService;
 import com.gs.dsp.connectivity.domain.model.Connector;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.ConnectorDetailResponse;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.ConnectorSummaryResponse;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadataPage;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.UpdateTableMetadataRequest;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.ViewInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,6 +33,7 @@ import java.util.stream.Collectors;
 public class ConnectorController {
 
     private final ConnectorApplicationService applicationService;
+    private final TableProfilingApplicationService tableProfilingApplicationService;
     private static final Set<String> SENSITIVE_KEYS = Set.of("password", "secret", "key", "token", "credential");
 
     @GetMapping
@@ -124,11 +131,32 @@ public class ConnectorController {
         // Other exceptions propagate to GlobalExceptionHandler
     }
 
+    /**
+     * Registered tables of a connector. Without paging or filter parameters the full list
+     * is returned; otherwise one page, with the total match count in X-Total-Count.
+     */
     @GetMapping("/{id}/tables")
-    public ResponseEntity<List<TableMetadata>> getTables(@PathVariable String id) {
+    public ResponseEntity<List<TableMetadata>> getTables(
+            @PathVariable String id,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) MetadataVisibility visibility) {
         try {
-            List<TableMetadata> tables = applicationService.getTables(id, TenantContext.getTenantId());
-            return ResponseEntity.ok(tables);
+            if (page == null && size == null && search == null && visibility == null) {
+                return ResponseEntity.ok(applicationService.getTables(id, TenantContext.getTenantId()));
+            }
+            TableMetadataPage tables = applicationService.getTables(
+                    id,
+                    TenantContext.getTenantId(),
+                    search,
+                    visibility,
+                    page != null ? page : 0,
+                    size != null ? size : AppConstants.DEFAULT_PAGE_SIZE
+            );
+            return ResponseEntity.ok()
+                    .header(AppConstants.HEADER_TOTAL_COUNT, String.valueOf(tables.total()))
+                    .body(tables.tables());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -136,6 +164,43 @@ public class ConnectorController {
         }
     }
 
+    @GetMapping("/{id}/tables/{tableName}")
+    public ResponseEntity<TableMetadata> getTable(@PathVariable String id, @PathVariable String tableName) {
+        try {
+            return ResponseEntity.ok(applicationService.getTable(id, tableName, TenantContext.getTenantId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PatchMapping("/{id}/tables/{tableName}")
+    public ResponseEntity<TableMetadata> updateTableMetadata(
+            @PathVariable String id,
+            @PathVariable String tableName,
+            @RequestBody UpdateTableMetadataRequest request) {
+        try {
+            return ResponseEntity.ok(applicationService.updateTableMetadata(
+                    id,
+                    tableName,
+                    request,
+                    TenantContext.getTenantId()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{id}/tables/{tableName}/profile")
+    public ResponseEntity<TableMetadata> profileTable(@PathVariable String id, @PathVariable String tableName) {
+        try {
+            return ResponseEntity.ok(tableProfilingApplicationService.profileTable(id, tableName, TenantContext.getTenantId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     // Mappers
 
     private ConnectorSummaryResponse toSummaryResponse(Connector connector) {
@@ -0,0 +1,31 @@
+package com.gs.dsp.connectivity.infrastructure.primary;
+
+import com.gs.dsp.connectivity.application.service.MetadataSearchApplicationService;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataSearchResult;
+import com.gs.dsp.shared.infrastructure.config.TenantContext;
+import com.gs.dsp.shared.kernel.constants.AppConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for searching table and column metadata across all connectors of a tenant.
+ */
+@RestController
+@RequestMapping("/api/v1/metadata")
+@RequiredArgsConstructor
+public class MetadataSearchController {
+
+    private final MetadataSearchApplicationService searchService;
+
+    @GetMapping("/search")
+    public List<MetadataSearchResult> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + AppConstants.DEFAULT_SEARCH_LIMIT) int limit) {
+        return searchService.search(TenantContext.getTenantId(), query, limit);
+    }
+}
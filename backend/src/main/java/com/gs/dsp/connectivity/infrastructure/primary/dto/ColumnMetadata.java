@@ -13,6 +13,7 @@ public class ColumnMetadata {
     private boolean isForeignKey;
     private String foreignKeyTarget;
     private Map<String, Object> formatting;
+    private ColumnProfile profile;
 
     public ColumnMetadata() {}
 
@@ -100,4 +101,12 @@ public class ColumnMetadata {
     public void setFormatting(Map<String, Object> formatting) {
         this.formatting = formatting;
     }
+
+    public ColumnProfile getProfile() {
+        return profile;
+    }
+
+    public void setProfile(ColumnProfile profile) {
+        this.profile = profile;
+    }
 }
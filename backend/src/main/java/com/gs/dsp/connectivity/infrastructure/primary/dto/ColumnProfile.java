@@ -0,0 +1,37 @@
+package com.gs.dsp.connectivity.infrastructure.primary.dto;
+
+import java.util.List;
+
+/**
+ * Statistics of one column, computed from a bounded sample of its table's rows.
+ *
+ * @param sampledRows      Rows in the sample
+ * @param nullFraction     Share of sampled rows in which the column is null
+ * @param distinctEstimate Estimated number of distinct non-null values in the sample
+ * @param min              Smallest sampled value as text, or null when values are not comparable
+ * @param max              Largest sampled value as text, or null when values are not comparable
+ * @param topValues        Most frequent sampled values with approximate counts, most frequent first
+ * @param detectedType     Semantic type recognized from the values, or null when none stands out
+ */
+public record ColumnProfile(
+        long sampledRows,
+        double nullFraction,
+        long distinctEstimate,
+        String min,
+        String max,
+        List<ValueCount> topValues,
+        SemanticType detectedType) {
+
+    /**
+     * Copy without sampled values (min, max and top values), keeping the counts.
+     */
+    public ColumnProfile withoutValues() {
+        return new ColumnProfile(sampledRows, nullFraction, distinctEstimate, null, null, List.of(), detectedType);
+    }
+
+    /**
+     * A sampled value and how often it occurred; the count may overestimate by the sketch error.
+     */
+    public record ValueCount(String value, long count) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.gs.dsp.connectivity.infrastructure.primary.dto;
+
+import java.util.UUID;
+
+/**
+ * One hit of a metadata search: a registered table, or a column of one.
+ *
+ * @param connectorId   Connector the table is registered on
+ * @param connectorName Name of that connector
+ * @param tableName     Name of the table
+ * @param columnName    Name of the column, or null when the hit is the table itself
+ * @param displayName   Curated display name of the table or column
+ * @param semanticType  Semantic type of the column, or null for tables
+ * @param dataType      Source data type of the column, or null for tables
+ * @param score         Relevance; higher is better, only meaningful within one result list
+ */
+public record MetadataSearchResult(
+        UUID connectorId,
+        String connectorName,
+        String tableName,
+        String columnName,
+        String displayName,
+        SemanticType semanticType,
+        String dataType,
+        double score) {
+}
@@ -9,6 +9,8 @@ public class TableMetadata {
     private String description;
     private MetadataVisibility visibility = MetadataVisibility.VISIBLE;
     private LocalDateTime lastSyncedAt;
+    private LocalDateTime profiledAt;
+    private String fingerprint;
     private List<ColumnMetadata> columns;
 
     public TableMetadata() {}
@@ -58,6 +60,22 @@ public class TableMetadata {
         this.lastSyncedAt = lastSyncedAt;
     }
 
+    public LocalDateTime getProfiledAt() {
+        return profiledAt;
+    }
+
+    public void setProfiledAt(LocalDateTime profiledAt) {
+        this.profiledAt = profiledAt;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
     public List<ColumnMetadata> getColumns() {
         return columns;
     }
@@ -0,0 +1,12 @@
+package com.gs.dsp.connectivity.infrastructure.primary.dto;
+
+import java.util.List;
+
+/**
+ * One page of a connector's registered tables.
+ *
+ * @param tables The tables on this page
+ * @param total  Number of tables matching the filters across all pages
+ */
+public record TableMetadataPage(List<TableMetadata> tables, long total) {
+}
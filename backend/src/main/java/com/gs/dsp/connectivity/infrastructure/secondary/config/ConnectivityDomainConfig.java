@@ -1,6 +1,7 @@
 package com.gs.dsp.connectivity.infrastructure.secondary.config;
 
 import com.gs.dsp.connectivity.domain.service.MetadataInferenceService;
+import com.gs.dsp.connectivity.domain.service.SchemaMetadataMerger;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,4 +20,12 @@ public class ConnectivityDomainConfig {
     public MetadataInferenceService metadataInferenceService() {
         return new MetadataInferenceService();
     }
+
+    /**
+     * Registers the SchemaMetadataMerger used by the background metadata sync.
+     */
+    @Bean
+    public SchemaMetadataMerger schemaMetadataMerger(MetadataInferenceService metadataInferenceService) {
+        return new SchemaMetadataMerger(metadataInferenceService);
+    }
 }
@@ -0,0 +1,90 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically resizes connector pools that opted into adaptive sizing.
+ * <p>
+ * A pool grows when callers had to wait for a connection (threads awaiting, average
+ * checkout wait above the threshold, or checkout timeouts) and shrinks one step at a time
+ * while utilization stays low. The size always stays within the pool's adaptive bounds,
+ * and growth is clamped to what is left of the registry's connection budget.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AdaptivePoolSizer {
+
+    private final DataSourceManager dataSourceManager;
+    private final long growWaitNanos;
+    private final double shrinkUtilization;
+
+    public AdaptivePoolSizer(
+            DataSourceManager dataSourceManager,
+            @Value("${datasource.adaptive.grow-wait-ms:5}") long growWaitMs,
+            @Value("${datasource.adaptive.shrink-utilization:0.3}") double shrinkUtilization) {
+        this.dataSourceManager = dataSourceManager;
+        this.growWaitNanos = TimeUnit.MILLISECONDS.toNanos(growWaitMs);
+        this.shrinkUtilization = shrinkUtilization;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.adaptive.interval-ms:10000}")
+    public void resizePools() {
+        for (ManagedDataSource managed : dataSourceManager.getManagedDataSources()) {
+            if (managed.getSettings().adaptive()) {
+                try {
+                    resize(managed);
+                } catch (Exception e) {
+                    log.warn("Adaptive sizing failed for connector {}: {}", managed.getConnectorId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void resize(ManagedDataSource managed) {
+        HikariPoolMXBean pool = managed.getDataSource().getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+        PoolSettings settings = managed.getSettings();
+        PoolUsageStats.Snapshot usage = managed.getUsageStats().drain();
+
+        int current = managed.getMaximumPoolSize();
+        int target = nextPoolSize(current, settings.adaptiveMinPoolSize(), settings.adaptiveMaxPoolSize(),
+                pool.getActiveConnections(), pool.getThreadsAwaitingConnection(), usage);
+        if (target != current) {
+            int resized = dataSourceManager.resizePool(managed, target);
+            if (resized < target) {
+                log.debug("Growth of pool of connector {} clamped to {} by the registry connection budget",
+                        managed.getConnectorId(), resized);
+            }
+            if (resized != current) {
+                log.info("Resized pool of connector {} from {} to {} (active={}, avgWaitMs={}, timeouts={})",
+                        managed.getConnectorId(), current, resized, pool.getActiveConnections(),
+                        TimeUnit.NANOSECONDS.toMillis(usage.avgAcquireNanos()), usage.timeouts());
+            }
+        }
+    }
+
+    /**
+     * Computes the next maximum pool size from the usage observed in the last interval.
+     */
+    int nextPoolSize(int current, int lowerBound, int upperBound, int active, int awaiting, PoolUsageStats.Snapshot usage) {
+        boolean saturated = awaiting > 0 || usage.timeouts() > 0 || usage.avgAcquireNanos() > growWaitNanos;
+        if (saturated) {
+            // Grow by a quarter, at least one connection
+            return Math.min(upperBound, current + Math.max(1, current / 4));
+        }
+        double utilization = current == 0 ? 0 : (double) active / current;
+        if (utilization < shrinkUtilization) {
+            return Math.max(lowerBound, current - 1);
+        }
+        return Math.max(lowerBound, Math.min(upperBound, current));
+    }
+}
@@ -1,6 +1,5 @@
 package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
 
-import com.gs.dsp.shared.kernel.constants.AppConstants;
 import com.gs.dsp.shared.kernel.constants.ErrorMessages;
 import com.gs.dsp.shared.kernel.constants.FieldNames;
 import com.gs.dsp.connectivity.domain.model.Connector;
@@ -9,65 +8,146 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.util.Map;
+import java.util.Properties;
 
 @Service
 public class DataSourceFactory {
 
     private final EncryptionUtil encryptionUtil;
     private final ObjectMapper objectMapper;
+    private final MetricsTrackerFactory poolMetrics;
 
-    public DataSourceFactory(EncryptionUtil encryptionUtil, ObjectMapper objectMapper) {
+    public DataSourceFactory(EncryptionUtil encryptionUtil, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         this.encryptionUtil = encryptionUtil;
         this.objectMapper = objectMapper;
+        this.poolMetrics = new MicrometerMetricsTrackerFactory(meterRegistry);
     }
 
     public DataSource createDataSource(Connector connector) {
         try {
             Map<String, Object> config = connector.getConfig().getConfigMap();
+            HikariConfig hikariConfig = buildConfig(connector, PoolSettings.from(config));
+            return new HikariDataSource(hikariConfig);
+        } catch (Exception e) {
+            throw new RuntimeException(String.format(ErrorMessages.FAILED_TO_CREATE_DATASOURCE, connector.getName()), e);
+        }
+    }
 
-            HikariConfig hikariConfig = new HikariConfig();
-            
-            // Check if custom URL is provided (e.g., for H2 in tests)
-            if (config.containsKey(FieldNames.CONFIG_URL)) {
-                String jdbcUrl = (String) config.get(FieldNames.CONFIG_URL);
-                hikariConfig.setJdbcUrl(jdbcUrl);
-            } else {
-                // Construct JDBC URL for PostgreSQL
-                String host = (String) config.get(FieldNames.CONFIG_HOST);
-                Integer port = config.get(FieldNames.CONFIG_PORT) instanceof Integer ? (Integer) config.get(FieldNames.CONFIG_PORT) : Integer.parseInt(config.get(FieldNames.CONFIG_PORT).toString());
-                String databaseName = (String) config.get(FieldNames.CONFIG_DATABASE_NAME);
-                
-                String jdbcUrl = String.format("jdbc:postgresql://%s:%d/%s", host, port, databaseName);
-                hikariConfig.setJdbcUrl(jdbcUrl);
-            }
+    /**
+     * Creates the long-lived pool of a connector, configured from its pool settings
+     * and instrumented with a {@link PoolUsageStats} tracker for adaptive sizing.
+     * The tracker also publishes the pool's hikaricp.* meters, tagged with the pool name;
+     * they are removed when the pool is closed, so only open pools are reported.
+     */
+    public ManagedDataSource createManagedDataSource(Connector connector) {
+        try {
+            PoolSettings settings = PoolSettings.from(connector.getConfig().getConfigMap());
+            HikariConfig hikariConfig = buildConfig(connector, settings);
+            PoolUsageStats usageStats = new PoolUsageStats();
+            hikariConfig.setMetricsTrackerFactory((poolName, poolStats) ->
+                    usageStats.forwardingTo(poolMetrics.create(poolName, poolStats)));
+            return new ManagedDataSource(connector.getId().getId(), new HikariDataSource(hikariConfig), settings, usageStats);
+        } catch (Exception e) {
+            throw new RuntimeException(String.format(ErrorMessages.FAILED_TO_CREATE_DATASOURCE, connector.getName()), e);
+        }
+    }
 
-            // Handle username - support both "user" and "username" keys
-            String username = config.containsKey(FieldNames.CONFIG_USER) ? (String) config.get(FieldNames.CONFIG_USER) : (String) config.get(FieldNames.CONFIG_USERNAME);
-            hikariConfig.setUsername(username);
-            
-            // Handle password (check for encrypted_password first, then password)
-            String password;
-            if (config.containsKey(FieldNames.CONFIG_ENCRYPTED_PASSWORD)) {
-                password = encryptionUtil.decrypt((String) config.get(FieldNames.CONFIG_ENCRYPTED_PASSWORD));
-            } else {
-                password = (String) config.get(FieldNames.CONFIG_PASSWORD);
-            }
-            hikariConfig.setPassword(password);
-            
+    /**
+     * Opens a single unpooled connection, for one-off work such as testing a
+     * connection before the connector is saved.
+     */
+    public Connection openConnection(Connector connector) {
+        Map<String, Object> config = connector.getConfig().getConfigMap();
+        try {
             if (config.containsKey(FieldNames.CONFIG_DRIVER_CLASS)) {
-                hikariConfig.setDriverClassName((String) config.get(FieldNames.CONFIG_DRIVER_CLASS));
+                Class.forName((String) config.get(FieldNames.CONFIG_DRIVER_CLASS));
             }
+            String jdbcUrl = resolveJdbcUrl(config);
+            Properties properties = new Properties();
+            String username = resolveUsername(config);
+            // Uncached: test connections use throwaway connector ids whose plaintext would
+            // only crowd out real entries and linger in the heap until the cache TTL
+            String password = resolvePassword(connector, false);
+            if (username != null) {
+                properties.setProperty("user", username);
+            }
+            if (password != null) {
+                properties.setProperty("password", password);
+            }
+            if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+                properties.setProperty("connectTimeout",
+                        String.valueOf(PoolSettings.from(config).connectionTimeoutSeconds()));
+            }
+            return DriverManager.getConnection(jdbcUrl, properties);
+        } catch (Exception e) {
+            throw new RuntimeException(String.format(ErrorMessages.FAILED_TO_CONNECT, e.getMessage()), e);
+        }
+    }
 
-            hikariConfig.setPoolName("HikariPool-" + connector.getName());
-            hikariConfig.setMaximumPoolSize(AppConstants.DEFAULT_POOL_SIZE); // Default limit
+    private HikariConfig buildConfig(Connector connector, PoolSettings settings) {
+        Map<String, Object> config = connector.getConfig().getConfigMap();
 
-            return new HikariDataSource(hikariConfig);
-        } catch (Exception e) {
-            throw new RuntimeException(String.format(ErrorMessages.FAILED_TO_CREATE_DATASOURCE, connector.getName()), e);
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(resolveJdbcUrl(config));
+        hikariConfig.setUsername(resolveUsername(config));
+        hikariConfig.setPassword(resolvePassword(connector, true));
+        
+        if (config.containsKey(FieldNames.CONFIG_DRIVER_CLASS)) {
+            hikariConfig.setDriverClassName((String) config.get(FieldNames.CONFIG_DRIVER_CLASS));
+        }
+
+        hikariConfig.setPoolName("HikariPool-" + connector.getName());
+        hikariConfig.setMaximumPoolSize(settings.maxPoolSize());
+        hikariConfig.setMinimumIdle(settings.minIdle());
+        hikariConfig.setIdleTimeout(settings.idleTimeoutMs());
+        hikariConfig.setMaxLifetime(settings.maxLifetimeMs());
+        hikariConfig.setConnectionTimeout(settings.connectionTimeoutMs());
+        if (settings.connectionInitSql() != null) {
+            hikariConfig.setConnectionInitSql(settings.connectionInitSql());
+        }
+
+        return hikariConfig;
+    }
+
+    private String resolveJdbcUrl(Map<String, Object> config) {
+        // Check if custom URL is provided (e.g., for H2 in tests)
+        if (config.containsKey(FieldNames.CONFIG_URL)) {
+            return (String) config.get(FieldNames.CONFIG_URL);
+        }
+        // Construct JDBC URL for PostgreSQL
+        String host = (String) config.get(FieldNames.CONFIG_HOST);
+        Integer port = config.get(FieldNames.CONFIG_PORT) instanceof Integer ? (Integer) config.get(FieldNames.CONFIG_PORT) : Integer.parseInt(config.get(FieldNames.CONFIG_PORT).toString());
+        String databaseName = (String) config.get(FieldNames.CONFIG_DATABASE_NAME);
+        return String.format("jdbc:postgresql://%s:%d/%s", host, port, databaseName);
+    }
+
+    private String resolveUsername(Map<String, Object> config) {
+        // Support both "user" and "username" keys
+        return config.containsKey(FieldNames.CONFIG_USER) ? (String) config.get(FieldNames.CONFIG_USER) : (String) config.get(FieldNames.CONFIG_USERNAME);
+    }
+
+    /**
+     * @param cached Whether to go through the credential cache, which is only worth it for
+     *               saved connectors whose pools are opened again and again
+     */
+    private String resolvePassword(Connector connector, boolean cached) {
+        Map<String, Object> config = connector.getConfig().getConfigMap();
+        // Check for encrypted_password first, then password
+        if (config.containsKey(FieldNames.CONFIG_ENCRYPTED_PASSWORD)) {
+            String encrypted = (String) config.get(FieldNames.CONFIG_ENCRYPTED_PASSWORD);
+            return cached
+                    ? encryptionUtil.decryptCredential(connector.getId().getId(), encrypted)
+                    : encryptionUtil.decrypt(encrypted);
         }
+        return (String) config.get(FieldNames.CONFIG_PASSWORD);
     }
 }
@@ -1,47 +1,390 @@
 package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
 
+import com.gs.dsp.connectivity.domain.event.ConnectorChangedEvent;
 import com.gs.dsp.connectivity.domain.model.Connector;
 import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
-import com.zaxxer.hikari.HikariDataSource;
+import com.gs.dsp.connectivity.infrastructure.secondary.health.ConnectorCircuitBreakerRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
 
+/**
+ * Registry of the connection pools opened against connector databases.
+ * <p>
+ * The registry is bounded by number of pools and by the sum of their maximum sizes.
+ * Capacity is reserved under the registry's write lock before a pool is opened, and
+ * adaptive resizing goes through {@link #resizePool}, so neither concurrent creations
+ * nor growing pools can overshoot the limits. When a new pool does not
+ * fit, the least recently used pools without borrowed connections are retired first.
+ * Pools unused for longer than the idle period are evicted in the background. Retired
+ * pools drain in-flight work before they are closed, and every pool is closed when the
+ * application context shuts down.
+ * </p>
+ * <p>
+ * A pool handed out within the last {@code datasource.registry.handout-pin-ms} is pinned:
+ * its caller may not have borrowed a connection yet, so it is never picked for retirement.
+ * Hand-outs run under the read lock and retirement under the write lock, so a pool is
+ * either retired before it is handed out (and the caller looks it up again) or pinned.
+ * </p>
+ * <p>
+ * Pools are created asynchronously: the map only ever holds a {@link CompletableFuture}
+ * per connector, so opening a pool against a slow or unreachable host never holds a map
+ * lock. Callers wait on the future up to the creation timeout. A pool that failed to
+ * connect is remembered for a short period so callers fail fast instead of retrying the
+ * host; any other failure (unknown or inactive connector, no room in the registry) is
+ * dropped at once. Pools are invalidated when their connector changes.
+ * </p>
+ */
+@Slf4j
 @Service
 public class DataSourceManager {
 
-    private final Map<UUID, DataSource> dataSourceCache = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<ManagedDataSource>> dataSourceCache = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock registryLock = new ReentrantReadWriteLock();
+    /** Connections reserved per pool in the registry, guarded by the write lock. */
+    private final Map<CompletableFuture<ManagedDataSource>, Integer> reservations = new IdentityHashMap<>();
+    private int reservedConnections;
     private final ConnectorRepository connectorRepository;
     private final DataSourceFactory dataSourceFactory;
+    private final ConnectorCircuitBreakerRegistry circuitBreakers;
+    private final ExecutorService creationExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("pool-create-", 0).factory());
+    private final ExecutorService drainExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("pool-drain-", 0).factory());
 
-    public DataSourceManager(ConnectorRepository connectorRepository, DataSourceFactory dataSourceFactory) {
+    private final int maxPools;
+    private final int maxTotalConnections;
+    private final long idleEvictionNanos;
+    private final long drainTimeoutMs;
+    private final long creationTimeoutMs;
+    private final long failureTtlMs;
+    private final long handoutPinNanos;
+
+    public DataSourceManager(
+            ConnectorRepository connectorRepository,
+            DataSourceFactory dataSourceFactory,
+            ConnectorCircuitBreakerRegistry circuitBreakers,
+            @Value("${datasource.registry.max-pools:50}") int maxPools,
+            @Value("${datasource.registry.max-total-connections:500}") int maxTotalConnections,
+            @Value("${datasource.registry.idle-eviction-ms:900000}") long idleEvictionMs,
+            @Value("${datasource.registry.drain-timeout-ms:30000}") long drainTimeoutMs,
+            @Value("${datasource.registry.creation-timeout-ms:15000}") long creationTimeoutMs,
+            @Value("${datasource.registry.failure-ttl-ms:5000}") long failureTtlMs,
+            @Value("${datasource.registry.handout-pin-ms:5000}") long handoutPinMs) {
+        if (maxPools <= 0 || maxTotalConnections <= 0 || handoutPinMs < 0) {
+            throw new IllegalArgumentException("Invalid datasource registry settings");
+        }
         this.connectorRepository = connectorRepository;
         this.dataSourceFactory = dataSourceFactory;
+        this.circuitBreakers = circuitBreakers;
+        this.maxPools = maxPools;
+        this.maxTotalConnections = maxTotalConnections;
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.creationTimeoutMs = creationTimeoutMs;
+        this.failureTtlMs = failureTtlMs;
+        this.handoutPinNanos = TimeUnit.MILLISECONDS.toNanos(handoutPinMs);
     }
 
+    /**
+     * Returns the connector's pool, guarded by its circuit breaker: callers fail fast with
+     * {@code ConnectorUnavailableException} while the circuit is open.
+     */
     public DataSource getDataSource(UUID connectorId) {
-        return dataSourceCache.computeIfAbsent(connectorId, this::createDataSource);
+        circuitBreakers.checkAvailable(connectorId);
+        return getManagedDataSource(connectorId).getGuardedDataSource();
+    }
+
+    /**
+     * Returns the open pool of a connector, if any, without creating it or counting the
+     * lookup as a use of the pool.
+     */
+    public Optional<ManagedDataSource> findManagedDataSource(UUID connectorId) {
+        CompletableFuture<ManagedDataSource> future = dataSourceCache.get(connectorId);
+        return future != null && isOpen(future) ? Optional.of(future.join()) : Optional.empty();
+    }
+
+    /**
+     * Returns the pool of a connector together with its settings, creating it if needed.
+     * Does not consult the circuit breaker.
+     */
+    public ManagedDataSource getManagedDataSource(UUID connectorId) {
+        while (true) {
+            CompletableFuture<ManagedDataSource> future = dataSourceCache.get(connectorId);
+            if (future == null) {
+                CompletableFuture<ManagedDataSource> created = new CompletableFuture<>();
+                future = dataSourceCache.putIfAbsent(connectorId, created);
+                if (future == null) {
+                    future = created;
+                    startCreation(connectorId, created);
+                }
+            }
+            ManagedDataSource managed = await(connectorId, future);
+            registryLock.readLock().lock();
+            try {
+                // Touching pins the pool; a pool retired since the lookup is looked up again
+                if (dataSourceCache.get(connectorId) == future) {
+                    managed.touch();
+                    return managed;
+                }
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the pools currently open.
+     */
+    public Collection<ManagedDataSource> getManagedDataSources() {
+        return openPools().toList();
+    }
+
+    private Stream<ManagedDataSource> openPools() {
+        return dataSourceCache.values().stream()
+                .filter(DataSourceManager::isOpen)
+                .map(CompletableFuture::join);
+    }
+
+    private static boolean isOpen(CompletableFuture<ManagedDataSource> future) {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Creates the pool on a virtual thread. The future is already in the map, so a failure
+     * that is not a connection failure can be removed at once and the next caller retries.
+     */
+    private void startCreation(UUID connectorId, CompletableFuture<ManagedDataSource> future) {
+        try {
+            creationExecutor.execute(() -> createDataSource(connectorId, future));
+        } catch (RejectedExecutionException e) {
+            dataSourceCache.remove(connectorId, future);
+            future.completeExceptionally(new IllegalStateException("Datasource registry is shut down", e));
+        }
+    }
+
+    private ManagedDataSource await(UUID connectorId, CompletableFuture<ManagedDataSource> future) {
+        try {
+            return future.get(creationTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for connection pool of connector: " + connectorId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for connection pool of connector: " + connectorId, e);
+        }
+    }
+
+    private void createDataSource(UUID connectorId, CompletableFuture<ManagedDataSource> future) {
+        Connector connector;
+        try {
+            connector = connectorRepository.findById(new com.gs.dsp.connectivity.domain.model.ConnectorId(connectorId))
+                    .orElseThrow(() -> new IllegalArgumentException("Connector not found: " + connectorId));
+            if (!connector.isActive()) {
+                throw new IllegalStateException("Connector is not active: " + connectorId);
+            }
+            reserve(future, PoolSettings.from(connector.getConfig().getConfigMap()).maxPoolSize());
+        } catch (Throwable t) {
+            // Not a connection failure: the connector may be activated or room freed at any time
+            dataSourceCache.remove(connectorId, future);
+            future.completeExceptionally(t);
+            return;
+        }
+
+        try {
+            ManagedDataSource managed = dataSourceFactory.createManagedDataSource(connector);
+            managed.guardWith(circuitBreakers);
+            if (!future.complete(managed)) {
+                // The registry was shut down while the pool was being created
+                managed.close();
+            }
+        } catch (Throwable t) {
+            release(future);
+            circuitBreakers.recordFailure(connectorId, t);
+            log.warn("Failed to create pool for connector {}: {}", connectorId, t.getMessage());
+            // Keep the connection failure cached for a while so callers fail fast
+            CompletableFuture.delayedExecutor(failureTtlMs, TimeUnit.MILLISECONDS)
+                    .execute(() -> dataSourceCache.remove(connectorId, future));
+            future.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Reserves a pool slot and {@code connections} connections for a pool being created,
+     * retiring least recently used pools that are neither pinned nor borrowed from until
+     * the reservation fits.
+     */
+    private void reserve(CompletableFuture<ManagedDataSource> future, int connections) {
+        registryLock.writeLock().lock();
+        try {
+            while (reservations.size() >= maxPools || reservedConnections + connections > maxTotalConnections) {
+                long now = System.nanoTime();
+                Optional<ManagedDataSource> victim = openPools()
+                        .filter(managed -> isRetirable(managed, now))
+                        .max(Comparator.comparingLong(managed -> managed.idleNanos(now)));
+                if (victim.isEmpty()) {
+                    throw new IllegalStateException(String.format(
+                            "Connection pool limit reached (%d pools, %d connections)", maxPools, maxTotalConnections));
+                }
+                log.info("Evicting least recently used pool of connector {} to make room", victim.get().getConnectorId());
+                retire(victim.get());
+            }
+            reservations.put(future, connections);
+            reservedConnections += connections;
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resizes an open pool within the registry's connection budget. Shrinking always
+     * succeeds; growth is clamped to the connections left unreserved.
+     *
+     * @return the maximum pool size now in effect
+     */
+    public int resizePool(ManagedDataSource managed, int maximumPoolSize) {
+        registryLock.writeLock().lock();
+        try {
+            CompletableFuture<ManagedDataSource> future = dataSourceCache.get(managed.getConnectorId());
+            Integer reserved = future != null && isOpen(future) && future.join() == managed
+                    ? reservations.get(future) : null;
+            if (reserved == null) {
+                // Retired meanwhile: leave it to drain at its current size
+                return managed.getMaximumPoolSize();
+            }
+            int size = Math.min(maximumPoolSize, reserved + maxTotalConnections - reservedConnections);
+            if (size != reserved) {
+                managed.resize(size);
+                reservations.put(future, size);
+                reservedConnections += size - reserved;
+            }
+            return size;
+        } finally {
+            registryLock.writeLock().unlock();
+        }
     }
 
-    private DataSource createDataSource(UUID connectorId) {
-        com.gs.dsp.connectivity.domain.model.ConnectorId id = new com.gs.dsp.connectivity.domain.model.ConnectorId(connectorId);
-        Connector connector = connectorRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Connector not found: " + connectorId));
-        
-        if (!connector.isActive()) {
-            throw new IllegalStateException("Connector is not active: " + connectorId);
+    private void release(CompletableFuture<ManagedDataSource> future) {
+        registryLock.writeLock().lock();
+        try {
+            Integer connections = reservations.remove(future);
+            if (connections != null) {
+                reservedConnections -= connections;
+            }
+        } finally {
+            registryLock.writeLock().unlock();
         }
+    }
+
+    private boolean isRetirable(ManagedDataSource managed, long now) {
+        return managed.idleNanos(now) >= handoutPinNanos && managed.getActiveConnections() == 0;
+    }
 
-        return dataSourceFactory.createDataSource(connector);
+    @Scheduled(fixedDelayString = "${datasource.registry.eviction-interval-ms:60000}")
+    public void evictIdlePools() {
+        registryLock.writeLock().lock();
+        try {
+            long now = System.nanoTime();
+            for (ManagedDataSource managed : getManagedDataSources()) {
+                if (managed.idleNanos(now) > idleEvictionNanos && isRetirable(managed, now)) {
+                    log.info("Evicting idle pool of connector {}", managed.getConnectorId());
+                    retire(managed);
+                }
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
     }
 
     public void invalidate(UUID connectorId) {
-        DataSource ds = dataSourceCache.remove(connectorId);
-        if (ds instanceof HikariDataSource) {
-            ((HikariDataSource) ds).close();
+        circuitBreakers.remove(connectorId);
+        CompletableFuture<ManagedDataSource> future = dataSourceCache.remove(connectorId);
+        if (future != null) {
+            // A pool still being created keeps its reservation until it is ready, then is retired
+            future.whenComplete((managed, failure) -> {
+                release(future);
+                if (managed != null) {
+                    drainInBackground(managed);
+                }
+            });
+        }
+    }
+
+    /**
+     * Retires the pool of a changed or deleted connector once the change is committed, so
+     * the next caller opens a pool with the new details.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConnectorChanged(ConnectorChangedEvent event) {
+        invalidate(event.getConnectorId());
+    }
+
+    /**
+     * Removes the pool from the registry so no new work is routed to it, releases its
+     * reservation, then drains and closes it in the background. Called under the write lock.
+     */
+    private void retire(ManagedDataSource managed) {
+        CompletableFuture<ManagedDataSource> future = dataSourceCache.get(managed.getConnectorId());
+        if (future != null && isOpen(future) && future.join() == managed
+                && dataSourceCache.remove(managed.getConnectorId(), future)) {
+            release(future);
+            drainInBackground(managed);
+        }
+    }
+
+    private void drainInBackground(ManagedDataSource managed) {
+        try {
+            drainExecutor.execute(() -> managed.drainAndClose(drainTimeoutMs));
+        } catch (RejectedExecutionException e) {
+            // Shut down: nothing will drain it any more, so close it at once
+            managed.close();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        creationExecutor.shutdownNow();
+        // Pools still being created are closed by their creator once the factory returns
+        IllegalStateException shutDown = new IllegalStateException("Datasource registry is shut down");
+        dataSourceCache.values().forEach(future -> future.completeExceptionally(shutDown));
+        log.info("Closing {} connector pools", dataSourceCache.size());
+        for (UUID connectorId : List.copyOf(dataSourceCache.keySet())) {
+            invalidate(connectorId);
+        }
+        drainExecutor.shutdown();
+        try {
+            if (!drainExecutor.awaitTermination(drainTimeoutMs + 5_000, TimeUnit.MILLISECONDS)) {
+                drainExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            drainExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
     }
 }
@@ -0,0 +1,106 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.gs.dsp.connectivity.infrastructure.secondary.health.CircuitBreakingDataSource;
+import com.gs.dsp.connectivity.infrastructure.secondary.health.ConnectorCircuitBreakerRegistry;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A connector's Hikari pool together with the settings and usage statistics
+ * needed to manage it.
+ */
+@Getter
+public class ManagedDataSource {
+
+    private static final long DRAIN_POLL_MS = 50;
+
+    private final UUID connectorId;
+    private final HikariDataSource dataSource;
+    private final PoolSettings settings;
+    private final PoolUsageStats usageStats;
+    /** The pool behind the connector's circuit breaker, shared by every caller. */
+    private volatile DataSource guardedDataSource;
+    private volatile long lastAccessNanos;
+
+    public ManagedDataSource(UUID connectorId, HikariDataSource dataSource, PoolSettings settings, PoolUsageStats usageStats) {
+        this.connectorId = connectorId;
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.usageStats = usageStats;
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * Wraps the pool in the connector's circuit breaker. Called once, before the pool is
+     * handed out.
+     */
+    void guardWith(ConnectorCircuitBreakerRegistry circuitBreakers) {
+        guardedDataSource = new CircuitBreakingDataSource(dataSource, connectorId, circuitBreakers);
+    }
+
+    /**
+     * Records that the pool was handed out to a caller.
+     */
+    public void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    public long idleNanos(long nowNanos) {
+        return nowNanos - lastAccessNanos;
+    }
+
+    public int getActiveConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    public int getMaximumPoolSize() {
+        return dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+    }
+
+    /**
+     * Sets the maximum pool size, keeping minimumIdle within it in either direction.
+     */
+    public void resize(int maximumPoolSize) {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int minimumIdle = Math.min(settings.minIdle(), maximumPoolSize);
+        if (maximumPoolSize < config.getMaximumPoolSize()) {
+            config.setMinimumIdle(minimumIdle);
+            config.setMaximumPoolSize(maximumPoolSize);
+        } else {
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setMinimumIdle(minimumIdle);
+        }
+    }
+
+    /**
+     * Retires idle connections, waits up to {@code timeoutMs} for borrowed
+     * connections to be returned and then closes the pool.
+     */
+    public void drainAndClose(long timeoutMs) {
+        try {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                pool.softEvictConnections();
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+                while (pool.getActiveConnections() > 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(DRAIN_POLL_MS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,103 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.gs.dsp.shared.kernel.constants.AppConstants;
+import com.gs.dsp.shared.kernel.constants.FieldNames;
+
+import java.util.Map;
+
+/**
+ * Connection pool settings of a connector, read from the optional {@code "pool"}
+ * object of its connection config. Missing values fall back to sane defaults.
+ *
+ * <pre>
+ * "pool": {
+ *   "maxPoolSize": 10, "minIdle": 1,
+ *   "idleTimeoutMs": 600000, "maxLifetimeMs": 1800000, "connectionTimeoutMs": 10000,
+ *   "connectionInitSql": "SET search_path TO sales",
+ *   "adaptive": true, "adaptiveMinPoolSize": 2, "adaptiveMaxPoolSize": 20
+ * }
+ * </pre>
+ */
+public record PoolSettings(
+        int maxPoolSize,
+        int minIdle,
+        long idleTimeoutMs,
+        long maxLifetimeMs,
+        long connectionTimeoutMs,
+        String connectionInitSql,
+        boolean adaptive,
+        int adaptiveMinPoolSize,
+        int adaptiveMaxPoolSize) {
+
+    public PoolSettings {
+        if (maxPoolSize < 1 || maxPoolSize > AppConstants.MAX_POOL_SIZE) {
+            throw new IllegalArgumentException("Invalid pool maxPoolSize: " + maxPoolSize);
+        }
+        if (minIdle < 0 || minIdle > maxPoolSize) {
+            throw new IllegalArgumentException("Invalid pool minIdle: " + minIdle);
+        }
+        if (adaptive && (adaptiveMinPoolSize < 1 || adaptiveMinPoolSize > maxPoolSize
+                || adaptiveMaxPoolSize < maxPoolSize || adaptiveMaxPoolSize > AppConstants.MAX_POOL_SIZE)) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid adaptive pool bounds [%d, %d] for maxPoolSize %d",
+                    adaptiveMinPoolSize, adaptiveMaxPoolSize, maxPoolSize));
+        }
+    }
+
+    /**
+     * The connection timeout in whole seconds, rounded up and at least 1, for drivers that
+     * take seconds and read 0 as no timeout at all.
+     */
+    public long connectionTimeoutSeconds() {
+        return Math.max(1, (connectionTimeoutMs + 999) / 1000);
+    }
+
+    public static PoolSettings defaults() {
+        return from(Map.of());
+    }
+
+    /**
+     * Reads the pool settings from a connector config map.
+     */
+    @SuppressWarnings("unchecked")
+    public static PoolSettings from(Map<String, Object> config) {
+        Map<String, Object> pool = config.get(FieldNames.CONFIG_POOL) instanceof Map<?, ?> map
+                ? (Map<String, Object>) map
+                : Map.of();
+
+        int maxPoolSize = intValue(pool, FieldNames.POOL_MAX_SIZE, AppConstants.DEFAULT_POOL_SIZE);
+        int minIdle = intValue(pool, FieldNames.POOL_MIN_IDLE, Math.min(AppConstants.DEFAULT_POOL_MIN_IDLE, maxPoolSize));
+        boolean adaptive = Boolean.parseBoolean(String.valueOf(pool.getOrDefault(FieldNames.POOL_ADAPTIVE, false)));
+        int adaptiveMin = intValue(pool, FieldNames.POOL_ADAPTIVE_MIN_SIZE, Math.max(1, minIdle));
+        int adaptiveMax = intValue(pool, FieldNames.POOL_ADAPTIVE_MAX_SIZE,
+                Math.min(AppConstants.MAX_POOL_SIZE, maxPoolSize * 2));
+        Object initSql = pool.get(FieldNames.POOL_CONNECTION_INIT_SQL);
+
+        return new PoolSettings(
+                maxPoolSize,
+                minIdle,
+                longValue(pool, FieldNames.POOL_IDLE_TIMEOUT_MS, AppConstants.DEFAULT_POOL_IDLE_TIMEOUT_MS),
+                longValue(pool, FieldNames.POOL_MAX_LIFETIME_MS, AppConstants.DEFAULT_POOL_MAX_LIFETIME_MS),
+                longValue(pool, FieldNames.POOL_CONNECTION_TIMEOUT_MS, AppConstants.DEFAULT_POOL_CONNECTION_TIMEOUT_MS),
+                initSql == null || initSql.toString().isBlank() ? null : initSql.toString(),
+                adaptive,
+                adaptiveMin,
+                adaptiveMax);
+    }
+
+    private static int intValue(Map<String, Object> pool, String key, int defaultValue) {
+        Object value = pool.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim());
+    }
+
+    private static long longValue(Map<String, Object> pool, String key, long defaultValue) {
+        Object value = pool.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+    }
+}
@@ -0,0 +1,77 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari metrics tracker that accumulates connection checkout wait times and timeouts.
+ * The adaptive sizer reads and resets the counters on every evaluation.
+ * <p>
+ * Hikari accepts a single tracker per pool, so every event is also forwarded to a
+ * delegate, such as the Micrometer tracker that publishes the pool's gauges.
+ * </p>
+ */
+public class PoolUsageStats implements IMetricsTracker {
+
+    private static final IMetricsTracker NO_DELEGATE = new IMetricsTracker() {
+    };
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile IMetricsTracker delegate = NO_DELEGATE;
+
+    /**
+     * Forwards events to the given tracker as well, and returns this tracker.
+     */
+    public PoolUsageStats forwardingTo(IMetricsTracker delegate) {
+        this.delegate = delegate;
+        return this;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireCount.increment();
+        acquireNanos.add(elapsedAcquiredNanos);
+        delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+        delegate.recordConnectionTimeout();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Returns the usage accumulated since the previous call and starts a new interval.
+     */
+    public Snapshot drain() {
+        long count = acquireCount.sumThenReset();
+        long nanos = acquireNanos.sumThenReset();
+        return new Snapshot(count, count == 0 ? 0L : nanos / count, timeouts.sumThenReset());
+    }
+
+    /**
+     * @param acquisitions     connection checkouts in the interval
+     * @param avgAcquireNanos  average time a checkout waited for a connection
+     * @param timeouts         checkouts that failed with a connection timeout
+     */
+    public record Snapshot(long acquisitions, long avgAcquireNanos, long timeouts) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+
+import javax.sql.DataSource;
+
+/**
+ * Extension point called by {@link PoolWarmupService} once a connector's pool is open,
+ * so other bounded contexts can warm up their own per-connector state.
+ */
+public interface PoolWarmupContributor {
+
+    void warmUp(Connector connector, DataSource dataSource) throws Exception;
+}
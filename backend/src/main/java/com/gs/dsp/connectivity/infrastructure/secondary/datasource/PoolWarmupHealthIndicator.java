@@ -0,0 +1,34 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports pool warm-up progress. It is part of the readiness group, so an instance
+ * only receives traffic once warm-up has completed (or when warm-up is disabled).
+ */
+@Component
+public class PoolWarmupHealthIndicator implements HealthIndicator {
+
+    private final PoolWarmupService poolWarmupService;
+
+    public PoolWarmupHealthIndicator(PoolWarmupService poolWarmupService) {
+        this.poolWarmupService = poolWarmupService;
+    }
+
+    @Override
+    public Health health() {
+        PoolWarmupService.State state = poolWarmupService.getState();
+        Health.Builder builder = switch (state) {
+            case DISABLED, COMPLETED -> Health.up();
+            case PENDING, RUNNING -> Health.outOfService();
+        };
+        return builder
+                .withDetail("state", state)
+                .withDetail("total", poolWarmupService.getTotal())
+                .withDetail("completed", poolWarmupService.getCompleted())
+                .withDetail("failed", poolWarmupService.getFailed())
+                .build();
+    }
+}
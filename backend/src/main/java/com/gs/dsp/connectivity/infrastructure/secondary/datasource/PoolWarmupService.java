@@ -0,0 +1,159 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorStatus;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opens the pools of all active, approved connectors right after startup so the first
+ * requests after a deploy do not pay pool creation and connection handshakes.
+ * <p>
+ * Connectors are warmed in parallel on virtual threads, limited by a global concurrency
+ * budget. For each connector the pool is created, {@code minIdle} connections are opened
+ * and every {@link PoolWarmupContributor} is invoked. Progress is exposed through
+ * {@link PoolWarmupHealthIndicator}, which keeps readiness down until warm-up finishes.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PoolWarmupService {
+
+    public enum State { DISABLED, PENDING, RUNNING, COMPLETED }
+
+    private final ConnectorRepository connectorRepository;
+    private final DataSourceManager dataSourceManager;
+    private final List<PoolWarmupContributor> contributors;
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final long timeoutMs;
+
+    private volatile State state;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public PoolWarmupService(
+            ConnectorRepository connectorRepository,
+            DataSourceManager dataSourceManager,
+            List<PoolWarmupContributor> contributors,
+            @Value("${datasource.warmup.enabled:false}") boolean enabled,
+            @Value("${datasource.warmup.max-concurrency:8}") int maxConcurrency,
+            @Value("${datasource.warmup.timeout-ms:120000}") long timeoutMs) {
+        this.connectorRepository = connectorRepository;
+        this.dataSourceManager = dataSourceManager;
+        this.contributors = contributors;
+        this.enabled = enabled;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.timeoutMs = timeoutMs;
+        this.state = enabled ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            Thread.ofVirtual().name("pool-warmup").start(this::warmUpAll);
+        }
+    }
+
+    void warmUpAll() {
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        try {
+            List<Connector> connectors = connectorRepository.findByStatus(ConnectorStatus.APPROVED).stream()
+                    .filter(Connector::isActive)
+                    .toList();
+            total.set(connectors.size());
+            log.info("Warming up pools for {} connectors (concurrency {})", connectors.size(), maxConcurrency);
+
+            Semaphore budget = new Semaphore(maxConcurrency);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                for (Connector connector : connectors) {
+                    executor.execute(() -> {
+                        try {
+                            budget.acquire();
+                            try {
+                                warmUp(connector);
+                                completed.incrementAndGet();
+                            } finally {
+                                budget.release();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            log.warn("Warm-up failed for connector {}: {}", connector.getIdValue(), e.getMessage());
+                        }
+                    });
+                }
+                executor.shutdown();
+                if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    log.warn("Pool warm-up did not finish within {} ms, cancelling the remaining connectors", timeoutMs);
+                }
+            } finally {
+                // Interrupts warm-ups still running after a timeout or interruption
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Pool warm-up aborted: {}", e.getMessage(), e);
+        } finally {
+            state = State.COMPLETED;
+            log.info("Pool warm-up phase ended after {} ms: {} warmed, {} failed",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), completed.get(), failed.get());
+        }
+    }
+
+    private void warmUp(Connector connector) throws Exception {
+        ManagedDataSource managed = dataSourceManager.getManagedDataSource(connector.getId().getId());
+
+        // Hold minIdle connections together so the pool has to establish that many before
+        // traffic arrives; Hikari opens them one after another on its connection adder thread
+        int connections = Math.max(1, managed.getSettings().minIdle());
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                opened.add(managed.getDataSource().getConnection());
+            }
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+
+        for (PoolWarmupContributor contributor : contributors) {
+            contributor.warmUp(connector, managed.getDataSource());
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+}
@@ -0,0 +1,75 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+
+/**
+ * DataSource decorator that fails fast while the connector's circuit is open and
+ * reports the outcome of every connection checkout to the circuit breaker.
+ * <p>
+ * A checkout that times out only because every pooled connection is in use says nothing
+ * about the source and is not counted. Hikari reports such a timeout without a cause,
+ * while a timeout behind failed connection attempts carries the last connect failure.
+ * </p>
+ */
+public class CircuitBreakingDataSource extends DelegatingDataSource {
+
+    private final UUID connectorId;
+    private final ConnectorCircuitBreakerRegistry circuitBreakers;
+
+    public CircuitBreakingDataSource(DataSource target, UUID connectorId, ConnectorCircuitBreakerRegistry circuitBreakers) {
+        super(target);
+        this.connectorId = connectorId;
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        circuitBreakers.checkAvailable(connectorId);
+        try {
+            Connection connection = obtainTargetDataSource().getConnection();
+            circuitBreakers.recordSuccess(connectorId);
+            return connection;
+        } catch (SQLException e) {
+            recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        circuitBreakers.checkAvailable(connectorId);
+        try {
+            Connection connection = obtainTargetDataSource().getConnection(username, password);
+            circuitBreakers.recordSuccess(connectorId);
+            return connection;
+        } catch (SQLException e) {
+            recordFailure(e);
+            throw e;
+        }
+    }
+
+    private void recordFailure(SQLException failure) {
+        if (!isPoolExhausted(failure)) {
+            circuitBreakers.recordFailure(connectorId, failure);
+        }
+    }
+
+    private boolean isPoolExhausted(SQLException failure) {
+        if (!(failure instanceof SQLTransientConnectionException) || failure.getCause() != null) {
+            return false;
+        }
+        if (!(obtainTargetDataSource() instanceof HikariDataSource hikari)) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        return pool != null && pool.getActiveConnections() > 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker of a single connector.
+ * <p>
+ * The circuit opens after {@code failureThreshold} consecutive connection failures.
+ * While open, callers fail fast; only the background prober can close it again once
+ * the source answers a validation query.
+ * </p>
+ */
+public class ConnectorCircuitBreaker {
+
+    public enum State { CLOSED, OPEN }
+
+    private final UUID connectorId;
+    private final int failureThreshold;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile State state = State.CLOSED;
+    private volatile Instant openedAt;
+    private volatile String lastError;
+    private volatile Instant lastCheckedAt;
+    private volatile long lastLatencyMs = -1;
+
+    public ConnectorCircuitBreaker(UUID connectorId, int failureThreshold) {
+        this.connectorId = connectorId;
+        this.failureThreshold = Math.max(1, failureThreshold);
+    }
+
+    public boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    public void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * @return {@code true} if this failure opened the circuit
+     */
+    public boolean recordFailure(Throwable failure) {
+        lastError = failure.getMessage();
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            synchronized (this) {
+                if (state == State.CLOSED) {
+                    openedAt = Instant.now();
+                    state = State.OPEN;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the outcome of a health probe; a successful probe closes the circuit.
+     */
+    public synchronized void recordProbe(boolean healthy, long latencyMs, String error) {
+        lastCheckedAt = Instant.now();
+        lastLatencyMs = latencyMs;
+        if (healthy) {
+            consecutiveFailures.set(0);
+            lastError = null;
+            openedAt = null;
+            state = State.CLOSED;
+        } else {
+            lastError = error;
+        }
+    }
+
+    public UUID getConnectorId() {
+        return connectorId;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    public Instant getOpenedAt() {
+        return openedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getLastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    public long getLastLatencyMs() {
+        return lastLatencyMs;
+    }
+}
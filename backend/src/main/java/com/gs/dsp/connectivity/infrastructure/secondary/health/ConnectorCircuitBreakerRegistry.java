@@ -0,0 +1,71 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one {@link ConnectorCircuitBreaker} per connector.
+ */
+@Slf4j
+@Component
+public class ConnectorCircuitBreakerRegistry {
+
+    private final ConcurrentMap<UUID, ConnectorCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final int failureThreshold;
+    private final long retryAfterSeconds;
+
+    public ConnectorCircuitBreakerRegistry(
+            @Value("${connector-health.failure-threshold:5}") int failureThreshold,
+            @Value("${connector-health.probe-interval-ms:10000}") long probeIntervalMs) {
+        this.failureThreshold = failureThreshold;
+        this.retryAfterSeconds = Math.max(1L, probeIntervalMs / 1000);
+    }
+
+    public ConnectorCircuitBreaker get(UUID connectorId) {
+        return breakers.computeIfAbsent(connectorId, id -> new ConnectorCircuitBreaker(id, failureThreshold));
+    }
+
+    /**
+     * Fails fast when the connector's circuit is open.
+     */
+    public void checkAvailable(UUID connectorId) {
+        ConnectorCircuitBreaker breaker = breakers.get(connectorId);
+        if (breaker != null && breaker.isOpen()) {
+            throw new ConnectorUnavailableException(connectorId, retryAfterSeconds);
+        }
+    }
+
+    public void recordSuccess(UUID connectorId) {
+        ConnectorCircuitBreaker breaker = breakers.get(connectorId);
+        if (breaker != null) {
+            breaker.recordSuccess();
+        }
+    }
+
+    public void recordFailure(UUID connectorId, Throwable failure) {
+        if (get(connectorId).recordFailure(failure)) {
+            log.warn("Circuit opened for connector {} after {} consecutive failures: {}",
+                    connectorId, failureThreshold, failure.getMessage());
+        }
+    }
+
+    public Collection<ConnectorCircuitBreaker> getAll() {
+        return List.copyOf(breakers.values());
+    }
+
+    public void remove(UUID connectorId) {
+        breakers.remove(connectorId);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
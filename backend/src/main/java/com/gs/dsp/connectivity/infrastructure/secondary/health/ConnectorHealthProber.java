@@ -0,0 +1,119 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceFactory;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceManager;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.ManagedDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background prober for connector health.
+ * <p>
+ * Every interval it checks, in parallel on virtual threads, each connector with an open
+ * circuit and each connector with an open pool, using the driver's lightweight validation
+ * ({@link Connection#isValid(int)}). A successful probe closes an open circuit; the
+ * results are cached on the breakers and reported by {@link ConnectorsHealthIndicator}.
+ * </p>
+ * <p>
+ * Probes go through the connector's existing pool, looked up without touching it, so a
+ * probe neither opens a pool nor keeps an idle one from being evicted. An open circuit
+ * whose connector has no pool is probed with a one-off unpooled connection.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ConnectorHealthProber {
+
+    private final DataSourceManager dataSourceManager;
+    private final DataSourceFactory dataSourceFactory;
+    private final ConnectorRepository connectorRepository;
+    private final ConnectorCircuitBreakerRegistry circuitBreakers;
+    private final int validationTimeoutSeconds;
+
+    public ConnectorHealthProber(
+            DataSourceManager dataSourceManager,
+            DataSourceFactory dataSourceFactory,
+            ConnectorRepository connectorRepository,
+            ConnectorCircuitBreakerRegistry circuitBreakers,
+            @Value("${connector-health.validation-timeout-seconds:3}") int validationTimeoutSeconds) {
+        this.dataSourceManager = dataSourceManager;
+        this.dataSourceFactory = dataSourceFactory;
+        this.connectorRepository = connectorRepository;
+        this.circuitBreakers = circuitBreakers;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${connector-health.probe-interval-ms:10000}")
+    public void probeConnectors() {
+        Set<UUID> targets = new LinkedHashSet<>();
+        circuitBreakers.getAll().stream()
+                .filter(ConnectorCircuitBreaker::isOpen)
+                .forEach(breaker -> targets.add(breaker.getConnectorId()));
+        dataSourceManager.getManagedDataSources()
+                .forEach(managed -> targets.add(managed.getConnectorId()));
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID connectorId : targets) {
+                executor.execute(() -> probe(connectorId));
+            }
+        }
+    }
+
+    private void probe(UUID connectorId) {
+        ConnectorCircuitBreaker breaker = circuitBreakers.get(connectorId);
+        long start = System.nanoTime();
+        try {
+            boolean valid;
+            try (Connection connection = connect(connectorId)) {
+                valid = connection.isValid(validationTimeoutSeconds);
+            }
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (valid) {
+                if (breaker.isOpen()) {
+                    log.info("Connector {} recovered, closing circuit", connectorId);
+                }
+                breaker.recordProbe(true, latencyMs, null);
+            } else {
+                onProbeFailure(breaker, latencyMs, "Validation query failed");
+            }
+        } catch (Exception e) {
+            onProbeFailure(breaker, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e.getMessage());
+        }
+    }
+
+    private Connection connect(UUID connectorId) throws SQLException {
+        Optional<ManagedDataSource> managed = dataSourceManager.findManagedDataSource(connectorId);
+        if (managed.isPresent()) {
+            return managed.get().getDataSource().getConnection();
+        }
+        Connector connector = connectorRepository.findById(new ConnectorId(connectorId))
+                .orElseThrow(() -> new IllegalStateException("Connector not found: " + connectorId));
+        return dataSourceFactory.openConnection(connector);
+    }
+
+    private void onProbeFailure(ConnectorCircuitBreaker breaker, long latencyMs, String error) {
+        breaker.recordProbe(false, latencyMs, error);
+        if (!breaker.isOpen()) {
+            circuitBreakers.recordFailure(breaker.getConnectorId(), new IllegalStateException(error));
+        }
+        log.debug("Health probe failed for connector {}: {}", breaker.getConnectorId(), error);
+    }
+}
@@ -0,0 +1,54 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes the cached per-connector health as the {@code connectors} health component.
+ * <p>
+ * An unreachable source database does not make this application unhealthy, so the
+ * component stays UP and lists open circuits in its details.
+ * </p>
+ */
+@Component
+public class ConnectorsHealthIndicator implements HealthIndicator {
+
+    private final ConnectorCircuitBreakerRegistry circuitBreakers;
+
+    public ConnectorsHealthIndicator(ConnectorCircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> connectors = new LinkedHashMap<>();
+        long open = 0;
+        for (ConnectorCircuitBreaker breaker : circuitBreakers.getAll()) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("state", breaker.getState());
+            detail.put("consecutiveFailures", breaker.getConsecutiveFailures());
+            if (breaker.getOpenedAt() != null) {
+                detail.put("openedAt", breaker.getOpenedAt());
+            }
+            if (breaker.getLastCheckedAt() != null) {
+                detail.put("lastCheckedAt", breaker.getLastCheckedAt());
+                detail.put("latencyMs", breaker.getLastLatencyMs());
+            }
+            if (breaker.getLastError() != null) {
+                detail.put("lastError", breaker.getLastError());
+            }
+            connectors.put(breaker.getConnectorId().toString(), detail);
+            if (breaker.isOpen()) {
+                open++;
+            }
+        }
+        return Health.up()
+                .withDetail("openCircuits", open)
+                .withDetail("connectors", connectors)
+                .build();
+    }
+}
@@ -0,0 +1,251 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata;
+
+import com.gs.dsp.connectivity.domain.event.ConnectorSchemaChangedEvent;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorStatus;
+import com.gs.dsp.connectivity.domain.model.RegisteredTable;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
+import com.gs.dsp.connectivity.domain.service.SchemaMetadataMerger;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceManager;
+import com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog.CatalogIntrospector;
+import com.gs.dsp.shared.domain.model.DomainEvent;
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the registered table metadata of approved connectors in step with their sources.
+ * <p>
+ * Each connector is synced once per interval plus a random jitter, so connectors do not
+ * all hit their databases at once, and at most {@code max-concurrency} syncs run at a
+ * time. A sync first reads only the column catalog to fingerprint the registered tables;
+ * when the connector's fingerprint is unchanged nothing else happens. Otherwise only the
+ * tables whose fingerprint differs are re-read and merged with {@link SchemaMetadataMerger},
+ * which keeps curated names, descriptions and visibility. A {@link ConnectorSchemaChangedEvent}
+ * then lets the endpoints built on those tables drop their cached state.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MetadataSyncService {
+
+    private final ConnectorRepository connectorRepository;
+    private final RegisteredTableRepository registeredTableRepository;
+    private final DataSourceManager dataSourceManager;
+    private final CatalogIntrospector catalogIntrospector;
+    private final SchemaMetadataMerger schemaMetadataMerger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long jitterNanos;
+    private final Semaphore permits;
+
+    private final Map<UUID, Long> nextSyncAt = new ConcurrentHashMap<>();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService syncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MetadataSyncService(
+            ConnectorRepository connectorRepository,
+            RegisteredTableRepository registeredTableRepository,
+            DataSourceManager dataSourceManager,
+            CatalogIntrospector catalogIntrospector,
+            SchemaMetadataMerger schemaMetadataMerger,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${metadata-sync.enabled:true}") boolean enabled,
+            @Value("${metadata-sync.interval-ms:900000}") long intervalMs,
+            @Value("${metadata-sync.jitter-ms:60000}") long jitterMs,
+            @Value("${metadata-sync.max-concurrency:4}") int maxConcurrency) {
+        if (intervalMs <= 0 || jitterMs < 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Invalid metadata sync settings");
+        }
+        this.connectorRepository = connectorRepository;
+        this.registeredTableRepository = registeredTableRepository;
+        this.dataSourceManager = dataSourceManager;
+        this.catalogIntrospector = catalogIntrospector;
+        this.schemaMetadataMerger = schemaMetadataMerger;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        this.jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMs);
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Starts syncs for the connectors that are due, as long as permits are available.
+     * Connectors seen for the first time are scheduled within one jitter window.
+     */
+    @Scheduled(fixedDelayString = "${metadata-sync.tick-ms:30000}")
+    public void syncDueConnectors() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        Set<UUID> candidates = connectorRepository.findByStatus(ConnectorStatus.APPROVED).stream()
+                .filter(Connector::isActive)
+                .map(connector -> connector.getId().getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        nextSyncAt.keySet().retainAll(candidates);
+
+        for (UUID connectorId : candidates) {
+            long due = nextSyncAt.computeIfAbsent(connectorId, id -> now + jitter());
+            if (due - now > 0 || inFlight.contains(connectorId)) {
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            inFlight.add(connectorId);
+            syncExecutor.execute(() -> {
+                try {
+                    sync(connectorId);
+                } catch (ConnectorUnavailableException e) {
+                    log.debug("Skipping metadata sync, connector {} is unavailable", connectorId);
+                } catch (Exception e) {
+                    log.warn("Metadata sync failed for connector {}: {}", connectorId, e.getMessage());
+                } finally {
+                    nextSyncAt.put(connectorId, System.nanoTime() + intervalNanos + jitter());
+                    inFlight.remove(connectorId);
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Syncs one connector's registered tables with its source.
+     *
+     * @return Names of the registered tables that changed; empty when nothing changed
+     */
+    public Set<String> sync(UUID connectorId) {
+        ConnectorId id = new ConnectorId(connectorId);
+        Connector connector = connectorRepository.findById(id).orElse(null);
+        if (connector == null || connector.getStatus() != ConnectorStatus.APPROVED || !connector.isActive()) {
+            return Set.of();
+        }
+        List<RegisteredTable> registered = registeredTableRepository.findByConnectorIdOrderByPosition(id);
+        if (registered.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> schemas = CatalogIntrospector.schemasFromConfig(connector.getConfig().getConfigMap());
+        DataSource dataSource = dataSourceManager.getDataSource(connectorId);
+        Map<String, String> sourceFingerprints = catalogIntrospector.fingerprints(dataSource, schemas);
+        LocalDateTime syncedAt = LocalDateTime.now();
+
+        String fingerprint = fingerprintOf(registered, sourceFingerprints);
+        Set<String> stale = fingerprint.equals(connector.getSchemaFingerprint())
+                ? Set.of()
+                : registered.stream()
+                        .filter(table -> !Objects.equals(table.getFingerprint(), sourceFingerprints.get(table.getName())))
+                        .map(RegisteredTable::getName)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, TableMetadata> fresh = stale.isEmpty()
+                ? Map.of()
+                : catalogIntrospector.introspect(dataSource, schemas, stale).stream()
+                        .collect(Collectors.toMap(TableMetadata::getName, Function.identity()));
+
+        // Re-read inside the transaction so edits saved while the catalog was read are kept
+        Connector updated = transactionTemplate.execute(status -> {
+            Connector current = connectorRepository.findById(id).orElse(null);
+            if (current == null) {
+                return null;
+            }
+            if (stale.isEmpty()) {
+                current.markMetadataSynced(fingerprint, syncedAt);
+                return connectorRepository.save(current);
+            }
+            List<RegisteredTable> tables = registeredTableRepository.findByConnectorIdOrderByPosition(id);
+            List<RegisteredTable> staleTables = tables.stream()
+                    .filter(table -> stale.contains(table.getName()))
+                    .toList();
+            SchemaMetadataMerger.MergeResult result = schemaMetadataMerger.merge(
+                    staleTables.stream().map(RegisteredTable::toMetadata).toList(), fresh, stale, syncedAt);
+
+            Map<String, TableMetadata> merged = result.tables().stream()
+                    .collect(Collectors.toMap(TableMetadata::getName, Function.identity()));
+            List<RegisteredTable> remaining = new ArrayList<>(tables);
+            for (RegisteredTable table : staleTables) {
+                TableMetadata metadata = merged.get(table.getName());
+                if (metadata == null) {
+                    registeredTableRepository.delete(table);
+                    remaining.remove(table);
+                } else {
+                    table.replaceWith(metadata);
+                    registeredTableRepository.save(table);
+                }
+            }
+
+            String mergedFingerprint = fingerprintOf(remaining, sourceFingerprints);
+            if (result.changedTables().isEmpty()) {
+                current.markMetadataSynced(mergedFingerprint, syncedAt);
+            } else {
+                current.applyMetadataSync(result.changedTables(), mergedFingerprint, syncedAt);
+            }
+            return connectorRepository.save(current);
+        });
+        if (updated == null) {
+            return Set.of();
+        }
+
+        Set<String> changed = Set.of();
+        for (DomainEvent event : updated.getDomainEvents()) {
+            eventPublisher.publishEvent(event);
+            if (event instanceof ConnectorSchemaChangedEvent schemaChanged) {
+                changed = schemaChanged.getChangedTables();
+            }
+        }
+        updated.clearDomainEvents();
+        if (!changed.isEmpty()) {
+            log.info("Metadata sync updated {} table(s) of connector {}: {}", changed.size(), connectorId, changed);
+        }
+        return changed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+    }
+
+    private static String fingerprintOf(List<RegisteredTable> tables, Map<String, String> sourceFingerprints) {
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        for (RegisteredTable table : tables) {
+            fingerprints.put(table.getName(), String.valueOf(sourceFingerprints.get(table.getName())));
+        }
+        return CatalogIntrospector.fingerprint(fingerprints);
+    }
+
+    private long jitter() {
+        return jitterNanos == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterNanos);
+    }
+}
@@ -0,0 +1,53 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog;
+
+/**
+ * Database-specific catalog queries used for introspection.
+ * <p>
+ * Every query takes a {@code :schema} bind parameter and returns these columns:
+ * </p>
+ * <ul>
+ *   <li>columns: {@code table_name, column_name, data_type, ordinal_position}</li>
+ *   <li>primary keys: {@code table_name, column_name}</li>
+ *   <li>foreign keys: {@code table_name, column_name, foreign_table_schema,
+ *       foreign_table_name, foreign_column_name}</li>
+ * </ul>
+ * <p>
+ * Asked for {@code someTables}, a query reads only the tables of the schema named in its
+ * {@code <tables>} list, bound with Jdbi's {@code bindList}, instead of the whole schema.
+ * </p>
+ * <p>
+ * Dialects also say how to read a bounded sample of a table for column profiling.
+ * </p>
+ */
+public interface CatalogDialect {
+
+    /**
+     * @param databaseProductName value of {@code DatabaseMetaData#getDatabaseProductName()}
+     */
+    boolean supports(String databaseProductName);
+
+    String columnsQuery(boolean someTables);
+
+    String primaryKeysQuery(boolean someTables);
+
+    String foreignKeysQuery(boolean someTables);
+
+    /**
+     * Query for the planner's row estimate of a table, taking {@code :schema} and {@code :table}
+     * bind parameters and returning one {@code estimate} column; null when the database has none.
+     */
+    default String rowEstimateQuery() {
+        return null;
+    }
+
+    /**
+     * Query reading at most {@code limit} rows of a table.
+     *
+     * @param table         Quoted, schema-qualified table name
+     * @param columns       Quoted, comma-separated column list
+     * @param estimatedRows Planner row estimate, or -1 when unknown
+     */
+    default String sampleQuery(String table, String columns, long estimatedRows, int limit) {
+        return "SELECT " + columns + " FROM " + table + " LIMIT " + limit;
+    }
+}
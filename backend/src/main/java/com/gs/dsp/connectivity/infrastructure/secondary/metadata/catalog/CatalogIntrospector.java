@@ -0,0 +1,371 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.shared.infrastructure.config.RequestContext;
+import com.gs.dsp.shared.kernel.constants.FieldNames;
+import com.zaxxer.hikari.HikariDataSource;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.Query;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reads tables, columns, primary keys and foreign keys from a database catalog.
+ * <p>
+ * Columns, primary keys and foreign keys are fetched by three small queries instead of
+ * one large join, and merged in memory. Against a pool, the queries for all schemas run
+ * concurrently on virtual threads, each on its own connection, but never on more than a
+ * quarter of the pool's connections so live endpoint traffic keeps the rest; against a
+ * single connection they run one after another.
+ * </p>
+ * Tables of the first schema keep their plain name; tables of additional schemas are
+ * named {@code schema.table}. Every table carries a {@link #fingerprint(TableMetadata)
+ * structural fingerprint} so later syncs can tell which tables changed.
+ */
+@Component
+public class CatalogIntrospector {
+
+    /** Catalog queries may use at most 1/POOL_SHARE of a pool's connections. */
+    private static final int POOL_SHARE = 4;
+    /** Concurrency against pools whose size cannot be read. */
+    private static final int DEFAULT_CONCURRENCY = 2;
+    /** List attribute the dialects filter on when only some tables are read. */
+    private static final String TABLES = "tables";
+
+    private final List<CatalogDialect> dialects;
+
+    public CatalogIntrospector(List<CatalogDialect> dialects) {
+        this.dialects = dialects;
+    }
+
+    /**
+     * Introspects through a connection pool, running all catalog queries concurrently.
+     */
+    public List<TableMetadata> introspect(DataSource dataSource, List<String> schemas) {
+        return introspect(dataSource, schemas, null);
+    }
+
+    /**
+     * Introspects only the named tables through a connection pool; the catalog queries
+     * read just those tables rather than whole schemas.
+     *
+     * @param tables Table names as {@link #introspect} names tables, or null for all
+     */
+    public List<TableMetadata> introspect(DataSource dataSource, List<String> schemas, Set<String> tables) {
+        Jdbi jdbi = Jdbi.create(dataSource);
+        CatalogDialect dialect = jdbi.withHandle(this::resolveDialect);
+        List<CatalogQuery> queries = queriesFor(dialect, schemas, EnumSet.allOf(Kind.class), tables);
+        return merge(queries, runConcurrently(jdbi, queries, maxConcurrentQueries(dataSource)), schemas.get(0));
+    }
+
+    /**
+     * Computes the structural fingerprint of every table through a connection pool.
+     * Only the column queries run, so this is much cheaper than a full introspection.
+     *
+     * @return Fingerprint by table name, named as {@link #introspect} names tables
+     */
+    public Map<String, String> fingerprints(DataSource dataSource, List<String> schemas) {
+        Jdbi jdbi = Jdbi.create(dataSource);
+        CatalogDialect dialect = jdbi.withHandle(this::resolveDialect);
+        List<CatalogQuery> queries = queriesFor(dialect, schemas, EnumSet.of(Kind.COLUMNS), null);
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        List<List<Map<String, Object>>> results = runConcurrently(jdbi, queries, maxConcurrentQueries(dataSource));
+        for (TableMetadata table : merge(queries, results, schemas.get(0))) {
+            fingerprints.put(table.getName(), table.getFingerprint());
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Fingerprint of a table's structure: a SHA-256 over its column names and data types,
+     * in catalog order. Key changes do not alter the fingerprint.
+     */
+    public static String fingerprint(TableMetadata table) {
+        MessageDigest digest = sha256();
+        for (ColumnMetadata column : table.getColumns()) {
+            digest.update((column.getName() + ':' + column.getDataType() + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Combines table fingerprints into one, independent of map iteration order.
+     */
+    public static String fingerprint(Map<String, String> tableFingerprints) {
+        MessageDigest digest = sha256();
+        new TreeMap<>(tableFingerprints).forEach((table, fingerprint) ->
+                digest.update((table + '=' + fingerprint + '\n').getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * How many catalog queries may hold a connection of the pool at once.
+     */
+    static int maxConcurrentQueries(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / POOL_SHARE);
+            }
+        } catch (SQLException e) {
+            // Fall through to the default
+        }
+        return DEFAULT_CONCURRENCY;
+    }
+
+    private static List<List<Map<String, Object>>> runConcurrently(Jdbi jdbi, List<CatalogQuery> queries,
+                                                                   int maxConcurrentQueries) {
+        List<List<Map<String, Object>>> results = new ArrayList<>(queries.size());
+        RequestContext context = RequestContext.current();
+        Semaphore permits = new Semaphore(maxConcurrentQueries);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<List<Map<String, Object>>>> futures = new ArrayList<>(queries.size());
+        try {
+            for (CatalogQuery query : queries) {
+                futures.add(executor.submit(RequestContext.wrap(() -> {
+                    permits.acquire();
+                    try {
+                        return jdbi.withHandle(handle -> query.run(handle));
+                    } finally {
+                        permits.release();
+                    }
+                })));
+            }
+            for (Future<List<Map<String, Object>>> future : futures) {
+                // Within a request, stop waiting once its deadline has passed
+                results.add(context == null
+                        ? future.get()
+                        : future.get(context.remainingMillis(), TimeUnit.MILLISECONDS));
+            }
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Timed out reading catalog", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading catalog", e);
+        } finally {
+            // Unlike close(), does not wait for JDBC calls that ignore the interrupt; their
+            // statement timeout ends them and returns the connections to the pool
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Introspects over a single connection, running the catalog queries sequentially.
+     * The connection is closed afterwards.
+     */
+    public List<TableMetadata> introspect(Connection connection, List<String> schemas) {
+        try (Handle handle = Jdbi.open(connection)) {
+            CatalogDialect dialect = resolveDialect(handle);
+            List<CatalogQuery> queries = queriesFor(dialect, schemas, EnumSet.allOf(Kind.class), null);
+            List<List<Map<String, Object>>> results = new ArrayList<>(queries.size());
+            for (CatalogQuery query : queries) {
+                results.add(query.run(handle));
+            }
+            return merge(queries, results, schemas.get(0));
+        }
+    }
+
+    /**
+     * Reads the schemas to introspect from a connector config: {@code schemas} (list or
+     * comma-separated), else {@code schema}, else the default schema.
+     */
+    public static List<String> schemasFromConfig(Map<String, Object> config) {
+        List<String> schemas = new ArrayList<>();
+        Object configured = config.get(FieldNames.SCHEMAS);
+        if (configured instanceof List<?> list) {
+            list.forEach(value -> addSchema(schemas, value));
+        } else if (configured instanceof String csv) {
+            for (String value : csv.split(",")) {
+                addSchema(schemas, value);
+            }
+        }
+        if (schemas.isEmpty()) {
+            addSchema(schemas, config.getOrDefault(FieldNames.SCHEMA, FieldNames.DEFAULT_SCHEMA));
+        }
+        if (schemas.isEmpty()) {
+            schemas.add(FieldNames.DEFAULT_SCHEMA);
+        }
+        return schemas;
+    }
+
+    private static void addSchema(List<String> schemas, Object value) {
+        if (value != null) {
+            String schema = value.toString().trim();
+            if (!schema.isEmpty() && !schemas.contains(schema)) {
+                schemas.add(schema);
+            }
+        }
+    }
+
+    /**
+     * The first dialect supporting a database product.
+     *
+     * @param databaseProductName value of {@code DatabaseMetaData#getDatabaseProductName()}
+     */
+    public CatalogDialect dialectFor(String databaseProductName) {
+        return dialects.stream()
+                .filter(dialect -> dialect.supports(databaseProductName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No catalog dialect for " + databaseProductName));
+    }
+
+    private CatalogDialect resolveDialect(Handle handle) {
+        try {
+            return dialectFor(handle.getConnection().getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read database metadata: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<CatalogQuery> queriesFor(CatalogDialect dialect, List<String> schemas, Set<Kind> kinds,
+                                                 Set<String> tables) {
+        Map<String, List<String>> tablesBySchema = tables == null ? null : tablesBySchema(schemas, tables);
+        List<CatalogQuery> queries = new ArrayList<>(schemas.size() * kinds.size());
+        for (String schema : schemas) {
+            List<String> schemaTables = tablesBySchema == null ? null : tablesBySchema.get(schema);
+            if (tablesBySchema != null && schemaTables == null) {
+                continue;
+            }
+            boolean someTables = schemaTables != null;
+            for (Kind kind : kinds) {
+                String sql = switch (kind) {
+                    case COLUMNS -> dialect.columnsQuery(someTables);
+                    case PRIMARY_KEYS -> dialect.primaryKeysQuery(someTables);
+                    case FOREIGN_KEYS -> dialect.foreignKeysQuery(someTables);
+                };
+                queries.add(new CatalogQuery(schema, kind, sql, schemaTables));
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * Splits table names as {@link #introspect} names them into catalog table names by schema.
+     */
+    private static Map<String, List<String>> tablesBySchema(List<String> schemas, Set<String> tables) {
+        Map<String, List<String>> tablesBySchema = new HashMap<>();
+        for (String table : tables) {
+            String schema = schemas.get(0);
+            String name = table;
+            for (String other : schemas.subList(1, schemas.size())) {
+                if (table.startsWith(other + ".")) {
+                    schema = other;
+                    name = table.substring(other.length() + 1);
+                    break;
+                }
+            }
+            tablesBySchema.computeIfAbsent(schema, key -> new ArrayList<>()).add(name);
+        }
+        return tablesBySchema;
+    }
+
+    private static List<TableMetadata> merge(List<CatalogQuery> queries, List<List<Map<String, Object>>> results,
+                                             String primarySchema) {
+        Map<String, TableMetadata> tables = new LinkedHashMap<>();
+        Map<String, ColumnMetadata> columns = new HashMap<>();
+        Set<String> primaryKeys = new HashSet<>();
+        Map<String, String> foreignKeys = new HashMap<>();
+
+        for (int i = 0; i < queries.size(); i++) {
+            CatalogQuery query = queries.get(i);
+            for (Map<String, Object> row : results.get(i)) {
+                String table = tableKey(query.schema(), string(row, "table_name"), primarySchema);
+                String columnKey = table + "\u0000" + string(row, "column_name");
+                switch (query.kind()) {
+                    case COLUMNS -> {
+                        ColumnMetadata column = new ColumnMetadata(string(row, "column_name"), string(row, "data_type"));
+                        tables.computeIfAbsent(table, name -> new TableMetadata(name, new ArrayList<>()))
+                                .getColumns().add(column);
+                        columns.put(columnKey, column);
+                    }
+                    case PRIMARY_KEYS -> primaryKeys.add(columnKey);
+                    case FOREIGN_KEYS -> foreignKeys.put(columnKey,
+                            tableKey(string(row, "foreign_table_schema"), string(row, "foreign_table_name"), primarySchema)
+                                    + "." + string(row, "foreign_column_name"));
+                }
+            }
+        }
+
+        primaryKeys.forEach(key -> {
+            ColumnMetadata column = columns.get(key);
+            if (column != null) {
+                column.setPrimaryKey(true);
+            }
+        });
+        foreignKeys.forEach((key, target) -> {
+            ColumnMetadata column = columns.get(key);
+            if (column != null) {
+                column.setForeignKey(true);
+                column.setForeignKeyTarget(target);
+            }
+        });
+        tables.values().forEach(table -> table.setFingerprint(fingerprint(table)));
+        return new ArrayList<>(tables.values());
+    }
+
+    private static String tableKey(String schema, String table, String primarySchema) {
+        return schema == null || schema.equals(primarySchema) ? table : schema + "." + table;
+    }
+
+    private static String string(Map<String, Object> row, String key) {
+        Object value = row.get(key);
+        return value == null ? null : value.toString();
+    }
+
+    private enum Kind { COLUMNS, PRIMARY_KEYS, FOREIGN_KEYS }
+
+    private record CatalogQuery(String schema, Kind kind, String sql, List<String> tables) {
+        List<Map<String, Object>> run(Handle handle) {
+            Query query = handle.createQuery(sql).bind(FieldNames.SCHEMA, schema);
+            if (tables != null) {
+                query.bindList(TABLES, tables);
+            }
+            RequestContext context = RequestContext.current();
+            if (context != null && context.deadline() != null) {
+                // Let the driver give up at the request deadline, interrupt or not
+                query.setQueryTimeout((int) Math.max(1, (context.remainingMillis() + 999) / 1000));
+            }
+            return query.mapToMap().list();
+        }
+    }
+}
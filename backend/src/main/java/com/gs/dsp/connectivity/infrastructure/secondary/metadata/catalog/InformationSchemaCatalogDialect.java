@@ -0,0 +1,76 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portable fallback based on the SQL-standard {@code information_schema} views
+ * (H2, MySQL, SQL Server, ...). Foreign keys are resolved through
+ * {@code referential_constraints} so composite keys map column by column.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class InformationSchemaCatalogDialect implements CatalogDialect {
+
+    private static final String COLUMNS = """
+            SELECT table_name, column_name, data_type, ordinal_position
+            FROM information_schema.columns
+            WHERE table_schema = :schema
+              %s
+            ORDER BY table_name, ordinal_position
+            """;
+
+    private static final String PRIMARY_KEYS = """
+            SELECT kcu.table_name, kcu.column_name
+            FROM information_schema.table_constraints tc
+            JOIN information_schema.key_column_usage kcu
+              ON kcu.constraint_schema = tc.constraint_schema
+             AND kcu.constraint_name = tc.constraint_name
+             AND kcu.table_name = tc.table_name
+            WHERE tc.constraint_type = 'PRIMARY KEY'
+              AND tc.table_schema = :schema
+              %s
+            """;
+
+    private static final String FOREIGN_KEYS = """
+            SELECT kcu.table_name,
+                   kcu.column_name,
+                   ukcu.table_schema AS foreign_table_schema,
+                   ukcu.table_name AS foreign_table_name,
+                   ukcu.column_name AS foreign_column_name
+            FROM information_schema.referential_constraints rc
+            JOIN information_schema.key_column_usage kcu
+              ON kcu.constraint_schema = rc.constraint_schema
+             AND kcu.constraint_name = rc.constraint_name
+            JOIN information_schema.key_column_usage ukcu
+              ON ukcu.constraint_schema = rc.unique_constraint_schema
+             AND ukcu.constraint_name = rc.unique_constraint_name
+             AND ukcu.ordinal_position = kcu.position_in_unique_constraint
+            WHERE kcu.table_schema = :schema
+              %s
+            """;
+
+    private static final String COLUMNS_TABLE_FILTER = "AND table_name IN (<tables>)";
+    private static final String KEYS_TABLE_FILTER = "AND kcu.table_name IN (<tables>)";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return true;
+    }
+
+    @Override
+    public String columnsQuery(boolean someTables) {
+        return COLUMNS.formatted(someTables ? COLUMNS_TABLE_FILTER : "");
+    }
+
+    @Override
+    public String primaryKeysQuery(boolean someTables) {
+        return PRIMARY_KEYS.formatted(someTables ? KEYS_TABLE_FILTER : "");
+    }
+
+    @Override
+    public String foreignKeysQuery(boolean someTables) {
+        return FOREIGN_KEYS.formatted(someTables ? KEYS_TABLE_FILTER : "");
+    }
+}
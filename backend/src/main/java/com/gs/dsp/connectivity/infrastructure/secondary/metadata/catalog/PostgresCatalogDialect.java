@@ -0,0 +1,119 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Reads PostgreSQL's {@code pg_catalog} directly. The {@code information_schema} views
+ * are built on top of it with per-row privilege checks and many joins, and are much
+ * slower on schemas with thousands of tables.
+ */
+@Component
+@Order(1)
+public class PostgresCatalogDialect implements CatalogDialect {
+
+    private static final String COLUMNS = """
+            SELECT c.relname AS table_name,
+                   a.attname AS column_name,
+                   pg_catalog.format_type(a.atttypid, NULL) AS data_type,
+                   a.attnum AS ordinal_position
+            FROM pg_catalog.pg_attribute a
+            JOIN pg_catalog.pg_class c ON c.oid = a.attrelid
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = :schema
+              AND c.relkind IN ('r', 'p', 'v', 'm', 'f')
+              AND NOT c.relispartition
+              AND a.attnum > 0
+              AND NOT a.attisdropped
+              %s
+            ORDER BY c.relname, a.attnum
+            """;
+
+    private static final String PRIMARY_KEYS = """
+            SELECT c.relname AS table_name,
+                   a.attname AS column_name
+            FROM pg_catalog.pg_constraint con
+            JOIN pg_catalog.pg_class c ON c.oid = con.conrelid
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            JOIN pg_catalog.pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = ANY (con.conkey)
+            WHERE n.nspname = :schema
+              AND con.contype = 'p'
+              %s
+            """;
+
+    private static final String FOREIGN_KEYS = """
+            SELECT c.relname AS table_name,
+                   a.attname AS column_name,
+                   fn.nspname AS foreign_table_schema,
+                   fc.relname AS foreign_table_name,
+                   fa.attname AS foreign_column_name
+            FROM pg_catalog.pg_constraint con
+            JOIN pg_catalog.pg_class c ON c.oid = con.conrelid
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            JOIN pg_catalog.pg_class fc ON fc.oid = con.confrelid
+            JOIN pg_catalog.pg_namespace fn ON fn.oid = fc.relnamespace
+            CROSS JOIN LATERAL unnest(con.conkey, con.confkey) AS k(attnum, fattnum)
+            JOIN pg_catalog.pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+            JOIN pg_catalog.pg_attribute fa ON fa.attrelid = con.confrelid AND fa.attnum = k.fattnum
+            WHERE n.nspname = :schema
+              AND con.contype = 'f'
+              %s
+            """;
+
+    private static final String ROW_ESTIMATE = """
+            SELECT c.reltuples::bigint AS estimate
+            FROM pg_catalog.pg_class c
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = :schema
+              AND c.relname = :table
+              AND c.relkind IN ('r', 'm')
+            """;
+
+    private static final String TABLE_FILTER = "AND c.relname IN (<tables>)";
+
+    /** Sample twice the rows needed, since block sampling returns uneven row counts. */
+    private static final int SAMPLE_OVERSHOOT = 2;
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String columnsQuery(boolean someTables) {
+        return COLUMNS.formatted(someTables ? TABLE_FILTER : "");
+    }
+
+    @Override
+    public String primaryKeysQuery(boolean someTables) {
+        return PRIMARY_KEYS.formatted(someTables ? TABLE_FILTER : "");
+    }
+
+    @Override
+    public String foreignKeysQuery(boolean someTables) {
+        return FOREIGN_KEYS.formatted(someTables ? TABLE_FILTER : "");
+    }
+
+    @Override
+    public String rowEstimateQuery() {
+        return ROW_ESTIMATE;
+    }
+
+    /**
+     * Large tables are read with {@code TABLESAMPLE SYSTEM}, which picks whole pages at
+     * random instead of scanning the table. Views, unanalyzed tables and tables not much
+     * larger than the sample fall back to a plain {@code LIMIT}.
+     */
+    @Override
+    public String sampleQuery(String table, String columns, long estimatedRows, int limit) {
+        long wanted = (long) limit * SAMPLE_OVERSHOOT;
+        if (estimatedRows <= wanted) {
+            return CatalogDialect.super.sampleQuery(table, columns, estimatedRows, limit);
+        }
+        double percent = Math.max(100.0 * wanted / estimatedRows, 0.0001);
+        return String.format(Locale.ROOT, "SELECT %s FROM %s TABLESAMPLE SYSTEM (%.4f) LIMIT %d",
+                columns, table, percent, limit);
+    }
+}
@@ -0,0 +1,140 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata.profiling;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.service.TableProfiler;
+import com.gs.dsp.connectivity.domain.service.profiling.ColumnProfiler;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceManager;
+import com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog.CatalogDialect;
+import com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog.CatalogIntrospector;
+import com.gs.dsp.shared.kernel.constants.FieldNames;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.JdbiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Infrastructure implementation of TableProfiler.
+ * Adapter in Hexagonal Architecture.
+ * <p>
+ * Reads at most {@code profiling.sample-rows} rows of the table through the connector's
+ * pool, using the dialect's sampling clause where the database has one, and streams them
+ * through one {@link ColumnProfiler} per column. Rows are fetched in batches inside a
+ * read-only transaction so drivers such as PostgreSQL's use a cursor instead of loading
+ * the whole sample at once.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SampledTableProfiler implements TableProfiler {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final DataSourceManager dataSourceManager;
+    private final CatalogIntrospector catalogIntrospector;
+    private final int sampleRows;
+    private final int topK;
+    private final int queryTimeoutSeconds;
+
+    public SampledTableProfiler(
+            DataSourceManager dataSourceManager,
+            CatalogIntrospector catalogIntrospector,
+            @Value("${profiling.sample-rows:10000}") int sampleRows,
+            @Value("${profiling.top-k:10}") int topK,
+            @Value("${profiling.query-timeout-seconds:30}") int queryTimeoutSeconds) {
+        if (sampleRows <= 0 || topK <= 0 || queryTimeoutSeconds <= 0) {
+            throw new IllegalArgumentException("Invalid profiling settings");
+        }
+        this.dataSourceManager = dataSourceManager;
+        this.catalogIntrospector = catalogIntrospector;
+        this.sampleRows = sampleRows;
+        this.topK = topK;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+    }
+
+    @Override
+    public Map<String, ColumnProfile> profile(Connector connector, TableMetadata table) {
+        List<ColumnMetadata> columns = table.getColumns() != null ? table.getColumns() : List.of();
+        if (columns.isEmpty()) {
+            return Map.of();
+        }
+        List<String> schemas = CatalogIntrospector.schemasFromConfig(connector.getConfig().getConfigMap());
+        int dot = table.getName().indexOf('.');
+        String schema = dot < 0 ? schemas.get(0) : table.getName().substring(0, dot);
+        String tableName = dot < 0 ? table.getName() : table.getName().substring(dot + 1);
+
+        Jdbi jdbi = Jdbi.create(dataSourceManager.getDataSource(connector.getId().getId()));
+        ColumnProfiler[] profilers;
+        try {
+            profilers = jdbi.withHandle(handle -> {
+                CatalogDialect dialect = catalogIntrospector.dialectFor(
+                        handle.getConnection().getMetaData().getDatabaseProductName());
+                String sql = dialect.sampleQuery(
+                        quote(schema) + "." + quote(tableName),
+                        columns.stream().map(column -> quote(column.getName())).collect(Collectors.joining(", ")),
+                        rowEstimate(handle, dialect, schema, tableName),
+                        sampleRows);
+
+                handle.setReadOnly(true);
+                return handle.inTransaction(transaction -> transaction.createQuery(sql)
+                        .setFetchSize(FETCH_SIZE)
+                        .setMaxRows(sampleRows)
+                        .setQueryTimeout(queryTimeoutSeconds)
+                        .scanResultSet((resultSet, context) -> {
+                            ColumnProfiler[] columnProfilers = new ColumnProfiler[columns.size()];
+                            for (int i = 0; i < columnProfilers.length; i++) {
+                                columnProfilers[i] = new ColumnProfiler(topK);
+                            }
+                            ResultSet rows = resultSet.get();
+                            while (rows.next()) {
+                                for (int i = 0; i < columnProfilers.length; i++) {
+                                    columnProfilers[i].accept(rows.getObject(i + 1));
+                                }
+                            }
+                            return columnProfilers;
+                        }));
+            });
+        } catch (SQLException | JdbiException e) {
+            throw new IllegalStateException("Failed to profile table " + table.getName() + ": " + e.getMessage(), e);
+        }
+
+        Map<String, ColumnProfile> profiles = new LinkedHashMap<>();
+        for (int i = 0; i < profilers.length; i++) {
+            profiles.put(columns.get(i).getName(), profilers[i].finish());
+        }
+        return profiles;
+    }
+
+    private static long rowEstimate(Handle handle, CatalogDialect dialect, String schema, String table) {
+        String sql = dialect.rowEstimateQuery();
+        if (sql == null) {
+            return -1;
+        }
+        try {
+            return handle.createQuery(sql)
+                    .bind(FieldNames.SCHEMA, schema)
+                    .bind("table", table)
+                    .mapTo(Long.class)
+                    .findOne()
+                    .orElse(-1L);
+        } catch (JdbiException e) {
+            log.debug("No row estimate for {}.{}: {}", schema, table, e.getMessage());
+            return -1;
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+}
@@ -19,6 +19,7 @@ public interface JpaConnectorRepository
     // - findById(ConnectorId)
     // - findByTenantId(String)
     // - findByIdAndTenantId(ConnectorId, String)
+    // - findByStatus(ConnectorStatus)
     // - save(Connector)
     // - delete(Connector)
     // - existsById(ConnectorId)
@@ -0,0 +1,79 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.persistence;
+
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.RegisteredTable;
+import com.gs.dsp.connectivity.domain.model.RegisteredTableId;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JPA repository implementation for RegisteredTable.
+ * Extends both Spring Data JpaRepository and domain RegisteredTableRepository.
+ */
+@Repository
+public interface JpaRegisteredTableRepository
+        extends JpaRepository<RegisteredTable, RegisteredTableId>, RegisteredTableRepository {
+
+    // Spring Data auto-implements:
+    // - findByConnectorIdOrderByPosition(ConnectorId)
+    // - findByTenantIdOrderByPosition(String)
+    // - findByConnectorIdAndName(ConnectorId, String)
+    // - countByConnectorId(ConnectorId)
+    // - save(RegisteredTable)
+    // - delete(RegisteredTable)
+
+    @Query("""
+            SELECT t FROM RegisteredTable t
+            WHERE t.connectorId = :connectorId
+              AND LOWER(t.name) LIKE :pattern ESCAPE '\\'
+              AND (:visibility IS NULL OR t.visibility = :visibility)
+            ORDER BY t.position""")
+    List<RegisteredTable> searchTables(@Param("connectorId") ConnectorId connectorId,
+                                       @Param("pattern") String pattern,
+                                       @Param("visibility") MetadataVisibility visibility,
+                                       Pageable pageable);
+
+    @Query("""
+            SELECT COUNT(t) FROM RegisteredTable t
+            WHERE t.connectorId = :connectorId
+              AND LOWER(t.name) LIKE :pattern ESCAPE '\\'
+              AND (:visibility IS NULL OR t.visibility = :visibility)""")
+    long countTables(@Param("connectorId") ConnectorId connectorId,
+                     @Param("pattern") String pattern,
+                     @Param("visibility") MetadataVisibility visibility);
+
+    @Override
+    default List<RegisteredTable> findPage(ConnectorId connectorId, String search, MetadataVisibility visibility,
+                                           int page, int size) {
+        return searchTables(connectorId, likePattern(search), visibility, PageRequest.of(page, size));
+    }
+
+    @Override
+    default long countMatching(ConnectorId connectorId, String search, MetadataVisibility visibility) {
+        return countTables(connectorId, likePattern(search), visibility);
+    }
+
+    @Override
+    default void deleteByConnectorId(ConnectorId connectorId) {
+        // Load and delete so the element collections are removed with their tables
+        deleteAll(findByConnectorIdOrderByPosition(connectorId));
+    }
+
+    private static String likePattern(String search) {
+        if (search == null || search.isBlank()) {
+            return "%";
+        }
+        String escaped = search.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
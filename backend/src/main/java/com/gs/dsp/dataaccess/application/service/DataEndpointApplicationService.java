@@ -6,6 +6,7 @@ import com.gs.dsp.connectivity.domain.model.ConnectorId;
 import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
 import com.gs.dsp.dataaccess.domain.model.DataEndpointId;
 import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
+import com.gs.dsp.dataaccess.domain.service.EndpointQueryPreparer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +25,7 @@ public class DataEndpointApplicationService {
     
     private final DataEndpointRepository dataEndpointRepository;
     private final ConnectorRepository connectorRepository;
+    private final EndpointQueryPreparer endpointQueryPreparer;
     
     /**
      * Get all endpoints for a tenant
@@ -80,7 +82,8 @@ public class DataEndpointApplicationService {
         }
         
         if (queryConfig != null) {
-            endpoint.updateQueryConfig(queryConfig);
+            // Validate custom SQL once here, so the request path can trust it
+            endpoint.updateQueryConfig(queryConfig, endpointQueryPreparer.prepare(connector, queryConfig));
         }
         
         if (fieldConfig != null) {
@@ -118,7 +121,7 @@ public class DataEndpointApplicationService {
         }
         
         if (queryConfig != null) {
-            endpoint.updateQueryConfig(queryConfig);
+            endpoint.updateQueryConfig(queryConfig, endpointQueryPreparer.prepare(endpoint.getConnector(), queryConfig));
         }
         
         if (fieldConfig != null) {
@@ -44,6 +44,13 @@ public class DataEndpoint extends AggregateRoot<DataEndpointId> {
     @JdbcTypeCode(SqlTypes.JSON)
     private String queryConfig; // JSON structure of QueryDefinition
     
+    @Column(name = "prepared_sql", columnDefinition = "text")
+    private String preparedSql; // Validated SQL of a SQL-mode query, see PreparedQuery
+    
+    @Column(name = "result_schema", columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String resultSchema;
+    
     @Embedded
     private FieldMaskingConfig fieldMaskingConfig;
     
@@ -116,7 +123,17 @@ public class DataEndpoint extends AggregateRoot<DataEndpointId> {
      * Update the query configuration
      */
     public void updateQueryConfig(String queryConfig) {
+        updateQueryConfig(queryConfig, null);
+    }
+    
+    /**
+     * Update the query configuration together with its custom SQL as validated on save,
+     * or null for a builder-mode query
+     */
+    public void updateQueryConfig(String queryConfig, PreparedQuery preparedQuery) {
         this.queryConfig = queryConfig;
+        this.preparedSql = preparedQuery != null ? preparedQuery.sql() : null;
+        this.resultSchema = preparedQuery != null ? preparedQuery.resultSchema() : null;
     }
     
     /**
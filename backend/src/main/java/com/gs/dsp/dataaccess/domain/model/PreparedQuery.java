@@ -0,0 +1,11 @@
+package com.gs.dsp.dataaccess.domain.model;
+
+/**
+ * Custom SQL of a SQL-mode endpoint as validated when the endpoint was saved.
+ *
+ * @param sql          Normalized SQL, safe to run without validating it again
+ * @param resultSchema JSON array of the result columns' names and types, or null when
+ *                     the source could not be asked to describe them
+ */
+public record PreparedQuery(String sql, String resultSchema) {
+}
@@ -1,7 +1,9 @@
 package com.gs.dsp.dataaccess.domain.repository;
 
 import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
 import com.gs.dsp.dataaccess.domain.model.DataEndpointId;
+import com.gs.dsp.dataaccess.domain.model.DataEndpointStatus;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +22,10 @@ public interface DataEndpointRepository {
     
     Optional<DataEndpoint> findByPathAliasAndTenantId(String pathAlias, String tenantId);
     
+    List<DataEndpoint> findByConnectorIdAndStatus(ConnectorId connectorId, DataEndpointStatus status);
+    
+    List<DataEndpoint> findByConnectorId(ConnectorId connectorId);
+    
     DataEndpoint save(DataEndpoint endpoint);
     
     void delete(DataEndpoint endpoint);
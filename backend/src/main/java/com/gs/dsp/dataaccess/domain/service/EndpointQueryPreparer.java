@@ -0,0 +1,23 @@
+package com.gs.dsp.dataaccess.domain.service;
+
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.dataaccess.domain.model.PreparedQuery;
+
+/**
+ * Domain Service interface for checking an endpoint's query when the endpoint is saved.
+ * This is a Port in Hexagonal Architecture; the adapter that prepares the query against
+ * the source lives in the infrastructure layer.
+ */
+public interface EndpointQueryPreparer {
+
+    /**
+     * Validates and normalizes the custom SQL of a query configuration and describes its
+     * result columns, without running it.
+     *
+     * @param connector   The connector the endpoint queries
+     * @param queryConfig JSON structure of the QueryDefinition
+     * @return The prepared query, or null when the configuration is not in SQL mode
+     * @throws IllegalArgumentException if the configuration or its SQL is invalid
+     */
+    PreparedQuery prepare(Connector connector, String queryConfig);
+}
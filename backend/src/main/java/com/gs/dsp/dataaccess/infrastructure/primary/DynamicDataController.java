@@ -2,37 +2,70 @@ package com.gs.dsp.dataaccess.infrastructure.primary;
 
 import com.gs.dsp.shared.kernel.constants.AppConstants;
 import com.gs.dsp.shared.kernel.constants.FieldNames;
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
 import com.gs.dsp.dataaccess.domain.model.DataEndpointId;
 import com.gs.dsp.dataaccess.infrastructure.secondary.query.DynamicQueryService;
+import com.gs.dsp.dataaccess.infrastructure.secondary.query.QueryMetrics;
+import com.gs.dsp.dataaccess.infrastructure.secondary.query.QueryStatistics;
+import com.gs.dsp.shared.infrastructure.config.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/data")
 public class DynamicDataController {
 
     private final DynamicQueryService dynamicQueryService;
+    private final QueryMetrics queryMetrics;
+    private final QueryStatistics queryStatistics;
+    private final ObjectMapper objectMapper;
 
-    public DynamicDataController(DynamicQueryService dynamicQueryService) {
+    public DynamicDataController(DynamicQueryService dynamicQueryService, QueryMetrics queryMetrics,
+                                 QueryStatistics queryStatistics, ObjectMapper objectMapper) {
         this.dynamicQueryService = dynamicQueryService;
+        this.queryMetrics = queryMetrics;
+        this.queryStatistics = queryStatistics;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * One page of an endpoint's data. The body is serialized here rather than by the
+     * message converter so the serialization time and response size can be recorded.
+     */
     @GetMapping("/{dataEndpointId}")
     public ResponseEntity<Object> queryDynamicData(
             @PathVariable UUID dataEndpointId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request
     ) {
+        long start = System.nanoTime();
         try {
             List<Map<String, Object>> result = dynamicQueryService.executeQuery(new DataEndpointId(dataEndpointId), page, size);
-            return ResponseEntity.ok(Map.of(
+            request.setAttribute(AppConstants.ATTR_RESULT_ROWS, result.size());
+
+            QueryMetrics.EndpointMeters meters = queryMetrics.forEndpoint(dataEndpointId.toString(), TenantContext.getTenantId());
+            long serializeStart = System.nanoTime();
+            byte[] body = objectMapper.writeValueAsBytes(Map.of(
                     "meta", Map.of("page", page, "size", size),
                     "data", result
             ));
+            long end = System.nanoTime();
+            meters.serialize().record(end - serializeStart, TimeUnit.NANOSECONDS);
+            meters.total().record(end - start, TimeUnit.NANOSECONDS);
+            meters.responseBytes().record(body.length);
+            queryStatistics.recordResponseBytes(dataEndpointId.toString(), body.length);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (ConnectorUnavailableException e) {
+            throw e; // 503 via GlobalExceptionHandler
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(FieldNames.ERROR, e.getMessage()));
         }
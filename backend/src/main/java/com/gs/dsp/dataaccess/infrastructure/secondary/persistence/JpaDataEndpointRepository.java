@@ -19,6 +19,8 @@ public interface JpaDataEndpointRepository
     // - findByTenantId(String)
     // - findByIdAndTenantId(DataEndpointId, String)
     // - findByPathAliasAndTenantId(String, String)
+    // - findByConnectorIdAndStatus(ConnectorId, DataEndpointStatus)
+    // - findByConnectorId(ConnectorId)
     // - save(DataEndpoint)
     // - delete(DataEndpoint)
     // - existsByPathAliasAndTenantId(String, String)
@@ -9,30 +9,51 @@ import com.gs.dsp.dataaccess.domain.model.QueryDefinition;
 import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
 import com.gs.dsp.dataaccess.infrastructure.primary.dto.TestQueryResult;
 import com.gs.dsp.shared.infrastructure.config.TenantContext;
+import com.gs.dsp.shared.infrastructure.filter.TraceIdFilter;
 import com.gs.dsp.shared.kernel.constants.AppConstants;
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.result.ResultIterator;
 import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service responsible for executing dynamic queries against data endpoints.
  * Orchestrates SQL building, query execution, and caching.
+ * <p>
+ * Endpoint queries record the time spent acquiring a pooled connection, executing the
+ * statement and fetching the rows, plus the row count, in {@link QueryMetrics}. Queries
+ * slower than the threshold are also kept, with their trace ID and SQL fingerprint, in
+ * the {@link SlowQueryLog}, and every execution is added to the {@link QueryStatistics}
+ * of its fingerprint and endpoint.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
 public class DynamicQueryService {
 
+    private static final Map<String, String> PAGINATION_BIND_SHAPE = Map.of("limit", "Integer", "offset", "Integer");
+
     private final DataSourceManager dataSourceManager;
     private final DataEndpointRepository dataEndpointRepository;
     private final ObjectMapper objectMapper;
     private final SqlBuilder sqlBuilder;
     private final Cache<String, DataEndpoint> dataEndpointMetadataCache;
+    private final QueryMetrics queryMetrics;
+    private final SlowQueryLog slowQueryLog;
+    private final QueryStatistics queryStatistics;
 
     /**
      * Execute a query against a data endpoint with pagination.
@@ -43,6 +64,7 @@ public class DynamicQueryService {
      * @return List of result rows
      */
     public List<Map<String, Object>> executeQuery(DataEndpointId dataEndpointId, int page, int size) {
+        long begin = System.nanoTime();
         String tenantId = TenantContext.getTenantId();
 
         // Cache: Get DataEndpoint metadata from cache or DB
@@ -56,31 +78,93 @@ public class DynamicQueryService {
 
         DataSource dataSource = dataSourceManager.getDataSource(endpoint.getConnector().getId().getId());
         Jdbi jdbi = Jdbi.create(dataSource);
+        QueryMetrics.EndpointMeters meters = queryMetrics.forEndpoint(dataEndpointId.toString(), tenantId);
 
+        String fingerprint = null;
         try {
-            QueryDefinition queryDef = objectMapper.readValue(endpoint.getQueryConfig(), QueryDefinition.class);
-
-            // Get schema from connector config
-            String schema = sqlBuilder.getSchemaFromConfig(endpoint.getConnector().getConfig().getConfigMap());
-
-            // Build SQL with schema qualification
-            String sql = sqlBuilder.buildSql(queryDef, true, schema);
+            String sql = buildEndpointSql(endpoint);
+            fingerprint = SqlFingerprint.of(sql);
 
             int offset = page * size;
 
-            return jdbi.withHandle(handle ->
-                    handle.createQuery(sql)
-                            .bind("limit", size)
-                            .bind("offset", offset)
-                            .mapToMap()
-                            .list()
-            );
-
+            long start = System.nanoTime();
+            long metadataNanos = start - begin;
+            try (Handle handle = jdbi.open()) {
+                long acquired = System.nanoTime();
+                meters.poolAcquire().record(acquired - start, TimeUnit.NANOSECONDS);
+                try (ResultIterator<Map<String, Object>> rows = handle.createQuery(sql)
+                        .bind("limit", size)
+                        .bind("offset", offset)
+                        .mapToMap()
+                        .iterator()) {
+                    long executed = System.nanoTime();
+                    meters.execute().record(executed - acquired, TimeUnit.NANOSECONDS);
+                    List<Map<String, Object>> result = new ArrayList<>();
+                    rows.forEachRemaining(result::add);
+                    long fetched = System.nanoTime();
+                    meters.fetch().record(fetched - executed, TimeUnit.NANOSECONDS);
+                    meters.rows().record(result.size());
+                    queryStatistics.recordExecution(dataEndpointId.toString(), tenantId, fingerprint,
+                            fetched - start, result.size());
+                    if (slowQueryLog.isSlow(fetched - begin)) {
+                        slowQueryLog.record(new SlowQuery(
+                                Instant.now(),
+                                TraceIdFilter.getCurrentTraceId(),
+                                tenantId,
+                                dataEndpointId.toString(),
+                                fingerprint,
+                                PAGINATION_BIND_SHAPE,
+                                page,
+                                size,
+                                result.size(),
+                                timingsMs(metadataNanos, acquired - start, executed - acquired,
+                                        fetched - executed, fetched - begin)));
+                    }
+                    return result;
+                }
+            }
+
+        } catch (ConnectorUnavailableException e) {
+            queryStatistics.recordError(dataEndpointId.toString(), tenantId, fingerprint);
+            throw e;
         } catch (Exception e) {
+            queryStatistics.recordError(dataEndpointId.toString(), tenantId, fingerprint);
             throw new RuntimeException("Failed to execute query for endpoint: " + dataEndpointId, e);
         }
     }
 
+    private static Map<String, Double> timingsMs(long metadata, long acquire, long execute, long fetch, long total) {
+        Map<String, Double> timings = new LinkedHashMap<>();
+        timings.put("metadata", toMillis(metadata));
+        timings.put("pool-acquire", toMillis(acquire));
+        timings.put("execute", toMillis(execute));
+        timings.put("fetch", toMillis(fetch));
+        timings.put("total", toMillis(total));
+        return timings;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Build the paginated SQL of an endpoint. Custom SQL validated when the endpoint was
+     * saved is used as stored; other configurations are parsed and validated here.
+     */
+    private String buildEndpointSql(DataEndpoint endpoint) throws JsonProcessingException {
+        if (endpoint.getPreparedSql() != null) {
+            return sqlBuilder.paginateCustomSql(endpoint.getPreparedSql());
+        }
+
+        QueryDefinition queryDef = objectMapper.readValue(endpoint.getQueryConfig(), QueryDefinition.class);
+
+        // Get schema from connector config
+        String schema = sqlBuilder.getSchemaFromConfig(endpoint.getConnector().getConfig().getConfigMap());
+
+        // Build SQL with schema qualification
+        return sqlBuilder.buildSql(queryDef, true, schema);
+    }
+
     /**
      * Execute a test query without saving a DataEndpoint.
      * Used by the frontend to preview data before creating an endpoint.
@@ -0,0 +1,54 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.service.MaskedColumnResolver;
+import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
+import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Infrastructure implementation of MaskedColumnResolver.
+ * <p>
+ * A column counts as masked when any endpoint of the connector enables masking for a field
+ * of that name. Field names are not tied to a table, so a masked name is treated as masked
+ * in every table of the connector.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EndpointMaskedColumnResolver implements MaskedColumnResolver {
+
+    private final DataEndpointRepository dataEndpointRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<String> maskedColumns(Connector connector) {
+        Set<String> masked = new HashSet<>();
+        for (DataEndpoint endpoint : dataEndpointRepository.findByConnectorId(connector.getId())) {
+            String fieldConfig = endpoint.getFieldConfig();
+            if (fieldConfig == null || fieldConfig.isBlank()) {
+                continue;
+            }
+            try {
+                for (JsonNode field : objectMapper.readTree(fieldConfig)) {
+                    if (field.path("masking").path("enabled").asBoolean(false) && field.hasNonNull("name")) {
+                        String name = field.get("name").asText().toLowerCase(Locale.ROOT);
+                        masked.add(name.substring(name.lastIndexOf('.') + 1));
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Unreadable field config of endpoint {}: {}", endpoint.getIdValue(), e.getMessage());
+            }
+        }
+        return masked;
+    }
+}
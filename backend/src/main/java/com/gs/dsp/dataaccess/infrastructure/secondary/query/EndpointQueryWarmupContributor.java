@@ -0,0 +1,82 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.PoolWarmupContributor;
+import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
+import com.gs.dsp.dataaccess.domain.model.DataEndpointStatus;
+import com.gs.dsp.dataaccess.domain.model.QueryDefinition;
+import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * Warms up the queries of a connector's active data endpoints during pool warm-up.
+ * <p>
+ * Each query is built exactly as on the request path and prepared on a pooled
+ * connection; asking for the result metadata makes the driver send the statement to
+ * the server for parsing, so catalog lookups are cached before the first real request.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EndpointQueryWarmupContributor implements PoolWarmupContributor {
+
+    private final DataEndpointRepository dataEndpointRepository;
+    private final SqlBuilder sqlBuilder;
+    private final ObjectMapper objectMapper;
+    private final int maxEndpoints;
+
+    public EndpointQueryWarmupContributor(
+            DataEndpointRepository dataEndpointRepository,
+            SqlBuilder sqlBuilder,
+            ObjectMapper objectMapper,
+            @Value("${datasource.warmup.max-endpoints-per-connector:20}") int maxEndpoints) {
+        this.dataEndpointRepository = dataEndpointRepository;
+        this.sqlBuilder = sqlBuilder;
+        this.objectMapper = objectMapper;
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    @Override
+    public void warmUp(Connector connector, DataSource dataSource) throws Exception {
+        List<DataEndpoint> endpoints = dataEndpointRepository
+                .findByConnectorIdAndStatus(connector.getId(), DataEndpointStatus.ACTIVE).stream()
+                .limit(maxEndpoints)
+                .toList();
+        if (endpoints.isEmpty()) {
+            return;
+        }
+
+        String schema = sqlBuilder.getSchemaFromConfig(connector.getConfig().getConfigMap());
+        try (Connection connection = dataSource.getConnection()) {
+            for (DataEndpoint endpoint : endpoints) {
+                try {
+                    String sql = buildSql(endpoint, schema)
+                            .replace(":limit", "?")
+                            .replace(":offset", "?");
+                    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                        statement.getMetaData();
+                    }
+                } catch (Exception e) {
+                    log.warn("Could not warm up query of endpoint {}: {}", endpoint.getId(), e.getMessage());
+                }
+            }
+        }
+        log.debug("Warmed up {} endpoint queries for connector {}", endpoints.size(), connector.getIdValue());
+    }
+
+    private String buildSql(DataEndpoint endpoint, String schema) throws Exception {
+        if (endpoint.getPreparedSql() != null) {
+            return sqlBuilder.paginateCustomSql(endpoint.getPreparedSql());
+        }
+        QueryDefinition queryDef = objectMapper.readValue(endpoint.getQueryConfig(), QueryDefinition.class);
+        return sqlBuilder.buildSql(queryDef, true, schema);
+    }
+}
@@ -0,0 +1,92 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.event.ConnectorSchemaChangedEvent;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
+import com.gs.dsp.dataaccess.domain.model.QueryDefinition;
+import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Invalidates cached endpoint state when the tables an endpoint reads from change.
+ * <p>
+ * Builder-mode endpoints are matched on their root, joined and column tables. SQL-mode
+ * endpoints are matched when a changed table name appears as a word in their SQL, which
+ * may invalidate a few endpoints needlessly but never misses one.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EndpointSchemaChangeListener {
+
+    private final DataEndpointRepository dataEndpointRepository;
+    private final DynamicQueryService dynamicQueryService;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onSchemaChanged(ConnectorSchemaChangedEvent event) {
+        Set<String> changed = new HashSet<>();
+        for (String table : event.getChangedTables()) {
+            String name = table.toLowerCase(Locale.ROOT);
+            changed.add(name);
+            changed.add(name.substring(name.lastIndexOf('.') + 1));
+        }
+
+        int invalidated = 0;
+        for (DataEndpoint endpoint : dataEndpointRepository.findByConnectorId(new ConnectorId(event.getConnectorId()))) {
+            if (readsFrom(endpoint, changed)) {
+                dynamicQueryService.invalidateCache(endpoint.getId(), endpoint.getTenantId());
+                invalidated++;
+            }
+        }
+        log.debug("Invalidated {} endpoint(s) of connector {} after schema change", invalidated, event.getConnectorId());
+    }
+
+    private boolean readsFrom(DataEndpoint endpoint, Set<String> changed) {
+        if (endpoint.getQueryConfig() == null) {
+            return false;
+        }
+        QueryDefinition queryDef;
+        try {
+            queryDef = objectMapper.readValue(endpoint.getQueryConfig(), QueryDefinition.class);
+        } catch (Exception e) {
+            // Unreadable config: invalidate rather than risk serving stale state
+            return true;
+        }
+
+        if (queryDef.getMode() == QueryDefinition.QueryMode.SQL) {
+            if (queryDef.getSql() == null) {
+                return false;
+            }
+            String sql = queryDef.getSql().toLowerCase(Locale.ROOT);
+            return changed.stream().anyMatch(table ->
+                    Pattern.compile("\\b" + Pattern.quote(table) + "\\b").matcher(sql).find());
+        }
+
+        Set<String> tables = new HashSet<>();
+        addTable(tables, queryDef.getRootTable());
+        if (queryDef.getJoins() != null) {
+            queryDef.getJoins().forEach(join -> addTable(tables, join.getTable()));
+        }
+        if (queryDef.getColumns() != null) {
+            queryDef.getColumns().forEach(column -> addTable(tables, column.getTable()));
+        }
+        return tables.stream().anyMatch(changed::contains);
+    }
+
+    private static void addTable(Set<String> tables, String table) {
+        if (table != null) {
+            tables.add(table.toLowerCase(Locale.ROOT));
+        }
+    }
+}
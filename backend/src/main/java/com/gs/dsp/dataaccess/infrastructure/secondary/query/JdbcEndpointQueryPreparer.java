@@ -0,0 +1,86 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorStatus;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceManager;
+import com.gs.dsp.dataaccess.domain.model.PreparedQuery;
+import com.gs.dsp.dataaccess.domain.model.QueryDefinition;
+import com.gs.dsp.dataaccess.domain.service.EndpointQueryPreparer;
+import com.gs.dsp.shared.kernel.constants.ErrorMessages;
+import com.gs.dsp.shared.kernel.constants.FieldNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infrastructure implementation of EndpointQueryPreparer.
+ * Adapter in Hexagonal Architecture.
+ * <p>
+ * Custom SQL is normalized and validated by {@link SqlBuilder}, then prepared on a pooled
+ * connection of an approved connector; the statement's result metadata gives the column
+ * names and types without running it, and a statement the source cannot compile is
+ * rejected. Connectors that are not approved yet get the validated SQL without a schema.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JdbcEndpointQueryPreparer implements EndpointQueryPreparer {
+
+    private final DataSourceManager dataSourceManager;
+    private final SqlBuilder sqlBuilder;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public PreparedQuery prepare(Connector connector, String queryConfig) {
+        QueryDefinition queryDef;
+        try {
+            queryDef = objectMapper.readValue(queryConfig, QueryDefinition.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_QUERY_CONFIG, e);
+        }
+        if (queryDef.getMode() != QueryDefinition.QueryMode.SQL) {
+            return null;
+        }
+
+        String sql = sqlBuilder.normalizeCustomSql(queryDef.getSql());
+        if (connector.getStatus() != ConnectorStatus.APPROVED) {
+            log.debug("Connector {} is not approved, storing custom SQL without a result schema", connector.getIdValue());
+            return new PreparedQuery(sql, null);
+        }
+        return new PreparedQuery(sql, describe(connector, sql));
+    }
+
+    private String describe(Connector connector, String sql) {
+        try (Connection connection = dataSourceManager.getDataSource(connector.getId().getId()).getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            ResultSetMetaData metaData = statement.getMetaData();
+            if (metaData == null) {
+                return null;
+            }
+            List<Map<String, String>> columns = new ArrayList<>(metaData.getColumnCount());
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                Map<String, String> column = new LinkedHashMap<>();
+                column.put(FieldNames.NAME, metaData.getColumnLabel(i));
+                column.put(FieldNames.TYPE, metaData.getColumnTypeName(i));
+                columns.add(column);
+            }
+            return objectMapper.writeValueAsString(columns);
+        } catch (SQLException e) {
+            throw new IllegalArgumentException(String.format(ErrorMessages.SQL_DOES_NOT_COMPILE, e.getMessage()), e);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
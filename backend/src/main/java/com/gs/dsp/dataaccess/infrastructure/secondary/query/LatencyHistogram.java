@@ -0,0 +1,92 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory latency histogram with log-linear buckets, in the manner of HdrHistogram.
+ * <p>
+ * Latencies are recorded in microseconds. Values below {@value #SUB_BUCKETS} get a bucket
+ * each; above that every power of two is split into {@value #SUB_BUCKETS} equal buckets, so
+ * a reported percentile is at most 12.5% above the true value. Recording is one atomic
+ * increment on a preallocated array and never blocks.
+ * </p>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Largest exponent tracked: 2^40 microseconds is about 12 days. */
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    void recordNanos(long nanos) {
+        counts.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * The current bucket counts. Concurrent recordings may or may not be included.
+     */
+    long[] snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    static int bucket(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_MICROS);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest value, in microseconds, that falls into the bucket.
+     */
+    static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * The given quantile of a snapshot in milliseconds, as the upper bound of the bucket it
+     * falls into, or 0 for an empty snapshot.
+     */
+    static double quantileMillis(long[] counts, double quantile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundMicros(i) / 1000.0;
+            }
+        }
+        return upperBoundMicros(counts.length - 1) / 1000.0;
+    }
+
+    static void addTo(long[] target, long[] counts) {
+        for (int i = 0; i < counts.length; i++) {
+            target[i] += counts[i];
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Micrometer meters of the data endpoint query path, tagged by endpoint and tenant.
+ * <p>
+ * {@code dsp.query.duration} times each phase of a request: {@code total},
+ * {@code pool-acquire}, {@code execute}, {@code fetch} and {@code serialize}.
+ * {@code dsp.query.rows} and {@code dsp.query.response.bytes} record the size of each
+ * response.
+ * </p>
+ * <p>
+ * Tag cardinality is bounded: the first {@code metrics.query.max-endpoints} endpoints and
+ * {@code metrics.query.max-tenants} tenants seen get their own tag value, later ones are
+ * reported as {@value #OTHER}. The meters of an endpoint are looked up once and reused.
+ * </p>
+ */
+@Component
+public class QueryMetrics {
+
+    public static final String OTHER = "other";
+
+    static final String DURATION = "dsp.query.duration";
+    static final String ROWS = "dsp.query.rows";
+    static final String RESPONSE_BYTES = "dsp.query.response.bytes";
+
+    private final MeterRegistry registry;
+    private final int maxEndpoints;
+    private final int maxTenants;
+    private final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+    private final Map<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public QueryMetrics(
+            MeterRegistry registry,
+            @Value("${metrics.query.max-endpoints:500}") int maxEndpoints,
+            @Value("${metrics.query.max-tenants:100}") int maxTenants) {
+        if (maxEndpoints <= 0 || maxTenants <= 0) {
+            throw new IllegalArgumentException("Invalid query metrics settings");
+        }
+        this.registry = registry;
+        this.maxEndpoints = maxEndpoints;
+        this.maxTenants = maxTenants;
+    }
+
+    /**
+     * The meters of an endpoint, or of the overflow tags once the limits are reached.
+     */
+    public EndpointMeters forEndpoint(String endpointId, String tenantId) {
+        String endpointTag = admit(endpoints, maxEndpoints, endpointId);
+        String tenantTag = admit(tenants, maxTenants, tenantId);
+        return meters.computeIfAbsent(tenantTag + ":" + endpointTag, key -> register(endpointTag, tenantTag));
+    }
+
+    private EndpointMeters register(String endpointTag, String tenantTag) {
+        Tags tags = Tags.of("endpoint", endpointTag, "tenant", tenantTag);
+        return new EndpointMeters(
+                timer(tags, "total"),
+                timer(tags, "pool-acquire"),
+                timer(tags, "execute"),
+                timer(tags, "fetch"),
+                timer(tags, "serialize"),
+                DistributionSummary.builder(ROWS)
+                        .description("Rows returned per data endpoint request")
+                        .tags(tags)
+                        .register(registry),
+                DistributionSummary.builder(RESPONSE_BYTES)
+                        .description("Response body size per data endpoint request")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .register(registry));
+    }
+
+    private Timer timer(Tags tags, String phase) {
+        return Timer.builder(DURATION)
+                .description("Time spent per phase of a data endpoint request")
+                .tags(tags)
+                .tag("phase", phase)
+                .register(registry);
+    }
+
+    private static String admit(Set<String> seen, int max, String value) {
+        if (value == null) {
+            return OTHER;
+        }
+        if (seen.contains(value)) {
+            return value;
+        }
+        // Racing callers may overshoot the limit by a few values, which is harmless
+        if (seen.size() < max) {
+            seen.add(value);
+            return value;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Meters of one endpoint and tenant.
+     */
+    public record EndpointMeters(
+            Timer total,
+            Timer poolAcquire,
+            Timer execute,
+            Timer fetch,
+            Timer serialize,
+            DistributionSummary rows,
+            DistributionSummary responseBytes) {
+    }
+}
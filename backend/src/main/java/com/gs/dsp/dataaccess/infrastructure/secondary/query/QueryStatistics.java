@@ -0,0 +1,220 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative statistics of executed endpoint queries, in the manner of
+ * {@code pg_stat_statements}, kept per SQL fingerprint and endpoint.
+ * <p>
+ * Each entry counts calls, errors, execution time (pool acquire to last row fetched), the
+ * slowest call, rows and response bytes, and keeps a {@link LatencyHistogram}. All of it
+ * is recorded with adders and atomic increments, so concurrent queries never wait on each
+ * other. At most {@code query-stats.max-entries} entries are kept; executions of further
+ * statements are added to a single overflow entry. {@link #reset()} starts over.
+ * </p>
+ */
+@Component
+public class QueryStatistics {
+
+    public static final String OTHER = "other";
+
+    /** Ways of grouping entries in {@link #top}. */
+    public enum GroupBy { FINGERPRINT, ENDPOINT }
+
+    /** Orders of {@link #top}, each descending. */
+    public enum SortBy { TOTAL_TIME, CALLS, MEAN_TIME, MAX_TIME, ERRORS, ROWS, BYTES }
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Entry> latestByEndpoint = new ConcurrentHashMap<>();
+    private volatile Entry overflow;
+    private volatile Instant since = Instant.now();
+
+    public QueryStatistics(@Value("${query-stats.max-entries:1000}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid query statistics settings");
+        }
+        this.maxEntries = maxEntries;
+        this.overflow = new Entry(OTHER, OTHER, null);
+    }
+
+    /**
+     * Records a completed execution of an endpoint's statement.
+     */
+    public void recordExecution(String endpointId, String tenantId, String fingerprint, long nanos, int rows) {
+        Entry entry = entry(endpointId, tenantId, fingerprint);
+        entry.calls.increment();
+        entry.totalNanos.add(nanos);
+        entry.maxNanos.accumulate(nanos);
+        entry.rows.add(rows);
+        entry.histogram.recordNanos(nanos);
+    }
+
+    /**
+     * Records a failed execution. The fingerprint is null when the statement could not be built.
+     */
+    public void recordError(String endpointId, String tenantId, String fingerprint) {
+        entry(endpointId, tenantId, fingerprint != null ? fingerprint : OTHER).errors.increment();
+    }
+
+    /**
+     * Adds the size of a response to the entry the endpoint's last execution was recorded in.
+     */
+    public void recordResponseBytes(String endpointId, long bytes) {
+        latestByEndpoint.getOrDefault(endpointId, overflow).bytes.add(bytes);
+    }
+
+    /**
+     * The {@code limit} heaviest statements or endpoints by the given order.
+     */
+    public List<QueryStatsRow> top(GroupBy groupBy, SortBy sortBy, int limit) {
+        Map<String, Aggregate> groups = new LinkedHashMap<>();
+        List<Entry> all = new ArrayList<>(entries.values());
+        all.add(overflow);
+        for (Entry entry : all) {
+            String group = groupBy == GroupBy.FINGERPRINT ? entry.fingerprint : entry.endpointId;
+            groups.computeIfAbsent(group, g -> new Aggregate()).add(entry);
+        }
+        double totalMillis = groups.values().stream().mapToDouble(Aggregate::totalMillis).sum();
+        return groups.values().stream()
+                .filter(aggregate -> aggregate.calls > 0 || aggregate.errors > 0)
+                .map(aggregate -> aggregate.toRow(totalMillis))
+                .sorted(comparator(sortBy).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * When the statistics were last reset.
+     */
+    public Instant since() {
+        return since;
+    }
+
+    public void reset() {
+        entries.clear();
+        latestByEndpoint.clear();
+        overflow = new Entry(OTHER, OTHER, null);
+        since = Instant.now();
+    }
+
+    private Entry entry(String endpointId, String tenantId, String fingerprint) {
+        Key key = new Key(fingerprint, endpointId);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            // Racing callers may overshoot the limit by a few entries, which is harmless
+            if (entries.size() >= maxEntries) {
+                return overflow;
+            }
+            entry = entries.computeIfAbsent(key, k -> new Entry(fingerprint, endpointId, tenantId));
+        }
+        if (latestByEndpoint.get(endpointId) != entry) {
+            latestByEndpoint.put(endpointId, entry);
+        }
+        return entry;
+    }
+
+    private static Comparator<QueryStatsRow> comparator(SortBy sortBy) {
+        return switch (sortBy) {
+            case TOTAL_TIME -> Comparator.comparingDouble(QueryStatsRow::totalTimeMs);
+            case CALLS -> Comparator.comparingLong(QueryStatsRow::calls);
+            case MEAN_TIME -> Comparator.comparingDouble(QueryStatsRow::meanTimeMs);
+            case MAX_TIME -> Comparator.comparingDouble(QueryStatsRow::maxTimeMs);
+            case ERRORS -> Comparator.comparingLong(QueryStatsRow::errors);
+            case ROWS -> Comparator.comparingLong(QueryStatsRow::rows);
+            case BYTES -> Comparator.comparingLong(QueryStatsRow::bytes);
+        };
+    }
+
+    private record Key(String fingerprint, String endpointId) {
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final String endpointId;
+        private final String tenantId;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Entry(String fingerprint, String endpointId, String tenantId) {
+            this.fingerprint = fingerprint;
+            this.endpointId = endpointId;
+            this.tenantId = tenantId;
+        }
+    }
+
+    /**
+     * Sum of the entries of one group.
+     */
+    private static final class Aggregate {
+
+        private final Set<String> fingerprints = new LinkedHashSet<>();
+        private final Set<String> endpoints = new LinkedHashSet<>();
+        private final Set<String> tenants = new LinkedHashSet<>();
+        private final long[] histogram = new long[LatencyHistogram.BUCKETS];
+        private long calls;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+        private long bytes;
+
+        void add(Entry entry) {
+            fingerprints.add(entry.fingerprint);
+            endpoints.add(entry.endpointId);
+            if (entry.tenantId != null) {
+                tenants.add(entry.tenantId);
+            }
+            calls += entry.calls.sum();
+            errors += entry.errors.sum();
+            totalNanos += entry.totalNanos.sum();
+            maxNanos = Math.max(maxNanos, entry.maxNanos.get());
+            rows += entry.rows.sum();
+            bytes += entry.bytes.sum();
+            LatencyHistogram.addTo(histogram, entry.histogram.snapshot());
+        }
+
+        double totalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        QueryStatsRow toRow(double allMillis) {
+            double total = totalMillis();
+            return new QueryStatsRow(
+                    List.copyOf(fingerprints),
+                    List.copyOf(endpoints),
+                    List.copyOf(tenants),
+                    calls,
+                    errors,
+                    total,
+                    calls == 0 ? 0 : total / calls,
+                    maxNanos / 1_000_000.0,
+                    LatencyHistogram.quantileMillis(histogram, 0.50),
+                    LatencyHistogram.quantileMillis(histogram, 0.95),
+                    LatencyHistogram.quantileMillis(histogram, 0.99),
+                    LatencyHistogram.quantileMillis(histogram, 0.999),
+                    rows,
+                    bytes,
+                    allMillis == 0 ? 0 : 100 * total / allMillis);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Exposes the {@link QueryStatistics} as the {@code querystats} actuator endpoint.
+ * <p>
+ * {@code GET} returns the top entries, grouped with {@code ?groupBy=fingerprint|endpoint}
+ * (default fingerprint), ordered with {@code ?sortBy=} one of {@link QueryStatistics.SortBy}
+ * (default total_time) and limited with {@code ?limit=} (default 20). {@code DELETE} resets
+ * the statistics; the endpoint is configured read-only, so the reset is only reachable where
+ * {@code management.endpoint.querystats.access} is raised to {@code unrestricted}.
+ * </p>
+ */
+@Component
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final QueryStatistics queryStatistics;
+
+    public QueryStatsEndpoint(QueryStatistics queryStatistics) {
+        this.queryStatistics = queryStatistics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queryStats(@Nullable String groupBy, @Nullable String sortBy, @Nullable Integer limit) {
+        QueryStatistics.GroupBy group = parse(QueryStatistics.GroupBy.class, "groupBy", groupBy, QueryStatistics.GroupBy.FINGERPRINT);
+        QueryStatistics.SortBy sort = parse(QueryStatistics.SortBy.class, "sortBy", sortBy, QueryStatistics.SortBy.TOTAL_TIME);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("since", queryStatistics.since());
+        body.put("groupBy", group);
+        body.put("sortBy", sort);
+        body.put("statements", queryStatistics.top(group, sort, limit != null && limit > 0 ? limit : DEFAULT_LIMIT));
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryStatistics.reset();
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, String value, E defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Invalid " + name + ": " + value, "Invalid " + name);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import java.util.List;
+
+/**
+ * Statistics of one statement or endpoint, as reported by {@link QueryStatistics#top}.
+ *
+ * @param fingerprints       SQL fingerprints in the group
+ * @param endpointIds        Endpoints in the group
+ * @param tenantIds          Tenants owning those endpoints
+ * @param calls              Successful executions
+ * @param errors             Failed executions
+ * @param totalTimeMs        Time spent executing, from pool acquire to the last row fetched
+ * @param meanTimeMs         Mean time per successful execution
+ * @param maxTimeMs          Slowest execution
+ * @param p50Ms              Median execution time
+ * @param p95Ms              95th percentile execution time
+ * @param p99Ms              99th percentile execution time
+ * @param p999Ms             99.9th percentile execution time
+ * @param rows               Rows returned
+ * @param bytes              Response bytes sent
+ * @param percentOfTotalTime Share of the execution time of all statements
+ */
+public record QueryStatsRow(
+        List<String> fingerprints,
+        List<String> endpointIds,
+        List<String> tenantIds,
+        long calls,
+        long errors,
+        double totalTimeMs,
+        double meanTimeMs,
+        double maxTimeMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double p999Ms,
+        long rows,
+        long bytes,
+        double percentOfTotalTime) {
+}
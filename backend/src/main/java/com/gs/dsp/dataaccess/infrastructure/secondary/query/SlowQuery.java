@@ -0,0 +1,31 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * An endpoint query that took longer than the slow-query threshold.
+ *
+ * @param recordedAt  When the query finished
+ * @param traceId     Trace ID of the request, as returned in X-Trace-ID
+ * @param tenantId    Tenant the query ran for
+ * @param endpointId  Data endpoint queried
+ * @param fingerprint SQL with literals replaced by {@code ?} and whitespace collapsed
+ * @param bindShape   Name and Java type of each bound parameter
+ * @param page        Requested page
+ * @param size        Requested page size
+ * @param rows        Rows returned
+ * @param timingsMs   Milliseconds spent per phase: metadata, pool-acquire, execute, fetch and total
+ */
+public record SlowQuery(
+        Instant recordedAt,
+        String traceId,
+        String tenantId,
+        String endpointId,
+        String fingerprint,
+        Map<String, String> bindShape,
+        int page,
+        int size,
+        int rows,
+        Map<String, Double> timingsMs) {
+}
@@ -0,0 +1,34 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exposes the {@link SlowQueryLog} as the {@code slowqueries} actuator endpoint, newest
+ * first, optionally limited with {@code ?limit=}.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer limit) {
+        List<SlowQuery> queries = slowQueryLog.recent(limit != null && limit > 0 ? limit : slowQueryLog.capacity());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("capacity", slowQueryLog.capacity());
+        body.put("queries", queries);
+        return body;
+    }
+}
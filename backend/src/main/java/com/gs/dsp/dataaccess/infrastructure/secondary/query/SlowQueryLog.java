@@ -0,0 +1,86 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Keeps the most recent endpoint queries slower than {@code slow-query.threshold-ms}.
+ * <p>
+ * Entries go to a fixed-size ring buffer: writers claim a slot with one atomic increment
+ * and overwrite the oldest entry, so recording never blocks a query. Readers copy the
+ * buffer newest first and skip slots overwritten while they read. Every entry is also
+ * logged as a structured event, so it can be found in the log store by trace ID after it
+ * has left the buffer.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryLog(
+            @Value("${slow-query.threshold-ms:1000}") long thresholdMs,
+            @Value("${slow-query.capacity:256}") int capacity) {
+        if (thresholdMs < 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Invalid slow query log settings");
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public boolean isSlow(long totalNanos) {
+        return totalNanos >= thresholdNanos;
+    }
+
+    public void record(SlowQuery query) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq & mask), new Slot(seq, query));
+        log.warn("Slow query {} {} {} {} {} {} {}",
+                kv("traceId", query.traceId()),
+                kv("tenantId", query.tenantId()),
+                kv("endpointId", query.endpointId()),
+                kv("totalMs", query.timingsMs().get("total")),
+                kv("rows", query.rows()),
+                kv("timingsMs", query.timingsMs()),
+                kv("fingerprint", query.fingerprint()));
+    }
+
+    /**
+     * Up to {@code limit} of the most recent slow queries, newest first.
+     */
+    public List<SlowQuery> recent(int limit) {
+        long last = sequence.get() - 1;
+        long first = Math.max(0, last - Math.min(limit, slots.length()) + 1);
+        List<SlowQuery> result = new ArrayList<>();
+        for (long seq = last; seq >= first; seq--) {
+            Slot slot = slots.get((int) (seq & mask));
+            // The slot is empty while its writer is still storing it, or newer if overwritten since
+            if (slot != null && slot.sequence() == seq) {
+                result.add(slot.query());
+            }
+        }
+        return result;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private record Slot(long sequence, SlowQuery query) {
+    }
+}
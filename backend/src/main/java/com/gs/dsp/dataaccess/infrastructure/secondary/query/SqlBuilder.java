@@ -38,14 +38,10 @@ public class SqlBuilder {
     }
 
     private String buildCustomSql(QueryDefinition queryDef, boolean usePaginationParams) {
-        String sql = queryDef.getSql().trim();
-
-        // SECURITY: Validate custom SQL for injection patterns
-        queryValidator.validateUserInput(sql, "Custom SQL query");
+        String sql = normalizeCustomSql(queryDef.getSql());
 
         if (usePaginationParams) {
-            // Wrap in subquery to apply limit/offset safely
-            return "SELECT * FROM (" + sql + ") AS subquery LIMIT :limit OFFSET :offset";
+            return paginateCustomSql(sql);
         } else {
             // For test query, ensure limit
             if (!sql.toUpperCase().contains("LIMIT")) {
@@ -55,6 +51,34 @@ public class SqlBuilder {
         }
     }
 
+    /**
+     * Validates custom SQL and brings it to the form it is stored and run in: trimmed,
+     * without trailing semicolons.
+     *
+     * @param sql The custom SQL of a SQL-mode query
+     * @return The normalized SQL
+     * @throws IllegalArgumentException if the SQL is not a single safe query
+     */
+    public String normalizeCustomSql(String sql) {
+        String normalized = sql == null ? "" : sql.trim();
+        while (normalized.endsWith(";")) {
+            normalized = normalized.substring(0, normalized.length() - 1).trim();
+        }
+
+        // SECURITY: Validate custom SQL for injection patterns
+        queryValidator.validateUserInput(normalized, "Custom SQL query");
+        queryValidator.validateQueryStatement(normalized, "Custom SQL query");
+        return normalized;
+    }
+
+    /**
+     * Wraps normalized custom SQL in a subquery to apply limit/offset safely.
+     * Does not validate; the SQL must come from {@link #normalizeCustomSql}.
+     */
+    public String paginateCustomSql(String normalizedSql) {
+        return "SELECT * FROM (" + normalizedSql + ") AS subquery LIMIT :limit OFFSET :offset";
+    }
+
     private String buildBuilderModeSql(QueryDefinition queryDef, boolean usePaginationParams, String schema) {
         StringBuilder sql = new StringBuilder("SELECT ");
 
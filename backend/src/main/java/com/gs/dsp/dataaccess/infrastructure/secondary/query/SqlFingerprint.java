@@ -0,0 +1,72 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+/**
+ * Normalized form of an SQL statement, used to group executions of the same statement.
+ * <p>
+ * String and numeric literals are replaced by {@code ?} and runs of whitespace collapsed,
+ * so the same statement with different values, e.g. custom SQL endpoints that differ only
+ * in a filter constant, has the same fingerprint. Named parameters are kept as written.
+ * </p>
+ */
+public final class SqlFingerprint {
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipQuoted(sql, i);
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty() && i < length) {
+                    out.append(' ');
+                }
+            } else if (Character.isDigit(c) && !isWordChar(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Index just past the quoted literal starting at {@code start}, where {@code ''} is an
+     * escaped quote.
+     */
+    private static int skipQuoted(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /** Whether the last character written belongs to an identifier, e.g. {@code col1}. */
+    private static boolean isWordChar(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_';
+    }
+}
@@ -4,8 +4,9 @@ import com.gs.dsp.shared.kernel.constants.AppConstants;
 import com.gs.dsp.shared.kernel.constants.ErrorMessages;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
  * Validator service to prevent SQL injection attacks
@@ -14,9 +15,6 @@ import java.util.regex.Pattern;
 @Service
 public class QueryValidator {
 
-    // Whitelist pattern for valid SQL identifiers (alphanumeric + underscore)
-    private static final Pattern VALID_IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]*$");
-    
     // SQL keywords that should not appear in identifiers
     private static final Set<String> SQL_KEYWORDS = Set.of(
         "SELECT", "INSERT", "UPDATE", "DELETE", "DROP", "CREATE", "ALTER",
@@ -24,26 +22,9 @@ public class QueryValidator {
         "SCRIPT", "JAVASCRIPT", "ONCLICK", "ONERROR", "CAST", "CONVERT",
         "DECLARE", "SHUTDOWN", "GRANT", "REVOKE"
     );
-    
-    // Suspicious patterns that might indicate SQL injection attempts
-    private static final Pattern[] INJECTION_PATTERNS = {
-        // SQL comment patterns
-        Pattern.compile("--|/\\*|\\*/|#", Pattern.CASE_INSENSITIVE),
-        // Classic injection: ' OR '1'='1 or 1=1  
-        Pattern.compile("(\\bOR\\b|\\bAND\\b)\\s+['\"]?\\w+['\"]?\\s*=\\s*['\"]?\\w+['\"]?", Pattern.CASE_INSENSITIVE),
-        // UNION-based injection
-        Pattern.compile("\\bUNION\\b.*\\bSELECT\\b", Pattern.CASE_INSENSITIVE),
-        // Stacked queries
-        Pattern.compile(";\\s*(SELECT|INSERT|UPDATE|DELETE|DROP|CREATE)", Pattern.CASE_INSENSITIVE),
-        // Stored procedures
-        Pattern.compile("\\b(EXEC|EXECUTE|xp_|sp_)\\b", Pattern.CASE_INSENSITIVE),
-        // XSS patterns
-        Pattern.compile("<script|javascript:|onerror=|onclick=", Pattern.CASE_INSENSITIVE),
-        // Time-based blind injection
-        Pattern.compile("\\b(SLEEP|WAITFOR|DELAY)\\b\\s*\\(", Pattern.CASE_INSENSITIVE),
-        // DROP statements
-        Pattern.compile("\\bDROP\\b\\s+(TABLE|DATABASE|SCHEMA)", Pattern.CASE_INSENSITIVE)
-    };
+
+    // Longest entry of SQL_KEYWORDS; longer identifiers skip the lookup
+    private static final int MAX_KEYWORD_LENGTH = 10;
 
     /**
      * Validates that an identifier (table or column name) is safe to use in SQL
@@ -60,14 +41,14 @@ public class QueryValidator {
         String trimmed = identifier.trim();
 
         // Check against valid pattern
-        if (!VALID_IDENTIFIER_PATTERN.matcher(trimmed).matches()) {
+        if (!SqlLexer.isIdentifier(trimmed)) {
             throw new IllegalArgumentException(
                 String.format(ErrorMessages.INVALID_IDENTIFIER, identifierType, identifier)
             );
         }
 
         // Check if it's a SQL keyword
-        if (SQL_KEYWORDS.contains(trimmed.toUpperCase())) {
+        if (trimmed.length() <= MAX_KEYWORD_LENGTH && SQL_KEYWORDS.contains(trimmed.toUpperCase(Locale.ROOT))) {
             throw new IllegalArgumentException(
                 String.format(ErrorMessages.RESERVED_KEYWORD, identifierType, identifier)
             );
@@ -82,9 +63,15 @@ public class QueryValidator {
     }
 
     /**
-     * Validates a table name
+     * Validates a table name, optionally qualified with a schema ({@code schema.table})
      */
     public void validateTableName(String tableName) {
+        int dot = tableName == null ? -1 : tableName.indexOf('.');
+        if (dot > 0 && dot == tableName.lastIndexOf('.')) {
+            validateSchemaName(tableName.substring(0, dot));
+            validateIdentifier(tableName.substring(dot + 1), "Table name");
+            return;
+        }
         validateIdentifier(tableName, "Table name");
     }
 
@@ -109,17 +96,17 @@ public class QueryValidator {
      * @return true if injection patterns are detected
      */
     public boolean containsSqlInjectionPattern(String input) {
-        if (input == null) {
-            return false;
-        }
-
-        for (Pattern pattern : INJECTION_PATTERNS) {
-            if (pattern.matcher(input).find()) {
-                return true;
-            }
-        }
+        return SqlLexer.firstFinding(input) != null;
+    }
 
-        return false;
+    /**
+     * Lists every suspicious construct in the input, e.g. for reporting why a query was rejected
+     *
+     * @param input The input to inspect
+     * @return The findings, empty if the input is clean
+     */
+    public List<SqlFinding> inspect(String input) {
+        return SqlLexer.scan(input);
     }
 
     /**
@@ -148,6 +135,21 @@ public class QueryValidator {
         }
     }
 
+    /**
+     * Validates that custom SQL is a single query, starting with SELECT or WITH
+     *
+     * @param sql The SQL, already trimmed
+     * @param fieldName Name of the field (for error messages)
+     * @throws IllegalArgumentException if the SQL is not a query
+     */
+    public void validateQueryStatement(String sql, String fieldName) {
+        if (sql == null || !(startsWithKeyword(sql, "SELECT") || startsWithKeyword(sql, "WITH"))) {
+            throw new IllegalArgumentException(
+                String.format(ErrorMessages.NOT_A_QUERY, fieldName)
+            );
+        }
+    }
+
     /**
      * Validates that a table name exists in the allowed list for a connector
      * This should be called after connector metadata has been loaded
@@ -237,4 +239,9 @@ public class QueryValidator {
             }
         }
     }
+
+    private static boolean startsWithKeyword(String sql, String keyword) {
+        return sql.regionMatches(true, 0, keyword, 0, keyword.length())
+            && (sql.length() == keyword.length() || !Character.isLetterOrDigit(sql.charAt(keyword.length())));
+    }
 }
@@ -0,0 +1,30 @@
+package com.gs.dsp.dataaccess.infrastructure.security;
+
+/**
+ * A suspicious construct found in SQL or user input by {@link SqlLexer}.
+ *
+ * @param kind     What was found
+ * @param position Offset in the input at which it starts
+ * @param token    The token that triggered the finding
+ */
+public record SqlFinding(Kind kind, int position, String token) {
+
+    public enum Kind {
+        /** {@code --}, {@code #} or a block comment delimiter. */
+        COMMENT,
+        /** An always-true comparison such as {@code OR '1'='1}. */
+        TAUTOLOGY,
+        /** {@code UNION} followed by {@code SELECT}. */
+        UNION_SELECT,
+        /** A statement keyword after {@code ;}. */
+        STACKED_STATEMENT,
+        /** {@code EXEC} or a system stored procedure. */
+        PROCEDURE_CALL,
+        /** A call to a function that delays the response, for time-based blind injection. */
+        TIME_DELAY,
+        /** {@code DROP TABLE}, {@code DROP DATABASE} or {@code DROP SCHEMA}. */
+        DROP_STATEMENT,
+        /** Script markup or an event handler, for injection into rendered output. */
+        MARKUP
+    }
+}
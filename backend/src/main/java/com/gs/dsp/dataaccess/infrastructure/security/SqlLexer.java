@@ -0,0 +1,274 @@
+package com.gs.dsp.dataaccess.infrastructure.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-pass scanner for SQL fragments and user input, used by {@link QueryValidator}.
+ * <p>
+ * The input is split once into word tokens ({@code [A-Za-z0-9_]+}) and single-character
+ * symbols, with comment delimiters reported as they are met; the injection checks then run
+ * over the tokens instead of rescanning the text with one regex each. Keywords are matched
+ * case-insensitively in place, so no upper-cased copy of the input is made.
+ * </p>
+ * <p>
+ * The checks mirror the patterns the validator used before: comments, {@code OR}/{@code AND}
+ * tautologies, {@code UNION ... SELECT}, statements stacked after {@code ;}, {@code EXEC} and
+ * system procedures, delay functions, {@code DROP TABLE|DATABASE|SCHEMA} and script markup.
+ * </p>
+ */
+public final class SqlLexer {
+
+    private static final String[] STATEMENT_KEYWORDS = {"SELECT", "INSERT", "UPDATE", "DELETE", "DROP", "CREATE"};
+    private static final String[] DROP_TARGETS = {"TABLE", "DATABASE", "SCHEMA"};
+    private static final String[] PROCEDURE_KEYWORDS = {"EXEC", "EXECUTE"};
+    private static final String[] PROCEDURE_PREFIXES = {"XP_", "SP_"};
+    private static final String[] DELAY_FUNCTIONS = {"SLEEP", "PG_SLEEP", "WAITFOR", "DELAY", "BENCHMARK"};
+    private static final String[] TAUTOLOGY_OPERATORS = {"OR", "AND"};
+
+    private final String input;
+    private final boolean firstOnly;
+    private final List<SqlFinding> findings = new ArrayList<>(1);
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int count;
+
+    private SqlLexer(String input, boolean firstOnly) {
+        this.input = input;
+        this.firstOnly = firstOnly;
+    }
+
+    /**
+     * Every suspicious construct in the input: comments first, then the other findings in
+     * order of position.
+     */
+    public static List<SqlFinding> scan(String input) {
+        if (input == null || input.isEmpty()) {
+            return List.of();
+        }
+        SqlLexer lexer = new SqlLexer(input, false);
+        lexer.run();
+        return List.copyOf(lexer.findings);
+    }
+
+    /**
+     * The first suspicious construct found, or null when the input is clean. Stops at the
+     * first finding, so rejecting bad input costs less than a full {@link #scan}.
+     */
+    public static SqlFinding firstFinding(String input) {
+        if (input == null || input.isEmpty()) {
+            return null;
+        }
+        SqlLexer lexer = new SqlLexer(input, true);
+        lexer.run();
+        return lexer.findings.isEmpty() ? null : lexer.findings.get(0);
+    }
+
+    /**
+     * Whether the value is a single plain identifier: a letter or underscore followed by
+     * letters, digits and underscores.
+     */
+    public static boolean isIdentifier(String value) {
+        int length = value.length();
+        if (length == 0 || !isIdentifierStart(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (!isWordChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void run() {
+        if (tokenize()) {
+            detect();
+        }
+    }
+
+    /**
+     * Splits the input into tokens, reporting comment delimiters on the way.
+     *
+     * @return false when scanning stopped at a finding
+     */
+    private boolean tokenize() {
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (isWordChar(c)) {
+                int start = i;
+                while (i < length && isWordChar(input.charAt(i))) {
+                    i++;
+                }
+                addToken(start, i);
+                continue;
+            }
+            if (isCommentStart(c, i + 1 < length ? input.charAt(i + 1) : 0)
+                    && report(SqlFinding.Kind.COMMENT, i, c == '#' ? i + 1 : i + 2)) {
+                return false;
+            }
+            addToken(i, i + 1);
+            i++;
+        }
+        return true;
+    }
+
+    private void detect() {
+        boolean unionSeen = false;
+        for (int t = 0; t < count; t++) {
+            if (!isWord(t)) {
+                char symbol = input.charAt(starts[t]);
+                if (symbol == ';' && isWord(t + 1) && startsWithAny(t + 1, STATEMENT_KEYWORDS)
+                        && report(SqlFinding.Kind.STACKED_STATEMENT, starts[t], ends[t + 1])) {
+                    return;
+                }
+                if (symbol == '<' && isWord(t + 1) && isAdjacent(t) && startsWith(t + 1, "SCRIPT")
+                        && report(SqlFinding.Kind.MARKUP, starts[t], ends[t + 1])) {
+                    return;
+                }
+                continue;
+            }
+
+            if (isAny(t, TAUTOLOGY_OPERATORS) && isTautology(t)
+                    && report(SqlFinding.Kind.TAUTOLOGY, starts[t], ends[t])) {
+                return;
+            }
+            if (is(t, "UNION")) {
+                unionSeen = true;
+            } else if (unionSeen && is(t, "SELECT")) {
+                unionSeen = false;
+                if (report(SqlFinding.Kind.UNION_SELECT, starts[t], ends[t])) {
+                    return;
+                }
+            }
+            if ((isAny(t, PROCEDURE_KEYWORDS) || startsWithAny(t, PROCEDURE_PREFIXES))
+                    && report(SqlFinding.Kind.PROCEDURE_CALL, starts[t], ends[t])) {
+                return;
+            }
+            if (isAny(t, DELAY_FUNCTIONS) && isSymbol(t + 1, '(')
+                    && report(SqlFinding.Kind.TIME_DELAY, starts[t], ends[t])) {
+                return;
+            }
+            if (is(t, "DROP") && isWord(t + 1) && !isAdjacent(t) && startsWithAny(t + 1, DROP_TARGETS)
+                    && report(SqlFinding.Kind.DROP_STATEMENT, starts[t], ends[t + 1])) {
+                return;
+            }
+            if (isMarkup(t) && report(SqlFinding.Kind.MARKUP, starts[t], ends[t + 1])) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@code OR|AND ['"]?word['"]? = ['"]?word}, e.g. {@code OR 1=1} or {@code OR '1'='1}.
+     */
+    private boolean isTautology(int t) {
+        int next = skipQuote(t + 1);
+        if (!isWord(next)) {
+            return false;
+        }
+        next = skipQuote(next + 1);
+        if (!isSymbol(next, '=')) {
+            return false;
+        }
+        return isWord(skipQuote(next + 1));
+    }
+
+    /**
+     * {@code javascript:}, {@code onerror=} or {@code onclick=}, also as the end of a longer word.
+     */
+    private boolean isMarkup(int t) {
+        if (!isAdjacent(t)) {
+            return false;
+        }
+        return (endsWith(t, "JAVASCRIPT") && isSymbol(t + 1, ':'))
+                || ((endsWith(t, "ONERROR") || endsWith(t, "ONCLICK")) && isSymbol(t + 1, '='));
+    }
+
+    private boolean report(SqlFinding.Kind kind, int start, int end) {
+        findings.add(new SqlFinding(kind, start, input.substring(start, end)));
+        return firstOnly;
+    }
+
+    private void addToken(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    private int skipQuote(int t) {
+        return isSymbol(t, '\'') || isSymbol(t, '"') ? t + 1 : t;
+    }
+
+    /** Whether token {@code t} is directly followed by the next token, without whitespace. */
+    private boolean isAdjacent(int t) {
+        return t + 1 < count && ends[t] == starts[t + 1];
+    }
+
+    private boolean isWord(int t) {
+        return t < count && isWordChar(input.charAt(starts[t]));
+    }
+
+    private boolean isSymbol(int t, char symbol) {
+        return t < count && ends[t] - starts[t] == 1 && input.charAt(starts[t]) == symbol;
+    }
+
+    private boolean is(int t, String keyword) {
+        return ends[t] - starts[t] == keyword.length()
+                && input.regionMatches(true, starts[t], keyword, 0, keyword.length());
+    }
+
+    private boolean isAny(int t, String[] keywords) {
+        for (String keyword : keywords) {
+            if (is(t, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean startsWith(int t, String prefix) {
+        return ends[t] - starts[t] >= prefix.length()
+                && input.regionMatches(true, starts[t], prefix, 0, prefix.length());
+    }
+
+    private boolean startsWithAny(int t, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (startsWith(t, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean endsWith(int t, String suffix) {
+        return ends[t] - starts[t] >= suffix.length()
+                && input.regionMatches(true, ends[t] - suffix.length(), suffix, 0, suffix.length());
+    }
+
+    private static boolean isCommentStart(char c, char next) {
+        return c == '#'
+                || (c == '-' && next == '-')
+                || (c == '/' && next == '*')
+                || (c == '*' && next == '/');
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isWordChar(char c) {
+        return isIdentifierStart(c) || (c >= '0' && c <= '9');
+    }
+}
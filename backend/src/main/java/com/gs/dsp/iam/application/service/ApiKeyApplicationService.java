@@ -10,6 +10,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
@@ -25,6 +27,9 @@ import java.util.stream.Collectors;
 public class ApiKeyApplicationService {
 
     private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyVerificationCache verificationCache;
+    private final ApiKeyUsageRecorder usageRecorder;
+    private final ApiKeyHasher apiKeyHasher;
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -51,7 +56,7 @@ public class ApiKeyApplicationService {
         String secretPart = Base64.getUrlEncoder().withoutPadding().encodeToString(secretBytes);
         
         String rawKey = PREFIX + idPart + "." + secretPart;
-        String keyHash = passwordEncoder.encode(rawKey);
+        String keyHash = apiKeyHasher.hash(rawKey);
 
         ApiKey apiKey = ApiKey.create(
                 id,
@@ -80,35 +85,55 @@ public class ApiKeyApplicationService {
                 return Optional.empty();
             }
 
+            String keyHash = apiKeyHasher.hash(rawKey);
+            ApiKey cached = verificationCache.getVerified(keyHash);
+            if (cached != null && isUsable(cached)) {
+                usageRecorder.recordUse(cached.getId());
+                return Optional.of(cached);
+            }
+            if (verificationCache.isRejected(keyHash)) {
+                return Optional.empty();
+            }
+
             String idPart = parts[0];
             UUID uuid = asUuid(Base64.getUrlDecoder().decode(idPart));
             ApiKeyId id = new ApiKeyId(uuid);
 
-            return apiKeyRepository.findById(id)
-                    .filter(apiKey -> AppConstants.STATUS_ACTIVE.equals(apiKey.getStatus()))
-                    .filter(apiKey -> apiKey.getExpiresAt() == null || apiKey.getExpiresAt().isAfter(LocalDateTime.now()))
-                    .filter(apiKey -> passwordEncoder.matches(rawKey, apiKey.getKeyHash()))
-                    .map(apiKey -> {
-                        // Update last used
-                        // We need a transactional method to update this if we want it persisted
-                        // For now, we can just return it, but ideally we should update it.
-                        // Since this method is not transactional, we might need a separate call or make this transactional.
-                        // However, validate is often called in filters where transaction might be tricky.
-                        // Let's keep it simple: if we want to update, we should do it.
-                        // But wait, the legacy code did: apiKey.setLastUsedAt(LocalDateTime.now()); apiKeyRepository.save(apiKey);
-                        // We should probably do the same but via a business method.
-                        return updateLastUsed(apiKey);
-                    });
+            Optional<ApiKey> verified = apiKeyRepository.findByKeyHash(keyHash)
+                    .filter(apiKey -> apiKeyHasher.matches(keyHash, apiKey.getKeyHash()))
+                    .or(() -> verifyLegacyKey(id, rawKey, keyHash))
+                    .filter(this::isUsable);
+            if (verified.isEmpty()) {
+                verificationCache.putRejected(keyHash);
+                return Optional.empty();
+            }
+            verificationCache.putVerified(keyHash, verified.get());
+            usageRecorder.recordUse(verified.get().getId());
+            return verified;
 
         } catch (IllegalArgumentException e) {
             return Optional.empty();
         }
     }
     
-    @Transactional
-    protected ApiKey updateLastUsed(ApiKey apiKey) {
-        apiKey.updateLastUsedAt();
-        return apiKeyRepository.save(apiKey);
+    /**
+     * Verifies a key still stored with BCrypt and, on success, rehashes it with the keyed hash
+     * so its next lookup is a single indexed query.
+     */
+    private Optional<ApiKey> verifyLegacyKey(ApiKeyId id, String rawKey, String keyHash) {
+        return apiKeyRepository.findById(id)
+                .filter(apiKey -> ApiKeyHasher.isLegacy(apiKey.getKeyHash()))
+                .filter(this::isUsable)
+                .filter(apiKey -> passwordEncoder.matches(rawKey, apiKey.getKeyHash()))
+                .map(apiKey -> {
+                    apiKey.rehash(keyHash);
+                    return apiKeyRepository.save(apiKey);
+                });
+    }
+
+    private boolean isUsable(ApiKey apiKey) {
+        return AppConstants.STATUS_ACTIVE.equals(apiKey.getStatus())
+                && (apiKey.getExpiresAt() == null || apiKey.getExpiresAt().isAfter(LocalDateTime.now()));
     }
 
     @Transactional
@@ -118,6 +143,7 @@ public class ApiKeyApplicationService {
             apiKey.revoke();
             apiKeyRepository.save(apiKey);
         });
+        evictAfterCommit(id);
     }
 
     public List<ApiKey> getApiKeysByTenant(String tenantIdStr) {
@@ -136,7 +162,26 @@ public class ApiKeyApplicationService {
 
     @Transactional
     public void deleteApiKey(String idStr) {
-        apiKeyRepository.deleteById(new ApiKeyId(UUID.fromString(idStr)));
+        ApiKeyId id = new ApiKeyId(UUID.fromString(idStr));
+        apiKeyRepository.deleteById(id);
+        evictAfterCommit(id);
+    }
+
+    /**
+     * Evicts the key from the verification cache once the transaction has committed, so a
+     * concurrent validation cannot cache the key again from the not yet committed state.
+     */
+    private void evictAfterCommit(ApiKeyId id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            verificationCache.evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                verificationCache.evict(id);
+            }
+        });
     }
 
     // Helper to convert UUID to byte[]
@@ -0,0 +1,68 @@
+package com.gs.dsp.iam.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Hashes API keys for storage and lookup.
+ * <p>
+ * API keys carry 128 random bits, so a slow password hash adds latency without adding
+ * security. Keys are stored as {@code h1:} followed by HMAC-SHA256 of the raw key under a
+ * server-side pepper ({@code api-key.hash-pepper}), which is deterministic and therefore
+ * found with one indexed equality query. Keys created before this scheme keep their BCrypt
+ * hash until their next successful use, when they are rehashed.
+ * </p>
+ */
+@Component
+public class ApiKeyHasher {
+
+    public static final String SCHEME_PREFIX = "h1:";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Mac prototype;
+
+    public ApiKeyHasher(@Value("${api-key.hash-pepper}") String pepper) {
+        if (pepper == null || pepper.isBlank()) {
+            throw new IllegalArgumentException("api-key.hash-pepper must be set");
+        }
+        try {
+            this.prototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.prototype.init(new SecretKeySpec(pepper.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    public String hash(String rawKey) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC-SHA256 cannot be cloned", e);
+        }
+        byte[] digest = mac.doFinal(rawKey.getBytes(StandardCharsets.UTF_8));
+        return SCHEME_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * Constant-time comparison of a computed hash with a stored one.
+     */
+    public boolean matches(String keyHash, String storedHash) {
+        return storedHash != null && MessageDigest.isEqual(
+                keyHash.getBytes(StandardCharsets.US_ASCII), storedHash.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Whether a stored hash predates the keyed-hash scheme (BCrypt).
+     */
+    public static boolean isLegacy(String storedHash) {
+        return storedHash != null && !storedHash.startsWith(SCHEME_PREFIX);
+    }
+}
@@ -0,0 +1,67 @@
+package com.gs.dsp.iam.application.service;
+
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import com.gs.dsp.iam.domain.repository.ApiKeyUsageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for API key last-used times.
+ * <p>
+ * Each use only updates an in-memory map, so repeated uses of a key between flushes
+ * coalesce into one entry. Every {@code api-key.last-used.flush-ms} the buffered times are
+ * written in one batch, and once more on shutdown; a crash loses at most one interval.
+ * A failed flush puts its entries back for the next one.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageRecorder {
+
+    private final ApiKeyUsageRepository apiKeyUsageRepository;
+
+    private final Map<ApiKeyId, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void recordUse(ApiKeyId id) {
+        pending.merge(id, LocalDateTime.now(), ApiKeyUsageRecorder::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${api-key.last-used.flush-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<ApiKeyId, LocalDateTime> batch = new HashMap<>();
+        for (ApiKeyId id : pending.keySet()) {
+            // Uses recorded after the removal start a new entry for the next flush
+            LocalDateTime usedAt = pending.remove(id);
+            if (usedAt != null) {
+                batch.put(id, usedAt);
+            }
+        }
+        try {
+            apiKeyUsageRepository.updateLastUsedAt(batch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush last-used time of {} API key(s): {}", batch.size(), e.getMessage());
+            batch.forEach((id, usedAt) -> pending.merge(id, usedAt, ApiKeyUsageRecorder::latest));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,95 @@
+package com.gs.dsp.iam.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gs.dsp.iam.domain.model.ApiKey;
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Remembers the outcome of recent API key verifications so repeat requests skip the
+ * database lookup and any legacy BCrypt check.
+ * <p>
+ * Entries are keyed by the key's {@link ApiKeyHasher} hash, so the cache holds no raw keys.
+ * Verified keys live for {@code api-key.cache.ttl-ms}, or until the key's own expiry if
+ * that comes first; callers evict them on revoke and delete. Rejected keys are remembered
+ * for the shorter {@code api-key.cache.negative-ttl-ms}, so a flood of requests with the
+ * same bad key costs one lookup.
+ * </p>
+ */
+@Component
+public class ApiKeyVerificationCache {
+
+    private final Cache<String, ApiKey> verified;
+    private final Cache<String, Boolean> rejected;
+
+    public ApiKeyVerificationCache(
+            @Value("${api-key.cache.ttl-ms:30000}") long ttlMs,
+            @Value("${api-key.cache.max-size:10000}") long maxSize,
+            @Value("${api-key.cache.negative-ttl-ms:5000}") long negativeTtlMs,
+            @Value("${api-key.cache.negative-max-size:10000}") long negativeMaxSize) {
+        if (ttlMs <= 0 || maxSize <= 0 || negativeTtlMs <= 0 || negativeMaxSize <= 0) {
+            throw new IllegalArgumentException("Invalid API key cache settings");
+        }
+        long ttlNanos = Duration.ofMillis(ttlMs).toNanos();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, ApiKey>() {
+                    @Override
+                    public long expireAfterCreate(String keyHash, ApiKey apiKey, long currentTime) {
+                        if (apiKey.getExpiresAt() == null) {
+                            return ttlNanos;
+                        }
+                        long untilExpiry = Duration.between(LocalDateTime.now(), apiKey.getExpiresAt()).toNanos();
+                        return Math.max(0, Math.min(ttlNanos, untilExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String keyHash, ApiKey apiKey, long currentTime, long currentDuration) {
+                        return expireAfterCreate(keyHash, apiKey, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String keyHash, ApiKey apiKey, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(Duration.ofMillis(negativeTtlMs))
+                .build();
+    }
+
+    /**
+     * The key verified under this hash, or null when it is not cached.
+     */
+    public ApiKey getVerified(String keyHash) {
+        return verified.getIfPresent(keyHash);
+    }
+
+    public boolean isRejected(String keyHash) {
+        return rejected.getIfPresent(keyHash) != null;
+    }
+
+    public void putVerified(String keyHash, ApiKey apiKey) {
+        rejected.invalidate(keyHash);
+        verified.put(keyHash, apiKey);
+    }
+
+    public void putRejected(String keyHash) {
+        rejected.put(keyHash, Boolean.TRUE);
+    }
+
+    /**
+     * Forgets every verification of the given key.
+     */
+    public void evict(ApiKeyId id) {
+        verified.asMap().values().removeIf(apiKey -> id.equals(apiKey.getId()));
+    }
+}
@@ -8,6 +8,8 @@ import com.gs.dsp.shared.kernel.constants.ErrorMessages;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +19,7 @@ import java.util.Optional;
 public class TenantApplicationService {
 
     private final TenantRepository tenantRepository;
+    private final TenantStatusCache tenantStatusCache;
 
     public List<Tenant> getAllTenants() {
         return tenantRepository.findAll();
@@ -35,7 +38,7 @@ public class TenantApplicationService {
             );
         }
         Tenant tenant = Tenant.create(tenantId, name, description);
-        return tenantRepository.save(tenant);
+        return cached(tenantRepository.save(tenant));
     }
 
     @Transactional
@@ -56,7 +59,7 @@ public class TenantApplicationService {
             }
         }
         
-        return tenantRepository.save(tenant);
+        return cached(tenantRepository.save(tenant));
     }
 
     @Transactional
@@ -71,6 +74,7 @@ public class TenantApplicationService {
         // In DDD, we might prefer deactivating instead of deleting
         // But to keep parity with legacy service:
         tenantRepository.deleteById(tenantId);
+        afterCommit(() -> tenantStatusCache.remove(id));
     }
 
     public List<Tenant> getTenantsByStatus(TenantStatus status) {
@@ -90,6 +94,28 @@ public class TenantApplicationService {
         } else {
             tenant.deactivate();
         }
-        return tenantRepository.save(tenant);
+        return cached(tenantRepository.save(tenant));
+    }
+
+    private Tenant cached(Tenant tenant) {
+        afterCommit(() -> tenantStatusCache.put(tenant));
+        return tenant;
+    }
+
+    /**
+     * Runs a cache write once the transaction has committed, so a rolled-back change is
+     * never admitted and concurrent requests never see a status before it is stored.
+     */
+    private void afterCommit(Runnable cacheWrite) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheWrite.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheWrite.run();
+            }
+        });
     }
 }
@@ -0,0 +1,83 @@
+package com.gs.dsp.iam.application.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gs.dsp.iam.domain.model.Tenant;
+import com.gs.dsp.iam.domain.model.TenantId;
+import com.gs.dsp.iam.domain.model.TenantStatus;
+import com.gs.dsp.iam.domain.repository.TenantRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-process near-cache of tenant statuses, used to admit requests without a database query.
+ * <p>
+ * All tenants are loaded at startup. TenantApplicationService writes every status change
+ * and deletion through to the cache once it is committed, and entries are refreshed in the
+ * background after {@code tenant-cache.refresh-ms} so changes made by other instances are
+ * picked up without blocking requests. Unknown tenant IDs are cached as absent, so repeating one costs a
+ * single lookup per refresh interval.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TenantStatusCache {
+
+    private final TenantRepository tenantRepository;
+    private final LoadingCache<String, Optional<TenantStatus>> statuses;
+
+    public TenantStatusCache(
+            TenantRepository tenantRepository,
+            @Value("${tenant-cache.refresh-ms:60000}") long refreshMs,
+            @Value("${tenant-cache.max-size:10000}") long maxSize) {
+        if (refreshMs <= 0 || maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid tenant cache settings");
+        }
+        this.tenantRepository = tenantRepository;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofMillis(refreshMs))
+                .build(this::load);
+    }
+
+    @PostConstruct
+    public void loadAll() {
+        for (Tenant tenant : tenantRepository.findAll()) {
+            statuses.put(tenant.getIdValue(), Optional.of(tenant.getStatus()));
+        }
+        log.info("Loaded {} tenant(s) into the tenant status cache", statuses.estimatedSize());
+    }
+
+    /**
+     * The tenant's status, or empty when no such tenant exists.
+     */
+    public Optional<TenantStatus> getStatus(String tenantId) {
+        return statuses.get(tenantId);
+    }
+
+    public boolean isActive(String tenantId) {
+        return getStatus(tenantId).filter(status -> status == TenantStatus.ACTIVE).isPresent();
+    }
+
+    public void put(Tenant tenant) {
+        statuses.put(tenant.getIdValue(), Optional.of(tenant.getStatus()));
+    }
+
+    public void remove(String tenantId) {
+        statuses.put(tenantId, Optional.empty());
+    }
+
+    private Optional<TenantStatus> load(String tenantId) {
+        try {
+            return tenantRepository.findById(new TenantId(tenantId)).map(Tenant::getStatus);
+        } catch (IllegalArgumentException e) {
+            // Not a valid tenant ID, so no such tenant
+            return Optional.empty();
+        }
+    }
+}
@@ -74,6 +74,10 @@ public class ApiKey extends AggregateRoot<ApiKeyId> {
         this.status = "REVOKED";
     }
 
+    public void rehash(String keyHash) {
+        this.keyHash = keyHash;
+    }
+
     public void updateLastUsedAt() {
         this.lastUsedAt = LocalDateTime.now();
     }
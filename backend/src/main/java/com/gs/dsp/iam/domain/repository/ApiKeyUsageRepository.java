@@ -0,0 +1,20 @@
+package com.gs.dsp.iam.domain.repository;
+
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Domain repository interface for recording when API keys were last used.
+ * Kept apart from ApiKeyRepository so usage can be written in bulk without loading keys.
+ */
+public interface ApiKeyUsageRepository {
+
+    /**
+     * Set the last-used time of each key, never moving it backwards.
+     *
+     * @param lastUsedAt Last-used time per key
+     */
+    void updateLastUsedAt(Map<ApiKeyId, LocalDateTime> lastUsedAt);
+}
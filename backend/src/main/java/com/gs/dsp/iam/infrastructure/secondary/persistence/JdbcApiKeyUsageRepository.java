@@ -0,0 +1,45 @@
+package com.gs.dsp.iam.infrastructure.secondary.persistence;
+
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import com.gs.dsp.iam.domain.repository.ApiKeyUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infrastructure implementation of ApiKeyUsageRepository.
+ * Sends all updates as one JDBC batch of a single UPDATE statement; keys are sorted by ID
+ * so concurrent flushes from several instances lock rows in the same order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcApiKeyUsageRepository implements ApiKeyUsageRepository {
+
+    private static final String UPDATE_LAST_USED = """
+            UPDATE api_keys SET last_used_at = ?
+            WHERE id = ? AND (last_used_at IS NULL OR last_used_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void updateLastUsedAt(Map<ApiKeyId, LocalDateTime> lastUsedAt) {
+        if (lastUsedAt.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = lastUsedAt.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getId()))
+                .map(entry -> {
+                    Timestamp usedAt = Timestamp.valueOf(entry.getValue());
+                    return new Object[]{usedAt, entry.getKey().getId(), usedAt};
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_LAST_USED, rows);
+    }
+}
@@ -0,0 +1,148 @@
+package com.gs.dsp.shared.infrastructure.config;
+
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable context of the request being served: trace ID, tenant, authenticating API key
+ * and the deadline by which the response is due.
+ * <p>
+ * A context is bound for the extent of a call with {@link #call(RequestContext, ContextTask)},
+ * and the previous binding is restored when the call returns, so nothing outlives the
+ * request even on pooled threads. Tasks forked inside a request, e.g. onto a virtual-thread
+ * executor, inherit it by being wrapped with {@link #wrap(Callable)}. The trace and tenant
+ * IDs are copied to the logging MDC for each binding, which is the only place the MDC is
+ * written.
+ * </p>
+ * <p>
+ * This follows the shape of {@code ScopedValue.where(...).call(...)} with a thread-local
+ * carrier, as scoped values and structured task scopes are still preview APIs on Java 21.
+ * </p>
+ *
+ * @param traceId  Trace ID for log correlation
+ * @param tenantId Tenant the request runs as, or null until it is resolved
+ * @param apiKeyId API key that authenticated the request, or null for header-based access
+ * @param deadline Time by which the response is due, or null for none
+ */
+public record RequestContext(String traceId, String tenantId, ApiKeyId apiKeyId, Instant deadline) {
+
+    public static final String MDC_TRACE_ID_KEY = "traceId";
+    public static final String MDC_TENANT_ID_KEY = "tenantId";
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * A task that may throw, for binding a context around servlet calls.
+     */
+    @FunctionalInterface
+    public interface ContextTask<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * The context bound to this thread, or null outside any request.
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the task with the given context bound, restoring the previous binding afterwards.
+     */
+    public static <T, E extends Exception> T call(RequestContext context, ContextTask<T, E> task) throws E {
+        RequestContext previous = CURRENT.get();
+        Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        bind(context);
+        try {
+            return task.run();
+        } finally {
+            restore(previous, previousMdc);
+        }
+    }
+
+    /**
+     * Captures the current context so the task runs with it on whichever thread executes it.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestContext context = current();
+        return context == null ? task : () -> call(context, task::call);
+    }
+
+    public static Runnable wrap(Runnable task) {
+        RequestContext context = current();
+        if (context == null) {
+            return task;
+        }
+        return () -> call(context, (ContextTask<Void, RuntimeException>) () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * A copy of this context for the resolved tenant.
+     */
+    public RequestContext withTenant(String tenantId, ApiKeyId apiKeyId) {
+        return new RequestContext(traceId, tenantId, apiKeyId, deadline);
+    }
+
+    /**
+     * Milliseconds left until the deadline, never negative.
+     */
+    public long remainingMillis() {
+        return deadline == null ? Long.MAX_VALUE : Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+    }
+
+    /**
+     * Replaces the binding with a copy for the resolved tenant, until the enclosing
+     * {@link #call} returns.
+     */
+    static void bindTenant(String tenantId, ApiKeyId apiKeyId) {
+        RequestContext current = current();
+        bind(current != null
+                ? current.withTenant(tenantId, apiKeyId)
+                : new RequestContext(null, tenantId, apiKeyId, null));
+    }
+
+    /**
+     * Replaces the binding for the rest of the enclosing {@link #call}, which restores the
+     * previous one when it returns.
+     */
+    static void bind(RequestContext context) {
+        if (context == null) {
+            CURRENT.remove();
+            MDC.remove(MDC_TRACE_ID_KEY);
+            MDC.remove(MDC_TENANT_ID_KEY);
+            return;
+        }
+        CURRENT.set(context);
+        putOrRemove(MDC_TRACE_ID_KEY, context.traceId());
+        putOrRemove(MDC_TENANT_ID_KEY, context.tenantId());
+    }
+
+    private static void restore(RequestContext previous, Map<String, String> previousMdc) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+        if (previousMdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(previousMdc);
+        }
+    }
+
+    private static void putOrRemove(String key, String value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
+        }
+    }
+}
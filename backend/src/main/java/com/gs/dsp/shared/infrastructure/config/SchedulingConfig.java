@@ -0,0 +1,12 @@
+package com.gs.dsp.shared.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (pool maintenance, refresh tasks).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,17 +1,20 @@
 package com.gs.dsp.shared.infrastructure.config;
 
+/**
+ * Tenant of the current request, as a view over the bound {@link RequestContext}.
+ */
 public class TenantContext {
-    private static final ThreadLocal<String> currentTenant = new ThreadLocal<>();
 
     public static void setTenantId(String tenantId) {
-        currentTenant.set(tenantId);
+        RequestContext.bindTenant(tenantId, null);
     }
 
     public static String getTenantId() {
-        return currentTenant.get();
+        RequestContext context = RequestContext.current();
+        return context != null ? context.tenantId() : null;
     }
 
     public static void clear() {
-        currentTenant.remove();
+        RequestContext.bind(null);
     }
 }
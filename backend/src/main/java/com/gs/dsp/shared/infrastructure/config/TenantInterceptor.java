@@ -1,8 +1,12 @@
 package com.gs.dsp.shared.infrastructure.config;
 
+import com.gs.dsp.shared.infrastructure.ratelimit.RateLimitDecision;
+import com.gs.dsp.shared.infrastructure.ratelimit.RateLimitService;
 import com.gs.dsp.shared.kernel.constants.AppConstants;
 import com.gs.dsp.shared.kernel.constants.ErrorMessages;
 import com.gs.dsp.iam.application.service.ApiKeyApplicationService;
+import com.gs.dsp.iam.application.service.TenantStatusCache;
+import com.gs.dsp.iam.domain.model.ApiKeyId;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -15,8 +19,11 @@ public class TenantInterceptor implements HandlerInterceptor {
 
     private static final String TENANT_HEADER = AppConstants.HEADER_TENANT_ID;
     private static final String API_KEY_HEADER = AppConstants.HEADER_API_KEY;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
 
     private final ApiKeyApplicationService apiKeyService;
+    private final RateLimitService rateLimitService;
+    private final TenantStatusCache tenantStatusCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -29,8 +36,13 @@ public class TenantInterceptor implements HandlerInterceptor {
         if (apiKey != null && !apiKey.isBlank()) {
             return apiKeyService.validateApiKey(apiKey)
                     .map(key -> {
-                        TenantContext.setTenantId(key.getTenantId().getId());
-                        return true;
+                        String tenantId = key.getTenantId().getId();
+                        if (!tenantStatusCache.isActive(tenantId)) {
+                            return rejectTenant(response);
+                        }
+                        RequestContext.bindTenant(tenantId, key.getId());
+                        request.setAttribute(AppConstants.ATTR_API_KEY_ID, key.getId());
+                        return applyRateLimit(key.getId(), tenantId, response);
                     })
                     .orElseGet(() -> {
                         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -50,12 +62,49 @@ public class TenantInterceptor implements HandlerInterceptor {
             response.getWriter().write(ErrorMessages.MISSING_HEADERS);
             return false;
         }
-        TenantContext.setTenantId(tenantId);
-        return true;
+        if (!tenantStatusCache.isActive(tenantId)) {
+            return rejectTenant(response);
+        }
+        RequestContext.bindTenant(tenantId, null);
+        return applyRateLimit(null, tenantId, response);
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        TenantContext.clear();
+        // Row budgets are charged once the result size is known; the tenant binding itself
+        // ends with the request scope opened by TraceIdFilter
+        if (request.getAttribute(AppConstants.ATTR_RESULT_ROWS) instanceof Number rows) {
+            ApiKeyId apiKeyId = (ApiKeyId) request.getAttribute(AppConstants.ATTR_API_KEY_ID);
+            rateLimitService.chargeRows(apiKeyId, TenantContext.getTenantId(), rows.longValue());
+        }
+    }
+
+    private boolean rejectTenant(HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        try {
+            response.getWriter().write(ErrorMessages.TENANT_NOT_ACTIVE);
+        } catch (Exception e) {
+            // ignore
+        }
+        return false;
+    }
+
+    private boolean applyRateLimit(ApiKeyId apiKeyId, String tenantId, HttpServletResponse response) {
+        RateLimitDecision decision = rateLimitService.tryAcquire(apiKeyId, tenantId);
+        if (decision.isLimited()) {
+            response.setHeader(AppConstants.HEADER_RATE_LIMIT_LIMIT, String.valueOf(decision.limit()));
+            response.setHeader(AppConstants.HEADER_RATE_LIMIT_REMAINING, String.valueOf(decision.remaining()));
+        }
+        if (decision.allowed()) {
+            return true;
+        }
+        response.setStatus(SC_TOO_MANY_REQUESTS);
+        response.setHeader(AppConstants.HEADER_RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        try {
+            response.getWriter().write(ErrorMessages.RATE_LIMIT_EXCEEDED);
+        } catch (Exception e) {
+            // ignore
+        }
+        return false;
     }
 }
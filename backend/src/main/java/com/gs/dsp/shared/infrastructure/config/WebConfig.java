@@ -24,9 +24,11 @@ public class WebConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5176", "http://localhost:5177", "http://localhost:3000", "http://localhost:5173")
-                .allowedMethods(AppConstants.METHOD_GET, AppConstants.METHOD_POST, AppConstants.METHOD_PUT, AppConstants.METHOD_DELETE, AppConstants.METHOD_OPTIONS)
+                .allowedMethods(AppConstants.METHOD_GET, AppConstants.METHOD_POST, AppConstants.METHOD_PUT, AppConstants.METHOD_PATCH, AppConstants.METHOD_DELETE, AppConstants.METHOD_OPTIONS)
                 .allowedHeaders("*")
-                .exposedHeaders(AppConstants.HEADER_TENANT_ID)
+                .exposedHeaders(AppConstants.HEADER_TENANT_ID, AppConstants.HEADER_RETRY_AFTER,
+                        AppConstants.HEADER_RATE_LIMIT_LIMIT, AppConstants.HEADER_RATE_LIMIT_REMAINING,
+                        AppConstants.HEADER_TOTAL_COUNT)
                 .allowCredentials(true);
     }
 }
@@ -1,20 +1,26 @@
 package com.gs.dsp.shared.infrastructure.filter;
 
+import com.gs.dsp.shared.infrastructure.config.RequestContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
- * Filter that generates a unique traceId for every request and stores it in MDC.
+ * Filter that generates a unique traceId for every request and opens its {@link RequestContext}.
+ * The context is bound for the rest of the filter chain and copied to MDC for logging.
  * The traceId is returned in the X-Trace-ID response header for correlation.
  */
 @Component
@@ -22,9 +28,22 @@ import java.util.UUID;
 public class TraceIdFilter extends OncePerRequestFilter {
 
     public static final String TRACE_ID_HEADER = "X-Trace-ID";
-    public static final String MDC_TRACE_ID_KEY = "traceId";
+    public static final String MDC_TRACE_ID_KEY = RequestContext.MDC_TRACE_ID_KEY;
     public static final String MDC_USER_ID_KEY = "userId";
-    public static final String MDC_TENANT_ID_KEY = "tenantId";
+    public static final String MDC_TENANT_ID_KEY = RequestContext.MDC_TENANT_ID_KEY;
+
+    private static final long DEFAULT_TIMEOUT_MS = 30_000;
+
+    private final Duration requestTimeout;
+
+    public TraceIdFilter() {
+        this(DEFAULT_TIMEOUT_MS);
+    }
+
+    @Autowired
+    public TraceIdFilter(@Value("${request.timeout-ms:30000}") long requestTimeoutMs) {
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -34,23 +53,21 @@ public class TraceIdFilter extends OncePerRequestFilter {
 
         String traceId = generateTraceId();
 
-        try {
-            // Store traceId in MDC for logging
-            MDC.put(MDC_TRACE_ID_KEY, traceId);
-
-            // Optionally capture tenant ID if available in header
-            String tenantId = request.getHeader("X-Tenant-ID");
-            if (tenantId != null && !tenantId.isBlank()) {
-                MDC.put(MDC_TENANT_ID_KEY, tenantId);
-            }
+        // Add traceId to response header for client correlation
+        response.setHeader(TRACE_ID_HEADER, traceId);
 
-            // Add traceId to response header for client correlation
-            response.setHeader(TRACE_ID_HEADER, traceId);
-
-            filterChain.doFilter(request, response);
-        } finally {
-            // Always clear MDC to prevent memory leaks in thread pools
-            MDC.clear();
+        // The tenant is added once TenantInterceptor has resolved it; the binding, and the
+        // MDC entries copied from it, are removed when the chain returns
+        RequestContext context = new RequestContext(traceId, null, null, Instant.now().plus(requestTimeout));
+        try {
+            RequestContext.<Void, Exception>call(context, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
         }
     }
 
@@ -63,10 +80,11 @@ public class TraceIdFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Gets the current traceId from MDC.
+     * Gets the current traceId from the request context, or from MDC outside a request.
      * Useful for injecting into error responses and other components.
      */
     public static String getCurrentTraceId() {
-        return MDC.get(MDC_TRACE_ID_KEY);
+        RequestContext context = RequestContext.current();
+        return context != null && context.traceId() != null ? context.traceId() : MDC.get(MDC_TRACE_ID_KEY);
     }
 }
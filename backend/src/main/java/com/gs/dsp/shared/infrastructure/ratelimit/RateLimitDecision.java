@@ -0,0 +1,30 @@
+package com.gs.dsp.shared.infrastructure.ratelimit;
+
+/**
+ * Outcome of a rate-limit check, carrying the values reported in the
+ * {@code X-RateLimit-*} and {@code Retry-After} response headers.
+ *
+ * @param allowed         whether the request may proceed
+ * @param limit           burst capacity of the bucket that governs the response headers
+ * @param remaining       permits left in that bucket after this request
+ * @param retryAfterNanos time to wait before retrying, {@code 0} when allowed
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long retryAfterNanos) {
+
+    private static final RateLimitDecision UNLIMITED = new RateLimitDecision(true, -1, -1, 0);
+
+    public static RateLimitDecision unlimited() {
+        return UNLIMITED;
+    }
+
+    public boolean isLimited() {
+        return limit >= 0;
+    }
+
+    /**
+     * Retry-After value in whole seconds, rounded up and never below one.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1L, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+    }
+}
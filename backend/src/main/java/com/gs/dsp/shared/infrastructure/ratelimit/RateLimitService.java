@@ -0,0 +1,197 @@
+package com.gs.dsp.shared.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-memory rate limiter for the public data API.
+ * <p>
+ * Each API key and each tenant owns two {@link TokenBucket}s: one for requests per second
+ * and one for rows per second. Request buckets are checked before the request is handled;
+ * row buckets are charged after the response is produced (the row count is only known then)
+ * and reject the next request while they are in debt.
+ * </p>
+ * <p>
+ * Buckets are kept in bounded caches: at most {@code rate-limit.max-buckets} keys and as many
+ * tenants, each dropped once idle for {@code rate-limit.idle-expiry-ms}. A bucket dropped
+ * before it has refilled, for example one in row debt evicted by key churn, is parked until
+ * it would be full again and picked up from there, so dropping it never hands a throttled
+ * client a fresh burst. Buckets of revoked or deleted keys expire the same way.
+ * </p>
+ * A rate of {@code 0} disables the corresponding limit.
+ */
+@Component
+public class RateLimitService {
+
+    private final boolean enabled;
+    private final Limit keyRequests;
+    private final Limit keyRows;
+    private final Limit tenantRequests;
+    private final Limit tenantRows;
+
+    private final BucketCache<ApiKeyId> keyBuckets;
+    private final BucketCache<String> tenantBuckets;
+
+    public RateLimitService(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.api-key.requests-per-second:50}") double keyRequestsPerSecond,
+            @Value("${rate-limit.api-key.requests-burst:100}") long keyRequestsBurst,
+            @Value("${rate-limit.api-key.rows-per-second:10000}") double keyRowsPerSecond,
+            @Value("${rate-limit.api-key.rows-burst:50000}") long keyRowsBurst,
+            @Value("${rate-limit.tenant.requests-per-second:200}") double tenantRequestsPerSecond,
+            @Value("${rate-limit.tenant.requests-burst:400}") long tenantRequestsBurst,
+            @Value("${rate-limit.tenant.rows-per-second:50000}") double tenantRowsPerSecond,
+            @Value("${rate-limit.tenant.rows-burst:200000}") long tenantRowsBurst,
+            @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${rate-limit.idle-expiry-ms:600000}") long idleExpiryMs) {
+        if (maxBuckets <= 0 || idleExpiryMs <= 0) {
+            throw new IllegalArgumentException("Invalid rate limit settings");
+        }
+        this.enabled = enabled;
+        this.keyRequests = new Limit(keyRequestsPerSecond, keyRequestsBurst);
+        this.keyRows = new Limit(keyRowsPerSecond, keyRowsBurst);
+        this.tenantRequests = new Limit(tenantRequestsPerSecond, tenantRequestsBurst);
+        this.tenantRows = new Limit(tenantRowsPerSecond, tenantRowsBurst);
+        this.keyBuckets = new BucketCache<>(maxBuckets, idleExpiryMs, id -> new Buckets(keyRequests, keyRows));
+        this.tenantBuckets = new BucketCache<>(maxBuckets, idleExpiryMs, id -> new Buckets(tenantRequests, tenantRows));
+    }
+
+    /**
+     * Admits or rejects one request.
+     *
+     * @param apiKeyId key that authenticated the request, or {@code null} for header-based tenant access
+     * @param tenantId tenant the request runs as
+     */
+    public RateLimitDecision tryAcquire(ApiKeyId apiKeyId, String tenantId) {
+        if (!enabled) {
+            return RateLimitDecision.unlimited();
+        }
+        long now = System.nanoTime();
+        Buckets key = apiKeyId != null ? keyBuckets.get(apiKeyId) : null;
+        Buckets tenant = tenantId != null ? tenantBuckets.get(tenantId) : null;
+
+        // Row budgets: reject while in debt, without consuming anything
+        long wait = Math.max(probe(key == null ? null : key.rows, now), probe(tenant == null ? null : tenant.rows, now));
+        if (wait > 0) {
+            return denied(key != null ? key.requests : tenant.requests, now, wait);
+        }
+
+        TokenBucket keyRequestBucket = key == null ? null : key.requests;
+        if (keyRequestBucket != null) {
+            wait = keyRequestBucket.tryAcquire(1, now);
+            if (wait > 0) {
+                return denied(keyRequestBucket, now, wait);
+            }
+        }
+        TokenBucket tenantRequestBucket = tenant == null ? null : tenant.requests;
+        if (tenantRequestBucket != null) {
+            wait = tenantRequestBucket.tryAcquire(1, now);
+            if (wait > 0) {
+                if (keyRequestBucket != null) {
+                    keyRequestBucket.refund(1);
+                }
+                return denied(tenantRequestBucket, now, wait);
+            }
+        }
+
+        TokenBucket reported = keyRequestBucket != null ? keyRequestBucket : tenantRequestBucket;
+        return reported == null
+                ? RateLimitDecision.unlimited()
+                : new RateLimitDecision(true, reported.getBurst(), reported.remaining(now), 0L);
+    }
+
+    /**
+     * Charges the rows returned by a completed request against the key and tenant row budgets.
+     */
+    public void chargeRows(ApiKeyId apiKeyId, String tenantId, long rows) {
+        if (!enabled || rows <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (apiKeyId != null) {
+            TokenBucket rowBucket = keyBuckets.get(apiKeyId).rows;
+            if (rowBucket != null) {
+                rowBucket.charge(rows, now);
+            }
+        }
+        if (tenantId != null) {
+            TokenBucket rowBucket = tenantBuckets.get(tenantId).rows;
+            if (rowBucket != null) {
+                rowBucket.charge(rows, now);
+            }
+        }
+    }
+
+    private static long probe(TokenBucket bucket, long now) {
+        return bucket == null ? 0L : bucket.tryAcquire(0, now);
+    }
+
+    private static RateLimitDecision denied(TokenBucket reported, long now, long wait) {
+        if (reported == null) {
+            return new RateLimitDecision(false, 0, 0, wait);
+        }
+        return new RateLimitDecision(false, reported.getBurst(), reported.remaining(now), wait);
+    }
+
+    private record Limit(double perSecond, long burst) {
+        TokenBucket newBucket() {
+            return perSecond > 0 ? new TokenBucket(perSecond, burst) : null;
+        }
+    }
+
+    private static final class Buckets {
+        private final TokenBucket requests;
+        private final TokenBucket rows;
+
+        private Buckets(Limit requestLimit, Limit rowLimit) {
+            this.requests = requestLimit.newBucket();
+            this.rows = rowLimit.newBucket();
+        }
+
+        private long nanosUntilFull(long now) {
+            return Math.max(requests == null ? 0L : requests.nanosUntilFull(now),
+                    rows == null ? 0L : rows.nanosUntilFull(now));
+        }
+    }
+
+    /**
+     * Bounded cache of buckets that parks evicted buckets until they have refilled.
+     */
+    private static final class BucketCache<K> {
+        private final Cache<K, Buckets> parked = Caffeine.newBuilder()
+                .expireAfter(Expiry.<K, Buckets>writing((key, buckets) ->
+                        Duration.ofNanos(buckets.nanosUntilFull(System.nanoTime()))))
+                .build();
+        private final Cache<K, Buckets> active;
+        private final Function<K, Buckets> newBuckets;
+
+        private BucketCache(long maxBuckets, long idleExpiryMs, Function<K, Buckets> newBuckets) {
+            this.newBuckets = newBuckets;
+            this.active = Caffeine.newBuilder()
+                    .maximumSize(maxBuckets)
+                    .expireAfterAccess(Duration.ofMillis(idleExpiryMs))
+                    // Evict on the caller's thread, so a bucket is parked before it can be looked up again
+                    .executor(Runnable::run)
+                    .<K, Buckets>evictionListener((key, buckets, cause) -> {
+                        if (key != null && buckets != null && buckets.nanosUntilFull(System.nanoTime()) > 0) {
+                            parked.put(key, buckets);
+                        }
+                    })
+                    .build();
+        }
+
+        Buckets get(K key) {
+            return active.get(key, id -> {
+                Buckets buckets = parked.asMap().remove(id);
+                return buckets != null ? buckets : newBuckets.apply(id);
+            });
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.gs.dsp.shared.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented with the Generic Cell Rate Algorithm (GCRA).
+ * <p>
+ * The whole bucket state is a single "theoretical arrival time" (TAT) held in an
+ * {@link AtomicLong}, so a check is one volatile read plus (when allowed) one CAS,
+ * with no locks and no allocation.
+ * </p>
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final long burst;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param permitsPerSecond sustained rate, must be positive
+     * @param burst            maximum number of permits that can be taken at once from an idle bucket
+     */
+    public TokenBucket(double permitsPerSecond, long burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / permitsPerSecond));
+        this.burst = Math.max(1L, burst);
+        this.toleranceNanos = this.burst * emissionIntervalNanos;
+    }
+
+    /**
+     * Tries to take {@code permits} permits.
+     *
+     * @return {@code 0} if the permits were granted, otherwise the number of nanoseconds
+     * to wait before the same request would be granted
+     */
+    public long tryAcquire(long permits, long nowNanos) {
+        long increment = permits * emissionIntervalNanos;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long tat = Math.max(current, nowNanos);
+            long newTat = tat + increment;
+            long allowAt = newTat - toleranceNanos;
+            if (allowAt > nowNanos) {
+                return allowAt - nowNanos;
+            }
+            if (permits == 0 || theoreticalArrival.compareAndSet(current, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Unconditionally takes {@code permits} permits. The bucket may go into debt,
+     * in which case subsequent {@link #tryAcquire} calls are rejected until it is repaid.
+     */
+    public void charge(long permits, long nowNanos) {
+        long increment = permits * emissionIntervalNanos;
+        theoreticalArrival.getAndUpdate(current -> Math.max(current, nowNanos) + increment);
+    }
+
+    /**
+     * Returns permits previously taken by a successful {@link #tryAcquire}.
+     */
+    public void refund(long permits) {
+        theoreticalArrival.addAndGet(-permits * emissionIntervalNanos);
+    }
+
+    /**
+     * Number of permits that could be taken right now without being rejected.
+     */
+    public long remaining(long nowNanos) {
+        long backlog = Math.max(theoreticalArrival.get(), nowNanos) - nowNanos;
+        return Math.max(0L, (toleranceNanos - backlog) / emissionIntervalNanos);
+    }
+
+    /**
+     * Nanoseconds until the bucket has refilled to its full burst; {@code 0} if it is full.
+     */
+    public long nanosUntilFull(long nowNanos) {
+        return Math.max(0L, theoreticalArrival.get() - nowNanos);
+    }
+
+    public long getBurst() {
+        return burst;
+    }
+}
@@ -1,6 +1,9 @@
 package com.gs.dsp.shared.infrastructure.web;
 
 import com.gs.dsp.shared.infrastructure.filter.TraceIdFilter;
+import com.gs.dsp.shared.kernel.constants.AppConstants;
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
+import com.gs.dsp.shared.kernel.exception.InvalidMetadataException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -38,6 +41,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(InvalidMetadataException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleInvalidMetadataException(
+            InvalidMetadataException ex,
+            HttpServletRequest request) {
+        String traceId = TraceIdFilter.getCurrentTraceId();
+        log.warn("[traceId={}] Invalid metadata: {}", traceId, ex.getMessage());
+        
+        ErrorResponse error = new ErrorResponse(
+            "VALIDATION_ERROR",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.badRequest().body(error);
+    }
+
     @ExceptionHandler(SecurityException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ResponseEntity<ErrorResponse> handleSecurityException(
@@ -96,6 +116,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(ConnectorUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> handleConnectorUnavailableException(
+            ConnectorUnavailableException ex,
+            HttpServletRequest request) {
+        String traceId = TraceIdFilter.getCurrentTraceId();
+        // Expected while a source is down: no stack trace
+        log.warn("[traceId={}] Connector unavailable: {}", traceId, ex.getConnectorId());
+        
+        ErrorResponse error = new ErrorResponse(
+            "CONNECTOR_UNAVAILABLE",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(AppConstants.HEADER_RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler({
         java.sql.SQLException.class,
         java.net.SocketTimeoutException.class,
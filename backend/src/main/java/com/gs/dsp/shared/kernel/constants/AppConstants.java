@@ -13,6 +13,7 @@ public final class AppConstants {
     public static final int DEFAULT_PAGE_SIZE = 10;
     public static final int MAX_PAGE_SIZE = 100;
     public static final int DEFAULT_QUERY_LIMIT = 100;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
 
     // Validation Limits
     public static final int MAX_IDENTIFIER_LENGTH = 128;
@@ -24,6 +25,11 @@ public final class AppConstants {
 
     // Database Connection
     public static final int DEFAULT_POOL_SIZE = 10;
+    public static final int DEFAULT_POOL_MIN_IDLE = 1;
+    public static final long DEFAULT_POOL_IDLE_TIMEOUT_MS = 600_000L;
+    public static final long DEFAULT_POOL_MAX_LIFETIME_MS = 1_800_000L;
+    public static final long DEFAULT_POOL_CONNECTION_TIMEOUT_MS = 10_000L;
+    public static final int MAX_POOL_SIZE = 100;
 
     // Cache Configuration
     public static final int CACHE_TTL_MINUTES = 10;
@@ -42,6 +48,14 @@ public final class AppConstants {
     // HTTP Headers
     public static final String HEADER_TENANT_ID = "X-Tenant-ID";
     public static final String HEADER_API_KEY = "X-API-Key";
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
+    public static final String HEADER_RATE_LIMIT_LIMIT = "X-RateLimit-Limit";
+    public static final String HEADER_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    public static final String HEADER_TOTAL_COUNT = "X-Total-Count";
+
+    // Request Attributes
+    public static final String ATTR_API_KEY_ID = "dsp.apiKeyId";
+    public static final String ATTR_RESULT_ROWS = "dsp.resultRows";
 
     // Masking Types
     public static final String MASKING_TYPE_FIXED = "FIXED";
@@ -53,6 +67,7 @@ public final class AppConstants {
     public static final String METHOD_GET = "GET";
     public static final String METHOD_POST = "POST";
     public static final String METHOD_PUT = "PUT";
+    public static final String METHOD_PATCH = "PATCH";
     public static final String METHOD_DELETE = "DELETE";
     public static final String METHOD_OPTIONS = "OPTIONS";
 
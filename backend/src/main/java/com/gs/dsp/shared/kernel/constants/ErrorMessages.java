@@ -14,6 +14,7 @@ public final class ErrorMessages {
     public static final String CONNECTOR_NOT_FOUND_WITH_ID = "Connector not found: %s";
     public static final String TENANT_NOT_FOUND_WITH_ID = "Tenant not found with ID: %s";
     public static final String DATA_ENDPOINT_NOT_FOUND = "Data Endpoint not found: %s";
+    public static final String REGISTERED_TABLE_NOT_FOUND = "Registered table not found: %s";
     public static final String API_KEY_NOT_FOUND = "API key not found";
     public static final String RESOURCE_NOT_FOUND = "%s not found";
     public static final String NOT_FOUND_WITH_ID = "%s not found with ID: %s";
@@ -48,6 +49,8 @@ public final class ErrorMessages {
     public static final String INVALID_UUID_LOG = "SECURITY: Invalid UUID format detected for %s: %s";
     public static final String INVALID_API_KEY = "Invalid API Key";
     public static final String MISSING_HEADERS = "Missing X-Tenant-ID or X-API-Key header";
+    public static final String RATE_LIMIT_EXCEEDED = "Rate limit exceeded";
+    public static final String TENANT_NOT_ACTIVE = "Tenant is unknown or not active";
 
     // Validation Messages (Extended)
     public static final String IDENTIFIER_NULL = "%s cannot be null or empty";
@@ -60,6 +63,9 @@ public final class ErrorMessages {
     public static final String COLUMN_NOT_AVAILABLE = "Column '%s' is not available in the selected table";
     public static final String INVALID_ORDER_BY = "Invalid ORDER BY clause format";
     public static final String INVALID_ORDER_DIRECTION = "ORDER BY direction must be ASC or DESC";
+    public static final String NOT_A_QUERY = "%s must be a single SELECT or WITH query";
+    public static final String INVALID_QUERY_CONFIG = "Invalid query configuration";
+    public static final String SQL_DOES_NOT_COMPILE = "Custom SQL does not compile against the source: %s";
 
     // Encryption Messages
     public static final String ERROR_ENCRYPTING = "Error encrypting value";
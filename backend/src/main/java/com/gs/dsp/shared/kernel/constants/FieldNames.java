@@ -28,6 +28,7 @@ public final class FieldNames {
 
     // Configuration Keys
     public static final String SCHEMA = "schema";
+    public static final String SCHEMAS = "schemas";
     public static final String DEFAULT_SCHEMA = "public";
     public static final String LIMIT = "limit";
     public static final String PAGE = "page";
@@ -59,4 +60,16 @@ public final class FieldNames {
     public static final String CONFIG_PASSWORD = "password";
     public static final String CONFIG_ENCRYPTED_PASSWORD = "encrypted_password";
     public static final String CONFIG_DRIVER_CLASS = "driver_class";
+
+    // Connection Pool Config Keys (nested under "pool")
+    public static final String CONFIG_POOL = "pool";
+    public static final String POOL_MAX_SIZE = "maxPoolSize";
+    public static final String POOL_MIN_IDLE = "minIdle";
+    public static final String POOL_IDLE_TIMEOUT_MS = "idleTimeoutMs";
+    public static final String POOL_MAX_LIFETIME_MS = "maxLifetimeMs";
+    public static final String POOL_CONNECTION_TIMEOUT_MS = "connectionTimeoutMs";
+    public static final String POOL_CONNECTION_INIT_SQL = "connectionInitSql";
+    public static final String POOL_ADAPTIVE = "adaptive";
+    public static final String POOL_ADAPTIVE_MIN_SIZE = "adaptiveMinPoolSize";
+    public static final String POOL_ADAPTIVE_MAX_SIZE = "adaptiveMaxPoolSize";
 }
@@ -0,0 +1,27 @@
+package com.gs.dsp.shared.kernel.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a connector's source database is known to be unreachable and
+ * requests are failed fast instead of waiting for a connection timeout.
+ */
+public class ConnectorUnavailableException extends RuntimeException {
+
+    private final UUID connectorId;
+    private final long retryAfterSeconds;
+
+    public ConnectorUnavailableException(UUID connectorId, long retryAfterSeconds) {
+        super("Connector is temporarily unavailable: " + connectorId);
+        this.connectorId = connectorId;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public UUID getConnectorId() {
+        return connectorId;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gs.dsp.shared.kernel.exception;
+
+/**
+ * Thrown when submitted table or column metadata is invalid, such as a blank table name
+ * or an update to a column the table does not have. Kept apart from
+ * {@link IllegalArgumentException}, which controllers answer with 404 for unknown ids.
+ */
+public class InvalidMetadataException extends RuntimeException {
+
+    public InvalidMetadataException(String message) {
+        super(message);
+    }
+}
@@ -1,29 +1,99 @@
 package com.gs.dsp.shared.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.gs.dsp.shared.kernel.constants.ErrorMessages;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * Encrypts and decrypts stored secrets such as connector passwords.
+ * <p>
+ * Values are sealed with AES-GCM under the current key version and written as
+ * {@code v<version>:<base64(iv | ciphertext | tag)>}, so a ciphertext names the key that
+ * opens it. Rotating means moving the old key to {@code encryption.secret.previous-keys}
+ * and setting a new {@code encryption.secret.key} and {@code encryption.secret.key-version}:
+ * existing values keep decrypting while new ones use the new key. Unprefixed values are
+ * legacy AES/ECB ciphertexts written under key version 1.
+ * </p>
+ * <p>
+ * Ciphers come from a small pool shared by all threads rather than one per thread:
+ * requests run on short-lived virtual threads, which would each create a cipher and never
+ * reuse it. {@link #decryptCredential} caches decrypted credentials for
+ * {@code encryption.credential-cache.ttl-ms}, keyed by owner and ciphertext, so a changed
+ * or re-encrypted credential is never served stale.
+ * </p>
+ */
 @Component
 public class EncryptionUtil {
 
     private static final String ALGORITHM = "AES";
-    
-    @Value("${encryption.secret.key}")
-    private String secretKey; // Loaded from environment variable or application.properties
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String VERSION_PREFIX = "v";
+    private static final char VERSION_SEPARATOR = ':';
+    private static final int LEGACY_KEY_VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final int CIPHER_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final CipherPool gcmCiphers = new CipherPool(GCM_TRANSFORMATION);
+    private final CipherPool legacyCiphers = new CipherPool(LEGACY_TRANSFORMATION);
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<Integer, SecretKeySpec> keys;
+    private final int currentVersion;
+    private final Cache<CredentialKey, String> credentials;
+
+    public EncryptionUtil(
+            @Value("${encryption.secret.key}") String secretKey,
+            @Value("${encryption.secret.key-version:1}") int keyVersion,
+            @Value("${encryption.secret.previous-keys:}") String previousKeys,
+            @Value("${encryption.credential-cache.ttl-ms:300000}") long credentialTtlMs,
+            @Value("${encryption.credential-cache.max-size:1000}") long credentialMaxSize) {
+        if (keyVersion <= 0 || credentialTtlMs <= 0 || credentialMaxSize <= 0) {
+            throw new IllegalArgumentException("Invalid encryption settings");
+        }
+        Map<Integer, SecretKeySpec> versionedKeys = new HashMap<>(parseKeys(previousKeys));
+        versionedKeys.put(keyVersion, keySpec(secretKey));
+        this.keys = Map.copyOf(versionedKeys);
+        this.currentVersion = keyVersion;
+        this.credentials = Caffeine.newBuilder()
+                .maximumSize(credentialMaxSize)
+                .expireAfterWrite(Duration.ofMillis(credentialTtlMs))
+                .build();
+    }
 
     public String encrypt(String value) {
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-            byte[] encryptedValue = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedValue);
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = gcmCiphers.borrow();
+            byte[] sealed;
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, keys.get(currentVersion), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+                sealed = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            } finally {
+                gcmCiphers.release(cipher);
+            }
+            byte[] payload = ByteBuffer.allocate(IV_LENGTH + sealed.length).put(iv).put(sealed).array();
+            return VERSION_PREFIX + currentVersion + VERSION_SEPARATOR + Base64.getEncoder().encodeToString(payload);
         } catch (Exception e) {
             throw new RuntimeException(ErrorMessages.ERROR_ENCRYPTING, e);
         }
@@ -31,14 +101,110 @@ public class EncryptionUtil {
 
     public String decrypt(String encryptedValue) {
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-            byte[] decodedValue = Base64.getDecoder().decode(encryptedValue);
-            byte[] decryptedValue = cipher.doFinal(decodedValue);
-            return new String(decryptedValue, StandardCharsets.UTF_8);
+            int separator = encryptedValue.indexOf(VERSION_SEPARATOR);
+            if (separator < 0) {
+                return decryptLegacy(encryptedValue);
+            }
+            if (!encryptedValue.startsWith(VERSION_PREFIX)) {
+                throw new IllegalArgumentException("Unknown ciphertext format");
+            }
+            SecretKeySpec key = keyFor(Integer.parseInt(encryptedValue.substring(VERSION_PREFIX.length(), separator)));
+            byte[] payload = Base64.getDecoder().decode(encryptedValue.substring(separator + 1));
+            Cipher cipher = gcmCiphers.borrow();
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, payload, 0, IV_LENGTH));
+                byte[] decryptedValue = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+                return new String(decryptedValue, StandardCharsets.UTF_8);
+            } finally {
+                gcmCiphers.release(cipher);
+            }
         } catch (Exception e) {
             throw new RuntimeException(ErrorMessages.ERROR_DECRYPTING, e);
         }
     }
+
+    /**
+     * Decrypts a credential owned by e.g. a connector, reusing a recent result for the
+     * same owner and ciphertext.
+     */
+    public String decryptCredential(UUID ownerId, String encryptedValue) {
+        return credentials.get(new CredentialKey(ownerId, encryptedValue), key -> decrypt(key.encryptedValue()));
+    }
+
+    private String decryptLegacy(String encryptedValue) throws Exception {
+        Cipher cipher = legacyCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, keyFor(LEGACY_KEY_VERSION));
+            byte[] decryptedValue = cipher.doFinal(Base64.getDecoder().decode(encryptedValue));
+            return new String(decryptedValue, StandardCharsets.UTF_8);
+        } finally {
+            legacyCiphers.release(cipher);
+        }
+    }
+
+    private SecretKeySpec keyFor(int version) {
+        SecretKeySpec key = keys.get(version);
+        if (key == null) {
+            throw new IllegalArgumentException("No encryption key for version " + version);
+        }
+        return key;
+    }
+
+    /**
+     * Parses {@code version:key} pairs separated by commas.
+     */
+    private static Map<Integer, SecretKeySpec> parseKeys(String previousKeys) {
+        Map<Integer, SecretKeySpec> parsed = new HashMap<>();
+        if (previousKeys == null || previousKeys.isBlank()) {
+            return parsed;
+        }
+        for (String entry : previousKeys.split(",")) {
+            int separator = entry.indexOf(VERSION_SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid encryption settings");
+            }
+            int version = Integer.parseInt(entry.substring(0, separator).trim());
+            parsed.put(version, keySpec(entry.substring(separator + 1).trim()));
+        }
+        return parsed;
+    }
+
+    private static SecretKeySpec keySpec(String secretKey) {
+        return new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * A few idle ciphers of one transformation, shared by all threads. Each borrowed cipher
+     * is used by one caller only and re-initialized before use; a borrow finding none idle
+     * creates one, and ciphers returned to a full pool are dropped.
+     */
+    private static final class CipherPool {
+
+        private final String transformation;
+        private final BlockingQueue<Cipher> idle = new ArrayBlockingQueue<>(CIPHER_POOL_SIZE);
+
+        CipherPool(String transformation) {
+            this.transformation = transformation;
+        }
+
+        Cipher borrow() {
+            Cipher cipher = idle.poll();
+            return cipher != null ? cipher : newCipher();
+        }
+
+        void release(Cipher cipher) {
+            idle.offer(cipher);
+        }
+
+        private Cipher newCipher() {
+            try {
+                return Cipher.getInstance(transformation);
+            } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record CredentialKey(UUID ownerId, String encryptedValue) {
+    }
 }
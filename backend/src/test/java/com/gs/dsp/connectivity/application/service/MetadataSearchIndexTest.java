@@ -0,0 +1,86 @@
+package com.gs.dsp.connectivity.application.service;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataSearchResult;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MetadataSearchIndex
+ */
+public class MetadataSearchIndexTest {
+
+    private final MetadataSearchIndex index = new MetadataSearchIndex();
+
+    @Test
+    void testTokenize_SplitsSeparatorsAndCamelCase() {
+        assertThat(MetadataSearchIndex.tokenize("customer_email")).containsExactly("customer", "email");
+        assertThat(MetadataSearchIndex.tokenize("CustomerEmail")).containsExactly("customer", "email");
+        assertThat(MetadataSearchIndex.tokenize("addr2Line")).containsExactly("addr2", "line");
+        assertThat(MetadataSearchIndex.tokenize(" -- ")).isEmpty();
+    }
+
+    @Test
+    void testSearch_RanksExactNameAboveWordAndPrefixMatches() {
+        UUID crm = UUID.randomUUID();
+        UUID shop = UUID.randomUUID();
+        index.index(crm, "CRM", List.of(
+                table("customers", column("email", SemanticType.EMAIL), column("customer_email", SemanticType.EMAIL))));
+        index.index(shop, "Shop", List.of(
+                table("orders", column("customer_email_verified", SemanticType.BOOLEAN), column("total", null))));
+
+        List<MetadataSearchResult> results = index.search("customer_email", 10);
+
+        assertThat(results).extracting(MetadataSearchResult::columnName)
+                .containsExactly("customer_email", "customer_email_verified", "email");
+        assertThat(results.get(0).connectorName()).isEqualTo("CRM");
+        assertThat(results.get(1).connectorId()).isEqualTo(shop);
+    }
+
+    @Test
+    void testSearch_MatchesPrefixesInfixesAndSemanticTypes() {
+        index.index(UUID.randomUUID(), "CRM", List.of(
+                table("customers", column("contact", SemanticType.EMAIL), column("phone_number", SemanticType.NUMBER))));
+
+        assertThat(index.search("cust", 10)).extracting(MetadataSearchResult::tableName).contains("customers");
+        assertThat(index.search("umber", 10)).extracting(MetadataSearchResult::columnName)
+                .containsExactly("phone_number");
+        assertThat(index.search("email", 10)).extracting(MetadataSearchResult::columnName)
+                .containsExactly("contact");
+        assertThat(index.search("invoice", 10)).isEmpty();
+    }
+
+    @Test
+    void testIndex_ReplacesAndRemovesConnectorDocuments() {
+        UUID connectorId = UUID.randomUUID();
+        index.index(connectorId, "CRM", List.of(table("customers", column("email", SemanticType.EMAIL))));
+        index.index(connectorId, "CRM", List.of(table("clients", column("mail", SemanticType.EMAIL))));
+
+        assertThat(index.search("customers", 10)).isEmpty();
+        assertThat(index.search("clients", 10)).hasSize(2);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.remove(connectorId);
+
+        assertThat(index.search("clients", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    private static TableMetadata table(String name, ColumnMetadata... columns) {
+        return new TableMetadata(name, List.of(columns));
+    }
+
+    private static ColumnMetadata column(String name, SemanticType semanticType) {
+        ColumnMetadata column = new ColumnMetadata(name, "varchar");
+        if (semanticType != null) {
+            column.setSemanticType(semanticType);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gs.dsp.connectivity.domain.model;
+
+import com.gs.dsp.connectivity.domain.event.RegisteredTablesChangedEvent;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadataUpdate;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.gs.dsp.shared.domain.model.DomainEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the domain events raised by RegisteredTable.
+ */
+class RegisteredTableTest {
+
+    private final ConnectorId connectorId = ConnectorId.generate();
+
+    @Test
+    void create_ShouldRaiseTablesChangedEvent() {
+        RegisteredTable table = RegisteredTable.create(connectorId, "tenant-1", metadata(), 0);
+
+        RegisteredTablesChangedEvent event = assertInstanceOf(RegisteredTablesChangedEvent.class,
+                table.getDomainEvents().getFirst());
+        assertEquals(connectorId.getId(), event.getConnectorId());
+        assertEquals("tenant-1", event.getTenantId());
+    }
+
+    @Test
+    void updates_ShouldRaiseOneEventPerUnitOfWork() {
+        RegisteredTable table = RegisteredTable.create(connectorId, "tenant-1", metadata(), 0);
+        table.clearDomainEvents();
+
+        ColumnMetadataUpdate update = new ColumnMetadataUpdate();
+        update.setName("id");
+        update.setDisplayName("Identifier");
+        table.updateDetails("Orders", null, null);
+        table.updateColumn(update);
+        table.moveTo(3);
+
+        List<DomainEvent> events = table.getDomainEvents();
+        assertEquals(1, events.size());
+        assertInstanceOf(RegisteredTablesChangedEvent.class, events.getFirst());
+    }
+
+    private static TableMetadata metadata() {
+        return new TableMetadata("orders", List.of(new ColumnMetadata("id", "integer")));
+    }
+}
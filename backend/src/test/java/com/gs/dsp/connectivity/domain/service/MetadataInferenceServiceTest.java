@@ -1,8 +1,12 @@
 package com.gs.dsp.connectivity.domain.service;
 
+import com.gs.dsp.connectivity.domain.service.inference.SemanticTypeRule;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
 import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -199,4 +203,44 @@ public class MetadataInferenceServiceTest {
         formatting = service.inferFormatting(null);
         assertThat(formatting).isEmpty();
     }
+
+    // === Rule Table and Batch Tests ===
+
+    @Test
+    void testInferColumns_FillsEveryColumn() {
+        ColumnMetadata price = new ColumnMetadata("unit_price", "numeric");
+        ColumnMetadata createdAt = new ColumnMetadata("createdAt", "timestamp");
+
+        service.inferColumns(List.of(price, createdAt));
+
+        assertThat(price.getDisplayName()).isEqualTo("Unit Price");
+        assertThat(price.getSemanticType()).isEqualTo(SemanticType.CURRENCY);
+        assertThat(price.getFormatting()).containsEntry("currency", "USD");
+        assertThat(createdAt.getDisplayName()).isEqualTo("Created At");
+        assertThat(createdAt.getSemanticType()).isEqualTo(SemanticType.TIMESTAMP);
+    }
+
+    @Test
+    void testInferSemanticType_CustomRuleTable() {
+        MetadataInferenceService custom = new MetadataInferenceService(List.of(
+                SemanticTypeRule.endingWith(SemanticType.CURRENCY, SemanticTypeRule.Target.COLUMN_NAME, "_usd"),
+                SemanticTypeRule.containing(SemanticType.TEXT, SemanticTypeRule.Target.DATA_TYPE, "char")
+                        .excluding("varchar")
+        ), 100);
+
+        assertThat(custom.inferSemanticType("REVENUE_USD", "numeric")).isEqualTo(SemanticType.CURRENCY);
+        assertThat(custom.inferSemanticType("usd_revenue", "numeric")).isEqualTo(SemanticType.UNKNOWN);
+        assertThat(custom.inferSemanticType("code", "char(3)")).isEqualTo(SemanticType.TEXT);
+        assertThat(custom.inferSemanticType("code", "varchar")).isEqualTo(SemanticType.UNKNOWN);
+    }
+
+    @Test
+    void testRefineSemanticType_OnlyReplacesGenericTypes() {
+        ColumnProfile emails = new ColumnProfile(100, 0, 100, null, null, List.of(), SemanticType.EMAIL);
+
+        assertThat(service.refineSemanticType(SemanticType.TEXT, emails)).isEqualTo(SemanticType.EMAIL);
+        assertThat(service.refineSemanticType(SemanticType.UNKNOWN, emails)).isEqualTo(SemanticType.EMAIL);
+        assertThat(service.refineSemanticType(SemanticType.URL, emails)).isEqualTo(SemanticType.URL);
+        assertThat(service.refineSemanticType(SemanticType.TEXT, null)).isEqualTo(SemanticType.TEXT);
+    }
 }
@@ -0,0 +1,75 @@
+package com.gs.dsp.connectivity.domain.service;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.MetadataVisibility;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SchemaMetadataMerger
+ */
+public class SchemaMetadataMergerTest {
+
+    private final SchemaMetadataMerger merger = new SchemaMetadataMerger(new MetadataInferenceService());
+
+    @Test
+    void testMerge_PreservesUserEditsAndAddsNewColumns() {
+        ColumnMetadata email = new ColumnMetadata("email", "varchar");
+        email.setDisplayName("Contact");
+        email.setSemanticType(SemanticType.EMAIL);
+        email.setVisibility(MetadataVisibility.HIDDEN);
+        TableMetadata customers = table("customers", "v1", email);
+        customers.setDisplayName("Clients");
+        customers.setVisibility(MetadataVisibility.HIDDEN);
+
+        TableMetadata fresh = table("customers", "v2",
+                new ColumnMetadata("email", "text"), new ColumnMetadata("created_at", "timestamp"));
+        LocalDateTime syncedAt = LocalDateTime.now();
+
+        SchemaMetadataMerger.MergeResult result = merger.merge(
+                List.of(customers), Map.of("customers", fresh), Set.of("customers"), syncedAt);
+
+        assertThat(result.changedTables()).containsExactly("customers");
+        TableMetadata merged = result.tables().get(0);
+        assertThat(merged.getDisplayName()).isEqualTo("Clients");
+        assertThat(merged.getVisibility()).isEqualTo(MetadataVisibility.HIDDEN);
+        assertThat(merged.getFingerprint()).isEqualTo("v2");
+        assertThat(merged.getLastSyncedAt()).isEqualTo(syncedAt);
+
+        ColumnMetadata mergedEmail = merged.getColumns().get(0);
+        assertThat(mergedEmail.getDataType()).isEqualTo("text");
+        assertThat(mergedEmail.getDisplayName()).isEqualTo("Contact");
+        assertThat(mergedEmail.getVisibility()).isEqualTo(MetadataVisibility.HIDDEN);
+
+        ColumnMetadata createdAt = merged.getColumns().get(1);
+        assertThat(createdAt.getDisplayName()).isEqualTo("Created At");
+        assertThat(createdAt.getSemanticType()).isEqualTo(SemanticType.TIMESTAMP);
+    }
+
+    @Test
+    void testMerge_LeavesUncheckedTablesAndDropsMissingOnes() {
+        TableMetadata orders = table("orders", "v1", new ColumnMetadata("id", "int"));
+        TableMetadata legacy = table("legacy", "v1", new ColumnMetadata("id", "int"));
+
+        SchemaMetadataMerger.MergeResult result = merger.merge(
+                List.of(orders, legacy), Map.of(), Set.of("legacy"), LocalDateTime.now());
+
+        assertThat(result.tables()).containsExactly(orders);
+        assertThat(result.changedTables()).containsExactly("legacy");
+    }
+
+    private static TableMetadata table(String name, String fingerprint, ColumnMetadata... columns) {
+        TableMetadata table = new TableMetadata(name, new ArrayList<>(List.of(columns)));
+        table.setFingerprint(fingerprint);
+        return table;
+    }
+}
@@ -0,0 +1,92 @@
+package com.gs.dsp.connectivity.domain.service.profiling;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnProfile;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.SemanticType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for ColumnProfiler and its sketches
+ */
+public class ColumnProfilerTest {
+
+    @Test
+    void testHyperLogLog_EstimatesWithinTwoPercent() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 100_000; i++) {
+            hll.add(HyperLogLog.hash("value-" + i));
+            hll.add(HyperLogLog.hash("value-" + i));
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(100_000, within(2_000.0));
+    }
+
+    @Test
+    void testHyperLogLog_SmallCardinalityIsExact() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 30; i++) {
+            hll.add(HyperLogLog.hash("v" + (i % 7)));
+        }
+
+        assertThat(hll.estimate()).isEqualTo(7);
+    }
+
+    @Test
+    void testProfile_NullFractionRangeAndTopValues() {
+        ColumnProfiler profiler = new ColumnProfiler(3);
+        for (int i = 0; i < 100; i++) {
+            profiler.accept(i % 4 == 0 ? null : i % 5);
+        }
+
+        ColumnProfile profile = profiler.finish();
+
+        assertThat(profile.sampledRows()).isEqualTo(100);
+        assertThat(profile.nullFraction()).isEqualTo(0.25);
+        assertThat(profile.distinctEstimate()).isEqualTo(5);
+        assertThat(profile.min()).isEqualTo("0");
+        assertThat(profile.max()).isEqualTo("4");
+        assertThat(profile.topValues()).hasSize(3);
+        assertThat(profile.detectedType()).isNull();
+    }
+
+    @Test
+    void testProfile_DetectsEmailValues() {
+        ColumnProfiler profiler = new ColumnProfiler(10);
+        for (int i = 0; i < 50; i++) {
+            profiler.accept("user" + i + "@example.com");
+        }
+        profiler.accept("n/a");
+
+        assertThat(profiler.finish().detectedType()).isEqualTo(SemanticType.EMAIL);
+    }
+
+    @Test
+    void testProfile_DetectsCategoryValues() {
+        ColumnProfiler profiler = new ColumnProfiler(10);
+        String[] statuses = {"open", "closed", "pending"};
+        for (int i = 0; i < 300; i++) {
+            profiler.accept(statuses[i % statuses.length]);
+        }
+
+        ColumnProfile profile = profiler.finish();
+
+        assertThat(profile.detectedType()).isEqualTo(SemanticType.CATEGORY);
+        assertThat(profile.topValues()).extracting(ColumnProfile.ValueCount::value)
+                .containsExactlyInAnyOrder("open", "closed", "pending");
+        assertThat(profile.topValues()).allSatisfy(value -> assertThat(value.count()).isEqualTo(100));
+    }
+
+    @Test
+    void testProfile_MixedTypesHaveNoRange() {
+        ColumnProfiler profiler = new ColumnProfiler(10);
+        profiler.accept("a");
+        profiler.accept(1);
+
+        ColumnProfile profile = profiler.finish();
+
+        assertThat(profile.min()).isNull();
+        assertThat(profile.max()).isNull();
+    }
+}
@@ -2,7 +2,12 @@ package com.gs.dsp.connectivity.infrastructure.primary;
 
 import com.gs.dsp.connectivity.domain.model.*;
 import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.iam.application.service.TenantApplicationService;
+import com.gs.dsp.iam.domain.model.TenantStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +18,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -29,12 +35,23 @@ public class ConnectorControllerTest {
     @Autowired
     private ConnectorRepository connectorRepository;
 
+    @Autowired
+    private RegisteredTableRepository registeredTableRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TenantApplicationService tenantApplicationService;
+
     @BeforeEach
     void setUp() {
         connectorRepository.deleteAll();
+        for (String tenantId : List.of("tenant-1", "tenant-2", "tenant-search")) {
+            if (tenantApplicationService.getTenantById(tenantId).isEmpty()) {
+                tenantApplicationService.createTenant(tenantId, tenantId, null);
+            }
+        }
     }
 
     @Test
@@ -162,11 +179,167 @@ public class ConnectorControllerTest {
                 // registeredTables is lazy loaded via /api/v1/connectors/{id}/tables, so null in response
                 .andExpect(jsonPath("$.registeredTables").doesNotExist());
 
-        // Verify registeredTables persisted by checking entity directly
-        Connector updated = connectorRepository.findById(connector.getId()).orElseThrow();
-        assert updated.getRegisteredTables() != null;
-        assert updated.getRegisteredTables().size() == 1;
-        assert updated.getRegisteredTables().get(0).getName().equals("products");
+        // Verify registeredTables persisted by checking the normalized rows directly
+        List<RegisteredTable> updated = registeredTableRepository.findByConnectorIdOrderByPosition(connector.getId());
+        assert updated.size() == 1;
+        assert updated.get(0).getName().equals("products");
+    }
+
+    @Test
+    void tables_ShouldSupportPagingFilteringAndColumnUpdates() throws Exception {
+        Connector connector = Connector.create(
+                ConnectorId.generate(),
+                "Warehouse",
+                new ConnectorType("DATABASE"),
+                new ConnectionConfig(Map.of("host", "localhost")),
+                "tenant-1"
+        );
+        connector = connectorRepository.save(connector);
+        for (String name : List.of("orders", "order_items", "customers")) {
+            TableMetadata metadata = new TableMetadata(name, List.of(
+                    new ColumnMetadata("id", "integer"), new ColumnMetadata("name", "text")));
+            registeredTableRepository.save(RegisteredTable.create(connector.getId(), "tenant-1", metadata,
+                    (int) registeredTableRepository.countByConnectorId(connector.getId())));
+        }
+
+        mockMvc.perform(get("/api/v1/connectors/" + connector.getIdValue() + "/tables")
+                        .header("X-Tenant-ID", "tenant-1")
+                        .param("search", "order")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("orders"));
+
+        mockMvc.perform(patch("/api/v1/connectors/" + connector.getIdValue() + "/tables/customers")
+                        .header("X-Tenant-ID", "tenant-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "displayName": "Clients",
+                                    "columns": [{"name": "name", "displayName": "Full Name", "visibility": "HIDDEN"}]
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/connectors/" + connector.getIdValue() + "/tables/customers")
+                        .header("X-Tenant-ID", "tenant-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.displayName").value("Clients"))
+                .andExpect(jsonPath("$.columns[0].name").value("id"))
+                .andExpect(jsonPath("$.columns[1].displayName").value("Full Name"))
+                .andExpect(jsonPath("$.columns[1].visibility").value("HIDDEN"))
+                .andExpect(jsonPath("$.columns[1].dataType").value("text"));
+
+        mockMvc.perform(get("/api/v1/connectors/" + connector.getIdValue() + "/tables/missing")
+                        .header("X-Tenant-ID", "tenant-1"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(patch("/api/v1/connectors/" + connector.getIdValue() + "/tables/customers")
+                        .header("X-Tenant-ID", "tenant-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"columns\": [{\"name\": \"missing\", \"displayName\": \"Missing\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void updateConnector_WithBlankTableName_ShouldReturn400() throws Exception {
+        Connector connector = Connector.create(
+                ConnectorId.generate(),
+                "Blank Table",
+                new ConnectorType("DATABASE"),
+                new ConnectionConfig(Map.of("host", "localhost")),
+                "tenant-1"
+        );
+        connector = connectorRepository.save(connector);
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("name", "Blank Table");
+        request.put("type", "DATABASE");
+        request.put("config", Map.of("host", "localhost"));
+        request.put("isActive", true);
+        request.put("registeredTables", List.of(Map.of("name", " ", "columns", List.of())));
+
+        mockMvc.perform(put("/api/v1/connectors/" + connector.getIdValue())
+                        .header("X-Tenant-ID", "tenant-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void metadataSearch_ShouldFollowTableEditsAndDeletes() throws Exception {
+        // Own tenant, so the search index does not see connectors of other tests
+        Connector connector = Connector.create(
+                ConnectorId.generate(),
+                "CRM",
+                new ConnectorType("DATABASE"),
+                new ConnectionConfig(Map.of("host", "localhost")),
+                "tenant-search"
+        );
+        connector = connectorRepository.save(connector);
+
+        mockMvc.perform(get("/api/v1/metadata/search")
+                        .header("X-Tenant-ID", "tenant-search")
+                        .param("q", "customer email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(put("/api/v1/connectors/" + connector.getIdValue())
+                        .header("X-Tenant-ID", "tenant-search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "CRM",
+                                    "type": "DATABASE",
+                                    "config": {"host": "localhost"},
+                                    "registeredTables": [
+                                        {
+                                            "name": "customers",
+                                            "columns": [
+                                                {"name": "id", "dataType": "integer"},
+                                                {"name": "customer_email", "dataType": "text"}
+                                            ]
+                                        }
+                                    ],
+                                    "isActive": true
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/metadata/search")
+                        .header("X-Tenant-ID", "tenant-search")
+                        .param("q", "customer email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].connectorName").value("CRM"))
+                .andExpect(jsonPath("$[0].tableName").value("customers"))
+                .andExpect(jsonPath("$[0].columnName").value("customer_email"));
+
+        mockMvc.perform(patch("/api/v1/connectors/" + connector.getIdValue() + "/tables/customers")
+                        .header("X-Tenant-ID", "tenant-search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"columns\": [{\"name\": \"customer_email\", \"displayName\": \"Contact Address\"}]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/metadata/search")
+                        .header("X-Tenant-ID", "tenant-search")
+                        .param("q", "contact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].columnName").value("customer_email"))
+                .andExpect(jsonPath("$[0].displayName").value("Contact Address"));
+
+        mockMvc.perform(delete("/api/v1/connectors/" + connector.getIdValue())
+                        .header("X-Tenant-ID", "tenant-search"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/metadata/search")
+                        .header("X-Tenant-ID", "tenant-search")
+                        .param("q", "customers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
     }
 
     @Test
@@ -203,4 +376,26 @@ public class ConnectorControllerTest {
                 .andExpect(jsonPath("$.viewInfo.databaseName").value("mydb"))
                 .andExpect(jsonPath("$.viewInfo.username").value("admin"));
     }
+
+    @Test
+    void request_WithUnknownOrInactiveTenant_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/connectors")
+                        .header("X-Tenant-ID", "tenant-unknown"))
+                .andExpect(status().isForbidden());
+
+        if (tenantApplicationService.getTenantById("tenant-inactive").isEmpty()) {
+            tenantApplicationService.createTenant("tenant-inactive", "Inactive", null);
+        }
+        tenantApplicationService.updateTenantStatus("tenant-inactive", TenantStatus.INACTIVE);
+
+        mockMvc.perform(get("/api/v1/connectors")
+                        .header("X-Tenant-ID", "tenant-inactive"))
+                .andExpect(status().isForbidden());
+
+        tenantApplicationService.updateTenantStatus("tenant-inactive", TenantStatus.ACTIVE);
+
+        mockMvc.perform(get("/api/v1/connectors")
+                        .header("X-Tenant-ID", "tenant-inactive"))
+                .andExpect(status().isOk());
+    }
 }
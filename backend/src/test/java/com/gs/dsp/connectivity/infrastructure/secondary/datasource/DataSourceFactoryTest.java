@@ -0,0 +1,46 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.model.ConnectionConfig;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.shared.util.EncryptionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests how DataSourceFactory decrypts connector passwords.
+ */
+class DataSourceFactoryTest {
+
+    private final EncryptionUtil encryptionUtil = spy(new EncryptionUtil(
+            "12345678901234567890123456789012", 1, "", 60_000, 100));
+    private final DataSourceFactory factory = new DataSourceFactory(
+            encryptionUtil, new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Test
+    void openConnection_ShouldDecryptWithoutCachingCredential() throws Exception {
+        Connector connector = Connector.create(ConnectorId.generate(), "Test Connection", ConnectorType.database(),
+                new ConnectionConfig(Map.of(
+                        "url", "jdbc:h2:mem:factory_test",
+                        "username", "sa",
+                        "encrypted_password", encryptionUtil.encrypt("secret"))),
+                "tenant-1");
+
+        try (Connection connection = factory.openConnection(connector)) {
+            assertFalse(connection.isClosed());
+        }
+
+        verify(encryptionUtil).decrypt(anyString());
+        verify(encryptionUtil, never()).decryptCredential(any(), anyString());
+    }
+}
@@ -0,0 +1,447 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.gs.dsp.connectivity.domain.event.ConnectorChangedEvent;
+import com.gs.dsp.connectivity.domain.model.ConnectionConfig;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.infrastructure.secondary.health.CircuitBreakingDataSource;
+import com.gs.dsp.connectivity.infrastructure.secondary.health.ConnectorCircuitBreakerRegistry;
+import com.gs.dsp.shared.kernel.exception.ConnectorUnavailableException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the asynchronous pool creation, failure caching, capacity limits, eviction,
+ * invalidation and circuit breaking in DataSourceManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class DataSourceManagerTest {
+
+    @Mock
+    private ConnectorRepository connectorRepository;
+
+    @Mock
+    private DataSourceFactory dataSourceFactory;
+
+    private ConnectorCircuitBreakerRegistry circuitBreakers;
+    private DataSourceManager manager;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakers = new ConnectorCircuitBreakerRegistry(3, 10_000);
+        manager = newManager(50, 500, 900_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    void testGetDataSource_ConcurrentCallersShareOnePool() throws Exception {
+        Connector connector = activeConnector();
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        ManagedDataSource managed = managed(hikari);
+        when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+        when(dataSourceFactory.createManagedDataSource(connector)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return managed;
+        });
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> manager.getManagedDataSource(connector.getId().getId()).getDataSource()));
+            }
+            for (Future<?> result : results) {
+                assertSame(hikari, result.get());
+            }
+        }
+        verify(dataSourceFactory, times(1)).createManagedDataSource(any());
+    }
+
+    @Test
+    void testGetDataSource_ReusesCircuitBreakingDecorator() {
+        Connector connector = activeConnector();
+        ManagedDataSource managed = new ManagedDataSource(connector.getId().getId(), mock(HikariDataSource.class),
+                PoolSettings.from(connector.getConfig().getConfigMap()), new PoolUsageStats());
+        when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+        when(dataSourceFactory.createManagedDataSource(connector)).thenReturn(managed);
+
+        DataSource first = manager.getDataSource(connector.getId().getId());
+
+        assertInstanceOf(CircuitBreakingDataSource.class, first);
+        assertSame(first, manager.getDataSource(connector.getId().getId()));
+    }
+
+    @Test
+    void testFindManagedDataSource_DoesNotCreateOrTouchPool() {
+        Connector connector = activeConnector();
+        ManagedDataSource managed = pool(connector, 0, 0);
+
+        assertTrue(manager.findManagedDataSource(connector.getId().getId()).isEmpty());
+        verifyNoInteractions(dataSourceFactory);
+
+        manager.getManagedDataSource(connector.getId().getId());
+        clearInvocations(managed);
+        assertSame(managed, manager.findManagedDataSource(connector.getId().getId()).orElseThrow());
+        verify(managed, never()).touch();
+    }
+
+    @Test
+    void testGetDataSource_SlowConnectorDoesNotBlockOthers() {
+        Connector slow = activeConnector();
+        Connector fast = activeConnector();
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        ManagedDataSource managed = managed(hikari);
+        CountDownLatch release = new CountDownLatch(1);
+        when(connectorRepository.findById(slow.getId())).thenReturn(Optional.of(slow));
+        when(connectorRepository.findById(fast.getId())).thenReturn(Optional.of(fast));
+        when(dataSourceFactory.createManagedDataSource(slow)).thenAnswer(invocation -> {
+            release.await();
+            throw new RuntimeException("unreachable host");
+        });
+        when(dataSourceFactory.createManagedDataSource(fast)).thenReturn(managed);
+
+        try {
+            IllegalStateException timeout = assertThrows(IllegalStateException.class,
+                    () -> manager.getDataSource(slow.getId().getId()));
+            assertTrue(timeout.getMessage().contains("Timed out"));
+            assertSame(hikari, manager.getManagedDataSource(fast.getId().getId()).getDataSource());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testGetDataSource_FailureIsCached() {
+        Connector connector = activeConnector();
+        when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+        when(dataSourceFactory.createManagedDataSource(connector)).thenThrow(new RuntimeException("connection refused"));
+
+        assertThrows(RuntimeException.class, () -> manager.getDataSource(connector.getId().getId()));
+        assertThrows(RuntimeException.class, () -> manager.getDataSource(connector.getId().getId()));
+        verify(dataSourceFactory, times(1)).createManagedDataSource(any());
+    }
+
+    @Test
+    void testGetDataSource_InactiveConnectorRejected() {
+        Connector connector = Connector.create(ConnectorId.generate(), "inactive", new ConnectorType(ConnectorType.DATABASE),
+                new ConnectionConfig(Map.of("url", "jdbc:h2:mem:inactive")), "tenant-1");
+        when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+
+        assertThrows(IllegalStateException.class, () -> manager.getDataSource(connector.getId().getId()));
+        verifyNoInteractions(dataSourceFactory);
+    }
+
+    @Test
+    void testGetDataSource_InactiveFailureIsNotCached() {
+        Connector connector = Connector.create(ConnectorId.generate(), "pending", new ConnectorType(ConnectorType.DATABASE),
+                new ConnectionConfig(Map.of("url", "jdbc:h2:mem:pending")), "tenant-1");
+        ManagedDataSource managed = pool(connector, 0, 0);
+
+        assertThrows(IllegalStateException.class, () -> manager.getManagedDataSource(connector.getId().getId()));
+        connector.approve();
+
+        assertSame(managed, manager.getManagedDataSource(connector.getId().getId()));
+        verify(dataSourceFactory, times(1)).createManagedDataSource(any());
+    }
+
+    @Test
+    void testGetDataSource_NotFoundFailureIsNotCached() {
+        Connector connector = activeConnector();
+        ManagedDataSource managed = pool(connector, 0, 0);
+        when(connectorRepository.findById(connector.getId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(connector));
+
+        assertThrows(IllegalArgumentException.class, () -> manager.getManagedDataSource(connector.getId().getId()));
+        assertSame(managed, manager.getManagedDataSource(connector.getId().getId()));
+    }
+
+    @Test
+    void testOnConnectorChanged_RetiresPoolAndReopensWithNewDetails() {
+        Connector connector = activeConnector();
+        ManagedDataSource first = pool(connector, 0, 0);
+        ManagedDataSource second = mock(ManagedDataSource.class);
+        when(dataSourceFactory.createManagedDataSource(connector)).thenReturn(first).thenReturn(second);
+        assertSame(first, manager.getManagedDataSource(connector.getId().getId()));
+
+        manager.onConnectorChanged(new ConnectorChangedEvent(connector.getId().getId(), "tenant-1"));
+
+        verify(first, timeout(1_000)).drainAndClose(anyLong());
+        assertSame(second, manager.getManagedDataSource(connector.getId().getId()));
+    }
+
+    @Test
+    void testGetDataSource_OpenCircuitFailsFast() {
+        UUID connectorId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            circuitBreakers.recordFailure(connectorId, new SQLException("Connection refused"));
+        }
+
+        ConnectorUnavailableException ex = assertThrows(ConnectorUnavailableException.class,
+                () -> manager.getDataSource(connectorId));
+        assertEquals(connectorId, ex.getConnectorId());
+        assertEquals(10, ex.getRetryAfterSeconds());
+        verifyNoInteractions(connectorRepository, dataSourceFactory);
+    }
+
+    @Test
+    void testReserve_RetiresLeastRecentlyUsedUnpinnedPool() {
+        manager = newManager(2, 500, 900_000);
+        Connector oldest = activeConnector();
+        Connector older = activeConnector();
+        Connector next = activeConnector();
+        ManagedDataSource oldestPool = pool(oldest, TimeUnit.SECONDS.toNanos(30), 0);
+        ManagedDataSource olderPool = pool(older, TimeUnit.SECONDS.toNanos(20), 0);
+        pool(next, 0, 0);
+
+        manager.getManagedDataSource(oldest.getId().getId());
+        manager.getManagedDataSource(older.getId().getId());
+        manager.getManagedDataSource(next.getId().getId());
+
+        verify(oldestPool, timeout(1_000)).drainAndClose(anyLong());
+        verify(olderPool, never()).drainAndClose(anyLong());
+        assertFalse(manager.getManagedDataSources().contains(oldestPool));
+        assertEquals(2, manager.getManagedDataSources().size());
+    }
+
+    @Test
+    void testReserve_PinnedOrBorrowedPoolsAreNotRetired() {
+        manager = newManager(2, 500, 900_000);
+        Connector pinned = activeConnector();
+        Connector borrowed = activeConnector();
+        Connector next = activeConnector();
+        // Handed out a second ago: within the pin period
+        ManagedDataSource pinnedPool = pool(pinned, TimeUnit.SECONDS.toNanos(1), 0);
+        ManagedDataSource borrowedPool = pool(borrowed, TimeUnit.SECONDS.toNanos(60), 1);
+        lenient().when(connectorRepository.findById(next.getId())).thenReturn(Optional.of(next));
+
+        manager.getManagedDataSource(pinned.getId().getId());
+        manager.getManagedDataSource(borrowed.getId().getId());
+
+        IllegalStateException full = assertThrows(IllegalStateException.class,
+                () -> manager.getManagedDataSource(next.getId().getId()));
+        assertTrue(full.getMessage().contains("limit reached"));
+        verify(pinnedPool, never()).drainAndClose(anyLong());
+        verify(borrowedPool, never()).drainAndClose(anyLong());
+        verify(dataSourceFactory, never()).createManagedDataSource(next);
+    }
+
+    @Test
+    void testReserve_ConnectionBudgetCountsConfiguredPoolSizes() {
+        // Default pools reserve 10 connections each
+        manager = newManager(50, 25, 900_000);
+        Connector first = activeConnector();
+        Connector second = activeConnector();
+        Connector third = activeConnector();
+        pool(first, 0, 0);
+        pool(second, 0, 0);
+        lenient().when(connectorRepository.findById(third.getId())).thenReturn(Optional.of(third));
+
+        manager.getManagedDataSource(first.getId().getId());
+        manager.getManagedDataSource(second.getId().getId());
+
+        assertThrows(IllegalStateException.class, () -> manager.getManagedDataSource(third.getId().getId()));
+        verify(dataSourceFactory, never()).createManagedDataSource(third);
+    }
+
+    @Test
+    void testReserve_ConcurrentCreationsDoNotOvershootLimit() throws Exception {
+        manager = newManager(2, 500, 900_000);
+        List<Connector> connectors = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Connector connector = activeConnector();
+            ManagedDataSource managed = pool(connector, 0, 0);
+            lenient().when(dataSourceFactory.createManagedDataSource(connector)).thenAnswer(invocation -> {
+                Thread.sleep(50);
+                return managed;
+            });
+            connectors.add(connector);
+        }
+
+        int opened = 0;
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ManagedDataSource>> results = new ArrayList<>();
+            for (Connector connector : connectors) {
+                results.add(callers.submit(() -> manager.getManagedDataSource(connector.getId().getId())));
+            }
+            for (Future<ManagedDataSource> result : results) {
+                try {
+                    result.get();
+                    opened++;
+                } catch (Exception e) {
+                    assertTrue(e.getCause().getMessage().contains("limit reached"));
+                }
+            }
+        }
+        assertEquals(2, opened);
+        verify(dataSourceFactory, times(2)).createManagedDataSource(any());
+    }
+
+    @Test
+    void testReserve_PendingCreationCountsTowardLimit() throws Exception {
+        manager = newManager(1, 500, 900_000);
+        Connector pending = activeConnector();
+        Connector next = activeConnector();
+        ManagedDataSource pendingPool = pool(pending, 0, 0);
+        lenient().when(connectorRepository.findById(next.getId())).thenReturn(Optional.of(next));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataSourceFactory.createManagedDataSource(pending)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return pendingPool;
+        });
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ManagedDataSource> result = callers.submit(() -> manager.getManagedDataSource(pending.getId().getId()));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            IllegalStateException full = assertThrows(IllegalStateException.class,
+                    () -> manager.getManagedDataSource(next.getId().getId()));
+            assertTrue(full.getMessage().contains("limit reached"));
+
+            release.countDown();
+            assertSame(pendingPool, result.get());
+        }
+        verify(dataSourceFactory, never()).createManagedDataSource(next);
+    }
+
+    @Test
+    void testResizePool_GrowthIsClampedToConnectionBudget() {
+        // Default pools reserve 10 connections each
+        manager = newManager(50, 25, 900_000);
+        Connector growing = activeConnector();
+        Connector other = activeConnector();
+        Connector next = activeConnector();
+        ManagedDataSource growingPool = pool(growing, 0, 0);
+        pool(other, 0, 0);
+        ManagedDataSource nextPool = pool(next, 0, 0);
+        manager.getManagedDataSource(growing.getId().getId());
+        manager.getManagedDataSource(other.getId().getId());
+
+        assertEquals(15, manager.resizePool(growingPool, 20));
+        verify(growingPool).resize(15);
+        assertThrows(IllegalStateException.class, () -> manager.getManagedDataSource(next.getId().getId()));
+
+        // Shrinking hands connections back to the budget
+        assertEquals(5, manager.resizePool(growingPool, 5));
+        verify(growingPool).resize(5);
+        assertSame(nextPool, manager.getManagedDataSource(next.getId().getId()));
+    }
+
+    @Test
+    void testEvictIdlePools_RetiresOnlyIdleUnborrowedPools() {
+        manager = newManager(50, 500, 60_000);
+        Connector idle = activeConnector();
+        Connector borrowed = activeConnector();
+        Connector recent = activeConnector();
+        ManagedDataSource idlePool = pool(idle, TimeUnit.MINUTES.toNanos(5), 0);
+        ManagedDataSource borrowedPool = pool(borrowed, TimeUnit.MINUTES.toNanos(5), 2);
+        ManagedDataSource recentPool = pool(recent, TimeUnit.SECONDS.toNanos(10), 0);
+        manager.getManagedDataSource(idle.getId().getId());
+        manager.getManagedDataSource(borrowed.getId().getId());
+        manager.getManagedDataSource(recent.getId().getId());
+
+        manager.evictIdlePools();
+
+        verify(idlePool, timeout(1_000)).drainAndClose(anyLong());
+        verify(borrowedPool, never()).drainAndClose(anyLong());
+        verify(recentPool, never()).drainAndClose(anyLong());
+        assertEquals(2, manager.getManagedDataSources().size());
+    }
+
+    @Test
+    void testShutdown_ClosesPoolWhoseCreationCompletesLater() throws Exception {
+        Connector slow = activeConnector();
+        ManagedDataSource latePool = pool(slow, 0, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataSourceFactory.createManagedDataSource(slow)).thenAnswer(invocation -> {
+            started.countDown();
+            // Like a driver that ignores the interrupt of shutdownNow()
+            while (true) {
+                try {
+                    release.await();
+                    return latePool;
+                } catch (InterruptedException ignored) {
+                    // Keep waiting
+                }
+            }
+        });
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ManagedDataSource> result = callers.submit(() -> manager.getManagedDataSource(slow.getId().getId()));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            manager.shutdown();
+            release.countDown();
+
+            assertThrows(ExecutionException.class, result::get);
+            verify(latePool, timeout(1_000)).close();
+        }
+    }
+
+    private DataSourceManager newManager(int maxPools, int maxTotalConnections, long idleEvictionMs) {
+        if (manager != null) {
+            manager.shutdown();
+        }
+        return new DataSourceManager(connectorRepository, dataSourceFactory, circuitBreakers,
+                maxPools, maxTotalConnections, idleEvictionMs, 1_000, 300, 60_000, 5_000);
+    }
+
+    /**
+     * A pool the factory returns for the connector, reporting the given idle time and
+     * borrowed connections.
+     */
+    private ManagedDataSource pool(Connector connector, long idleNanos, int activeConnections) {
+        ManagedDataSource managed = mock(ManagedDataSource.class);
+        lenient().when(managed.getConnectorId()).thenReturn(connector.getId().getId());
+        lenient().when(managed.idleNanos(anyLong())).thenReturn(idleNanos);
+        lenient().when(managed.getActiveConnections()).thenReturn(activeConnections);
+        lenient().when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+        lenient().when(dataSourceFactory.createManagedDataSource(connector)).thenReturn(managed);
+        return managed;
+    }
+
+    private static Connector activeConnector() {
+        Connector connector = Connector.create(ConnectorId.generate(), "source", new ConnectorType(ConnectorType.DATABASE),
+                new ConnectionConfig(Map.of("url", "jdbc:h2:mem:source")), "tenant-1");
+        connector.approve();
+        return connector;
+    }
+
+    private static ManagedDataSource managed(HikariDataSource hikari) {
+        ManagedDataSource managed = mock(ManagedDataSource.class);
+        when(managed.getDataSource()).thenReturn(hikari);
+        return managed;
+    }
+}
@@ -0,0 +1,83 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PoolSettings parsing and the AdaptivePoolSizer sizing rule.
+ */
+class PoolSettingsTest {
+
+    private final AdaptivePoolSizer sizer = new AdaptivePoolSizer(null, 5, 0.3);
+
+    @Test
+    void testDefaults_WhenPoolConfigMissing() {
+        PoolSettings settings = PoolSettings.from(Map.of("url", "jdbc:h2:mem:test"));
+        assertEquals(10, settings.maxPoolSize());
+        assertEquals(1, settings.minIdle());
+        assertEquals(600_000L, settings.idleTimeoutMs());
+        assertEquals(1_800_000L, settings.maxLifetimeMs());
+        assertEquals(10_000L, settings.connectionTimeoutMs());
+        assertNull(settings.connectionInitSql());
+        assertFalse(settings.adaptive());
+    }
+
+    @Test
+    void testFrom_ReadsNestedPoolConfig() {
+        PoolSettings settings = PoolSettings.from(Map.of("pool", Map.of(
+                "maxPoolSize", 4,
+                "minIdle", "2",
+                "connectionTimeoutMs", 2500,
+                "connectionInitSql", "SET search_path TO sales",
+                "adaptive", true,
+                "adaptiveMaxPoolSize", 12)));
+        assertEquals(4, settings.maxPoolSize());
+        assertEquals(2, settings.minIdle());
+        assertEquals(2500L, settings.connectionTimeoutMs());
+        assertEquals("SET search_path TO sales", settings.connectionInitSql());
+        assertTrue(settings.adaptive());
+        assertEquals(2, settings.adaptiveMinPoolSize());
+        assertEquals(12, settings.adaptiveMaxPoolSize());
+    }
+
+    @Test
+    void testFrom_RejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PoolSettings.from(Map.of("pool", Map.of("maxPoolSize", 0))));
+        assertThrows(IllegalArgumentException.class,
+                () -> PoolSettings.from(Map.of("pool", Map.of("maxPoolSize", 2, "minIdle", 5))));
+        assertThrows(IllegalArgumentException.class,
+                () -> PoolSettings.from(Map.of("pool", Map.of("maxPoolSize", 10, "adaptive", true, "adaptiveMaxPoolSize", 5))));
+    }
+
+    @Test
+    void testConnectionTimeoutSeconds_RoundsUpToAtLeastOneSecond() {
+        assertEquals(1, PoolSettings.from(Map.of("pool", Map.of("connectionTimeoutMs", 250))).connectionTimeoutSeconds());
+        assertEquals(1, PoolSettings.from(Map.of("pool", Map.of("connectionTimeoutMs", 0))).connectionTimeoutSeconds());
+        assertEquals(3, PoolSettings.from(Map.of("pool", Map.of("connectionTimeoutMs", 2500))).connectionTimeoutSeconds());
+        assertEquals(10, PoolSettings.defaults().connectionTimeoutSeconds());
+    }
+
+    @Test
+    void testNextPoolSize_GrowsWhenCallersWait() {
+        PoolUsageStats.Snapshot waiting = new PoolUsageStats.Snapshot(100, 20_000_000L, 0);
+        assertEquals(12, sizer.nextPoolSize(10, 2, 20, 10, 3, waiting));
+        assertEquals(20, sizer.nextPoolSize(18, 2, 20, 18, 3, waiting));
+    }
+
+    @Test
+    void testNextPoolSize_ShrinksWhenUnderused() {
+        PoolUsageStats.Snapshot idle = new PoolUsageStats.Snapshot(5, 10_000L, 0);
+        assertEquals(9, sizer.nextPoolSize(10, 2, 20, 1, 0, idle));
+        assertEquals(2, sizer.nextPoolSize(2, 2, 20, 0, 0, idle));
+    }
+
+    @Test
+    void testNextPoolSize_StableUnderModerateLoad() {
+        PoolUsageStats.Snapshot moderate = new PoolUsageStats.Snapshot(500, 100_000L, 0);
+        assertEquals(10, sizer.nextPoolSize(10, 2, 20, 6, 0, moderate));
+    }
+}
@@ -0,0 +1,56 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that readiness stays down while pools are being warmed up.
+ */
+@ExtendWith(MockitoExtension.class)
+class PoolWarmupHealthIndicatorTest {
+
+    @Mock
+    private PoolWarmupService poolWarmupService;
+
+    @InjectMocks
+    private PoolWarmupHealthIndicator indicator;
+
+    @Test
+    void health_WhilePendingOrRunning_ShouldBeOutOfService() {
+        when(poolWarmupService.getState()).thenReturn(PoolWarmupService.State.PENDING, PoolWarmupService.State.RUNNING);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+    }
+
+    @Test
+    void health_WhenCompleted_ShouldBeUpWithProgress() {
+        when(poolWarmupService.getState()).thenReturn(PoolWarmupService.State.COMPLETED);
+        when(poolWarmupService.getTotal()).thenReturn(3);
+        when(poolWarmupService.getCompleted()).thenReturn(2);
+        when(poolWarmupService.getFailed()).thenReturn(1);
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(PoolWarmupService.State.COMPLETED, health.getDetails().get("state"));
+        assertEquals(3, health.getDetails().get("total"));
+        assertEquals(2, health.getDetails().get("completed"));
+        assertEquals(1, health.getDetails().get("failed"));
+    }
+
+    @Test
+    void health_WhenDisabled_ShouldBeUp() {
+        when(poolWarmupService.getState()).thenReturn(PoolWarmupService.State.DISABLED);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+}
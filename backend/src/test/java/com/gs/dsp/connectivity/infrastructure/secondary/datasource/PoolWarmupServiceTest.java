@@ -0,0 +1,115 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.datasource;
+
+import com.gs.dsp.connectivity.domain.model.ConnectionConfig;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorStatus;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the startup warm-up of connector pools.
+ */
+@ExtendWith(MockitoExtension.class)
+class PoolWarmupServiceTest {
+
+    @Mock
+    private ConnectorRepository connectorRepository;
+
+    @Mock
+    private DataSourceManager dataSourceManager;
+
+    @Mock
+    private PoolWarmupContributor contributor;
+
+    @Test
+    void warmUpAll_ShouldOpenMinIdleConnectionsOfActiveConnectorsAndInvokeContributors() throws Exception {
+        Connector active = connector(true);
+        Connector inactive = connector(false);
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        Connection connection = mock(Connection.class);
+        when(hikari.getConnection()).thenReturn(connection);
+        ManagedDataSource managed = new ManagedDataSource(active.getId().getId(), hikari,
+                PoolSettings.from(Map.of("pool", Map.of("minIdle", 3))), new PoolUsageStats());
+        when(connectorRepository.findByStatus(ConnectorStatus.APPROVED)).thenReturn(List.of(active, inactive));
+        when(dataSourceManager.getManagedDataSource(active.getId().getId())).thenReturn(managed);
+        PoolWarmupService service = newService(120_000);
+
+        service.warmUpAll();
+
+        verify(hikari, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(contributor).warmUp(active, hikari);
+        verify(dataSourceManager, never()).getManagedDataSource(inactive.getId().getId());
+        assertEquals(PoolWarmupService.State.COMPLETED, service.getState());
+        assertEquals(1, service.getTotal());
+        assertEquals(1, service.getCompleted());
+        assertEquals(0, service.getFailed());
+    }
+
+    @Test
+    void warmUpAll_WhenConnectorFails_ShouldCountFailureAndComplete() throws Exception {
+        Connector active = connector(true);
+        when(connectorRepository.findByStatus(ConnectorStatus.APPROVED)).thenReturn(List.of(active));
+        when(dataSourceManager.getManagedDataSource(any())).thenThrow(new IllegalStateException("connection refused"));
+        PoolWarmupService service = newService(120_000);
+
+        service.warmUpAll();
+
+        assertEquals(PoolWarmupService.State.COMPLETED, service.getState());
+        assertEquals(0, service.getCompleted());
+        assertEquals(1, service.getFailed());
+        verifyNoInteractions(contributor);
+    }
+
+    @Test
+    void warmUpAll_WhenTimedOut_ShouldInterruptRemainingWarmUps() throws Exception {
+        Connector slow = connector(true);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(connectorRepository.findByStatus(ConnectorStatus.APPROVED)).thenReturn(List.of(slow));
+        when(dataSourceManager.getManagedDataSource(any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("Interrupted while waiting for connection pool", e);
+            }
+            return null;
+        });
+        PoolWarmupService service = newService(100);
+
+        service.warmUpAll();
+
+        assertEquals(PoolWarmupService.State.COMPLETED, service.getState());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private PoolWarmupService newService(long timeoutMs) {
+        return new PoolWarmupService(connectorRepository, dataSourceManager, List.of(contributor), true, 2, timeoutMs);
+    }
+
+    private static Connector connector(boolean active) {
+        Connector connector = Connector.create(ConnectorId.generate(), "source", new ConnectorType(ConnectorType.DATABASE),
+                new ConnectionConfig(Map.of("url", "jdbc:h2:mem:source")), "tenant-1");
+        connector.approve();
+        if (!active) {
+            connector.deactivate();
+        }
+        return connector;
+    }
+}
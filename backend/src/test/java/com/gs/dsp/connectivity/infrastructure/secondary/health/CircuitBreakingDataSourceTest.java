@@ -0,0 +1,75 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.net.ConnectException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests which connection checkout failures count against the connector's circuit.
+ */
+class CircuitBreakingDataSourceTest {
+
+    private final UUID connectorId = UUID.randomUUID();
+    private ConnectorCircuitBreakerRegistry circuitBreakers;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakers = new ConnectorCircuitBreakerRegistry(2, 10_000);
+    }
+
+    @Test
+    void getConnection_PoolExhausted_ShouldNotTripBreaker() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:circuit_exhausted;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(250);
+        try (HikariDataSource hikari = new HikariDataSource(config);
+             Connection held = hikari.getConnection()) {
+            CircuitBreakingDataSource dataSource = new CircuitBreakingDataSource(hikari, connectorId, circuitBreakers);
+
+            for (int i = 0; i < 3; i++) {
+                assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+            }
+
+            assertFalse(circuitBreakers.get(connectorId).isOpen());
+            assertEquals(0, circuitBreakers.get(connectorId).getConsecutiveFailures());
+            assertNotNull(held);
+        }
+    }
+
+    @Test
+    void getConnection_ConnectFailures_ShouldOpenCircuit() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException(
+                "Connection is not available", "08001", new ConnectException("Connection refused")));
+        CircuitBreakingDataSource dataSource = new CircuitBreakingDataSource(target, connectorId, circuitBreakers);
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertTrue(circuitBreakers.get(connectorId).isOpen());
+    }
+
+    @Test
+    void getConnection_TimeoutWithoutCauseOnEmptyPool_ShouldCountAsFailure() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        CircuitBreakingDataSource dataSource = new CircuitBreakingDataSource(target, connectorId, circuitBreakers);
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1, circuitBreakers.get(connectorId).getConsecutiveFailures());
+    }
+}
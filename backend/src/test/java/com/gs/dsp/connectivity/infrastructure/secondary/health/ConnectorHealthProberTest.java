@@ -0,0 +1,97 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.health;
+
+import com.gs.dsp.connectivity.domain.model.ConnectionConfig;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceFactory;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceManager;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.ManagedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that health probes reuse existing pools without creating or touching them.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConnectorHealthProberTest {
+
+    @Mock
+    private DataSourceManager dataSourceManager;
+
+    @Mock
+    private DataSourceFactory dataSourceFactory;
+
+    @Mock
+    private ConnectorRepository connectorRepository;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectorCircuitBreakerRegistry circuitBreakers;
+    private ConnectorHealthProber prober;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakers = new ConnectorCircuitBreakerRegistry(3, 10_000);
+        prober = new ConnectorHealthProber(dataSourceManager, dataSourceFactory, connectorRepository, circuitBreakers, 3);
+    }
+
+    @Test
+    void probeConnectors_WithOpenPool_ShouldProbeThroughPoolWithoutTouchingIt() throws SQLException {
+        UUID connectorId = UUID.randomUUID();
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        ManagedDataSource managed = mock(ManagedDataSource.class);
+        when(managed.getConnectorId()).thenReturn(connectorId);
+        when(managed.getDataSource()).thenReturn(hikari);
+        when(hikari.getConnection()).thenReturn(connection);
+        when(connection.isValid(3)).thenReturn(true);
+        when(dataSourceManager.getManagedDataSources()).thenReturn(List.of(managed));
+        when(dataSourceManager.findManagedDataSource(connectorId)).thenReturn(Optional.of(managed));
+
+        prober.probeConnectors();
+
+        assertNotNull(circuitBreakers.get(connectorId).getLastCheckedAt());
+        verify(connection).close();
+        verify(managed, never()).touch();
+        verify(dataSourceManager, never()).getManagedDataSource(any());
+        verifyNoInteractions(dataSourceFactory);
+    }
+
+    @Test
+    void probeConnectors_WithOpenCircuitAndNoPool_ShouldProbeUnpooledAndCloseCircuit() throws SQLException {
+        Connector connector = Connector.create(ConnectorId.generate(), "source", new ConnectorType(ConnectorType.DATABASE),
+                new ConnectionConfig(Map.of("url", "jdbc:h2:mem:source")), "tenant-1");
+        UUID connectorId = connector.getId().getId();
+        for (int i = 0; i < 3; i++) {
+            circuitBreakers.recordFailure(connectorId, new SQLException("Connection refused"));
+        }
+        when(dataSourceManager.getManagedDataSources()).thenReturn(List.of());
+        when(dataSourceManager.findManagedDataSource(connectorId)).thenReturn(Optional.empty());
+        when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+        when(dataSourceFactory.openConnection(connector)).thenReturn(connection);
+        when(connection.isValid(3)).thenReturn(true);
+
+        prober.probeConnectors();
+
+        assertFalse(circuitBreakers.get(connectorId).isOpen());
+        verify(connection).close();
+        verify(dataSourceManager, never()).getManagedDataSource(any());
+    }
+}
@@ -0,0 +1,159 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.metadata.catalog;
+
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CatalogIntrospector against an in-memory H2 catalog.
+ */
+class CatalogIntrospectorTest {
+
+    private static JdbcDataSource dataSource;
+
+    private final CatalogIntrospector introspector = new CatalogIntrospector(
+            List.of(new PostgresCatalogDialect(), new InformationSchemaCatalogDialect()));
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:catalog_introspection;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE CUSTOMERS (ID INT PRIMARY KEY, EMAIL VARCHAR(255))");
+            statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, TOTAL DECIMAL(10,2), "
+                    + "FOREIGN KEY (CUSTOMER_ID) REFERENCES CUSTOMERS(ID))");
+            statement.execute("CREATE SCHEMA SALES");
+            statement.execute("CREATE TABLE SALES.INVOICES (ID INT PRIMARY KEY, ORDER_ID INT, "
+                    + "FOREIGN KEY (ORDER_ID) REFERENCES PUBLIC.ORDERS(ID))");
+        }
+    }
+
+    @Test
+    void testIntrospect_PoolMergesColumnsKeysAndSchemas() {
+        List<TableMetadata> tables = introspector.introspect(dataSource, List.of("PUBLIC", "SALES"));
+
+        assertEquals(List.of("CUSTOMERS", "ORDERS", "SALES.INVOICES"), tables.stream().map(TableMetadata::getName).toList());
+
+        TableMetadata orders = tables.get(1);
+        assertEquals(List.of("ID", "CUSTOMER_ID", "TOTAL"), orders.getColumns().stream().map(ColumnMetadata::getName).toList());
+        assertTrue(orders.getColumns().get(0).isPrimaryKey());
+        ColumnMetadata customerId = orders.getColumns().get(1);
+        assertFalse(customerId.isPrimaryKey());
+        assertTrue(customerId.isForeignKey());
+        assertEquals("CUSTOMERS.ID", customerId.getForeignKeyTarget());
+
+        ColumnMetadata orderId = tables.get(2).getColumns().get(1);
+        assertEquals("ORDERS.ID", orderId.getForeignKeyTarget());
+    }
+
+    @Test
+    void testIntrospect_SingleConnectionMatchesPool() throws Exception {
+        List<TableMetadata> fromPool = introspector.introspect(dataSource, List.of("PUBLIC"));
+        List<TableMetadata> fromConnection = introspector.introspect(dataSource.getConnection(), List.of("PUBLIC"));
+
+        assertEquals(fromPool.size(), fromConnection.size());
+        for (int i = 0; i < fromPool.size(); i++) {
+            assertEquals(fromPool.get(i).getName(), fromConnection.get(i).getName());
+            assertEquals(fromPool.get(i).getColumns().size(), fromConnection.get(i).getColumns().size());
+        }
+    }
+
+    @Test
+    void testSchemasFromConfig() {
+        assertEquals(List.of("public"), CatalogIntrospector.schemasFromConfig(Map.of()));
+        assertEquals(List.of("sales"), CatalogIntrospector.schemasFromConfig(Map.of("schema", "sales")));
+        assertEquals(List.of("sales", "hr"), CatalogIntrospector.schemasFromConfig(Map.of("schemas", "sales, hr,sales")));
+        assertEquals(List.of("a", "b"), CatalogIntrospector.schemasFromConfig(Map.of("schemas", List.of("a", "b"), "schema", "c")));
+    }
+
+    @Test
+    void testIntrospect_OnlyNamedTables() {
+        List<TableMetadata> tables = introspector.introspect(dataSource, List.of("PUBLIC", "SALES"),
+                Set.of("ORDERS", "SALES.INVOICES"));
+
+        assertEquals(List.of("ORDERS", "SALES.INVOICES"), tables.stream().map(TableMetadata::getName).toList());
+        assertTrue(tables.get(0).getColumns().get(0).isPrimaryKey());
+        assertEquals("CUSTOMERS.ID", tables.get(0).getColumns().get(1).getForeignKeyTarget());
+        assertEquals("ORDERS.ID", tables.get(1).getColumns().get(1).getForeignKeyTarget());
+
+        assertEquals(List.of("CUSTOMERS"), introspector.introspect(dataSource, List.of("PUBLIC", "SALES"),
+                Set.of("CUSTOMERS")).stream().map(TableMetadata::getName).toList());
+    }
+
+    @Test
+    void testMaxConcurrentQueries_UsesQuarterOfPool() {
+        assertEquals(2, CatalogIntrospector.maxConcurrentQueries(dataSource));
+        try (HikariDataSource small = pool(2); HikariDataSource large = pool(12)) {
+            assertEquals(1, CatalogIntrospector.maxConcurrentQueries(small));
+            assertEquals(3, CatalogIntrospector.maxConcurrentQueries(new DelegatingDataSource(large)));
+        }
+    }
+
+    @Test
+    void testIntrospect_PoolLimitsConnectionsHeldByCatalogQueries() {
+        try (HikariDataSource hikari = pool(8)) {
+            CountingDataSource counting = new CountingDataSource(hikari);
+
+            List<TableMetadata> tables = introspector.introspect(counting, List.of("PUBLIC", "SALES"));
+
+            assertEquals(3, tables.size());
+            assertEquals(2, counting.peak.get());
+        }
+    }
+
+    private static HikariDataSource pool(int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(dataSource);
+        config.setMaximumPoolSize(maximumPoolSize);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Records the most connections checked out at once, holding each briefly on close so
+     * unlimited queries would overlap.
+     */
+    private static class CountingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        CountingDataSource(HikariDataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            Thread.sleep(50);
+                            open.decrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
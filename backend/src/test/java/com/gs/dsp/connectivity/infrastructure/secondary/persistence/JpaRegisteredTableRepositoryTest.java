@@ -0,0 +1,130 @@
+package com.gs.dsp.connectivity.infrastructure.secondary.persistence;
+
+import com.gs.dsp.connectivity.domain.model.*;
+import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
+import com.gs.dsp.connectivity.domain.repository.RegisteredTableRepository;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadata;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.ColumnMetadataUpdate;
+import com.gs.dsp.connectivity.infrastructure.primary.dto.TableMetadata;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the schema built by the Liquibase changelogs rather than one generated by
+ * Hibernate, so the mapping of registered tables and their ordered columns is exercised
+ * against changelog 007.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:registered_tables;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class JpaRegisteredTableRepositoryTest {
+
+    @Autowired
+    private RegisteredTableRepository registeredTableRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Connector connector;
+
+    @BeforeEach
+    void setUp() {
+        connector = connectorRepository.save(Connector.create(
+                ConnectorId.generate(),
+                "Warehouse",
+                new ConnectorType("DATABASE"),
+                new ConnectionConfig(Map.of("host", "localhost")),
+                "tenant-1"
+        ));
+    }
+
+    @Test
+    void save_ShouldKeepColumnOrderAndUpdateSingleColumn() {
+        RegisteredTable table = registeredTableRepository.save(RegisteredTable.create(
+                connector.getId(), "tenant-1", metadata("orders", "zeta", "alpha", "mid"), 0));
+        flushAndClear();
+
+        RegisteredTable loaded = registeredTableRepository.findByConnectorIdAndName(connector.getId(), "orders")
+                .orElseThrow();
+        assertEquals(List.of("zeta", "alpha", "mid"), columnNames(loaded));
+
+        ColumnMetadataUpdate update = new ColumnMetadataUpdate();
+        update.setName("alpha");
+        update.setDisplayName("Alpha");
+        loaded.updateColumn(update);
+        registeredTableRepository.save(loaded);
+        flushAndClear();
+
+        RegisteredTable updated = registeredTableRepository.findById(table.getId()).orElseThrow();
+        assertEquals(List.of("zeta", "alpha", "mid"), columnNames(updated));
+        assertEquals("Alpha", updated.getColumns().get(1).getDisplayName());
+        assertEquals("integer", updated.getColumns().get(1).getDataType());
+        assertEquals(List.of(0, 1, 2), jdbcTemplate.queryForList(
+                "SELECT position FROM registered_columns WHERE table_id = ? ORDER BY position",
+                Integer.class, table.getId().getId()));
+    }
+
+    @Test
+    void findByConnectorIdOrderByPosition_ShouldFollowTablePositions() {
+        registeredTableRepository.save(RegisteredTable.create(connector.getId(), "tenant-1", metadata("b", "id"), 1));
+        registeredTableRepository.save(RegisteredTable.create(connector.getId(), "tenant-1", metadata("a", "id"), 0));
+        flushAndClear();
+
+        List<String> names = registeredTableRepository.findByConnectorIdOrderByPosition(connector.getId()).stream()
+                .map(RegisteredTable::getName)
+                .toList();
+        assertEquals(List.of("a", "b"), names);
+    }
+
+    @Test
+    void deleteByConnectorId_ShouldRemoveTablesAndColumnsBeforeConnectorDelete() {
+        registeredTableRepository.save(RegisteredTable.create(connector.getId(), "tenant-1", metadata("orders", "id", "total"), 0));
+        registeredTableRepository.save(RegisteredTable.create(connector.getId(), "tenant-1", metadata("customers", "id"), 1));
+        flushAndClear();
+
+        registeredTableRepository.deleteByConnectorId(connector.getId());
+        connectorRepository.delete(connectorRepository.findById(connector.getId()).orElseThrow());
+        flushAndClear();
+
+        assertEquals(0, registeredTableRepository.countByConnectorId(connector.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM registered_columns", Integer.class));
+        assertTrue(connectorRepository.findById(connector.getId()).isEmpty());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static TableMetadata metadata(String name, String... columns) {
+        return new TableMetadata(name, Arrays.stream(columns)
+                .map(column -> new ColumnMetadata(column, "integer"))
+                .toList());
+    }
+
+    private static List<String> columnNames(RegisteredTable table) {
+        return table.getColumns().stream().map(RegisteredColumn::getName).toList();
+    }
+}
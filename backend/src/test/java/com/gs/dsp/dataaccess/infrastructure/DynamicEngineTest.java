@@ -5,6 +5,7 @@ import com.gs.dsp.connectivity.domain.repository.ConnectorRepository;
 import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
 import com.gs.dsp.dataaccess.domain.model.DataEndpointId;
 import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
+import com.gs.dsp.iam.application.service.TenantApplicationService;
 import com.gs.dsp.shared.util.EncryptionUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -38,10 +39,16 @@ public class DynamicEngineTest {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private TenantApplicationService tenantApplicationService;
+
     @BeforeEach
     void setUp() {
         dataEndpointRepository.deleteAll();
         connectorRepository.deleteAll();
+        if (tenantApplicationService.getTenantById("tenant-1").isEmpty()) {
+            tenantApplicationService.createTenant("tenant-1", "Tenant 1", null);
+        }
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.model.ConnectionConfig;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.dataaccess.domain.model.DataEndpoint;
+import com.gs.dsp.dataaccess.domain.model.DataEndpointId;
+import com.gs.dsp.dataaccess.domain.repository.DataEndpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EndpointMaskedColumnResolverTest {
+
+    @Mock
+    private DataEndpointRepository dataEndpointRepository;
+
+    private EndpointMaskedColumnResolver resolver;
+    private Connector connector;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new EndpointMaskedColumnResolver(dataEndpointRepository, new ObjectMapper());
+        connector = Connector.create(
+                ConnectorId.generate(),
+                "Source DB",
+                new ConnectorType("DATABASE"),
+                new ConnectionConfig(Map.of("host", "localhost")),
+                "tenant-1"
+        );
+    }
+
+    @Test
+    void maskedColumns_ShouldCollectEnabledMaskingAcrossEndpoints() {
+        DataEndpoint first = endpoint("""
+                [{"name": "Email", "masking": {"enabled": true, "type": "PARTIAL"}},
+                 {"name": "name", "masking": {"enabled": false}}]
+                """);
+        DataEndpoint second = endpoint("""
+                [{"name": "customers.phone", "masking": {"enabled": true, "type": "FIXED"}}]
+                """);
+        DataEndpoint unmasked = endpoint("[]");
+        when(dataEndpointRepository.findByConnectorId(connector.getId())).thenReturn(List.of(first, second, unmasked));
+
+        assertEquals(Set.of("email", "phone"), resolver.maskedColumns(connector));
+    }
+
+    @Test
+    void maskedColumns_WithUnreadableConfig_ShouldSkipEndpoint() {
+        DataEndpoint broken = endpoint("not json");
+        DataEndpoint masked = endpoint("[{\"name\": \"ssn\", \"masking\": {\"enabled\": true}}]");
+        when(dataEndpointRepository.findByConnectorId(connector.getId())).thenReturn(List.of(broken, masked));
+
+        assertEquals(Set.of("ssn"), resolver.maskedColumns(connector));
+    }
+
+    private DataEndpoint endpoint(String fieldConfig) {
+        DataEndpoint endpoint = DataEndpoint.create(DataEndpointId.generate(), connector, "Customers", "customers", "tenant-1");
+        endpoint.updateFieldMaskingConfig(fieldConfig);
+        return endpoint;
+    }
+}
@@ -0,0 +1,93 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.dsp.connectivity.domain.model.ConnectionConfig;
+import com.gs.dsp.connectivity.domain.model.Connector;
+import com.gs.dsp.connectivity.domain.model.ConnectorId;
+import com.gs.dsp.connectivity.domain.model.ConnectorType;
+import com.gs.dsp.connectivity.infrastructure.secondary.datasource.DataSourceManager;
+import com.gs.dsp.dataaccess.domain.model.PreparedQuery;
+import com.gs.dsp.dataaccess.infrastructure.security.QueryValidator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcEndpointQueryPreparerTest {
+
+    @Mock
+    private DataSourceManager dataSourceManager;
+
+    private JdbcEndpointQueryPreparer preparer;
+    private Connector connector;
+
+    @BeforeEach
+    void setUp() {
+        preparer = new JdbcEndpointQueryPreparer(dataSourceManager, new SqlBuilder(new QueryValidator()), new ObjectMapper());
+        connector = Connector.create(
+                ConnectorId.generate(),
+                "Source DB",
+                new ConnectorType("DATABASE"),
+                new ConnectionConfig(Map.of("host", "localhost")),
+                "tenant-1"
+        );
+    }
+
+    @Test
+    void prepare_ShouldNormalizeAndDescribeCustomSql() {
+        connector.approve();
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:prepare-test");
+        when(dataSourceManager.getDataSource(any())).thenReturn(dataSource);
+
+        PreparedQuery prepared = preparer.prepare(connector,
+                "{\"mode\": \"SQL\", \"sql\": \"  SELECT 1 AS ID, 'x' AS LABEL ;  \"}");
+
+        assertEquals("SELECT 1 AS ID, 'x' AS LABEL", prepared.sql());
+        assertTrue(prepared.resultSchema().contains("\"name\":\"ID\""));
+        assertTrue(prepared.resultSchema().contains("\"name\":\"LABEL\""));
+    }
+
+    @Test
+    void prepare_ShouldRejectSqlThatDoesNotCompile() {
+        connector.approve();
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:prepare-test");
+        when(dataSourceManager.getDataSource(any())).thenReturn(dataSource);
+
+        assertThrows(IllegalArgumentException.class, () -> preparer.prepare(connector,
+                "{\"mode\": \"SQL\", \"sql\": \"SELECT * FROM missing_table\"}"));
+    }
+
+    @Test
+    void prepare_ShouldRejectUnsafeOrNonQuerySql() {
+        assertThrows(IllegalArgumentException.class, () -> preparer.prepare(connector,
+                "{\"mode\": \"SQL\", \"sql\": \"SELECT 1; DROP TABLE users\"}"));
+        assertThrows(IllegalArgumentException.class, () -> preparer.prepare(connector,
+                "{\"mode\": \"SQL\", \"sql\": \"UPDATE users SET name = 'x'\"}"));
+        verifyNoInteractions(dataSourceManager);
+    }
+
+    @Test
+    void prepare_ShouldSkipDescribeForUnapprovedConnector() {
+        PreparedQuery prepared = preparer.prepare(connector, "{\"mode\": \"SQL\", \"sql\": \"SELECT 1\"}");
+
+        assertEquals("SELECT 1", prepared.sql());
+        assertNull(prepared.resultSchema());
+        verifyNoInteractions(dataSourceManager);
+    }
+
+    @Test
+    void prepare_ShouldReturnNullForBuilderMode() {
+        assertNull(preparer.prepare(connector, "{\"mode\": \"BUILDER\", \"rootTable\": \"users\"}"));
+    }
+}
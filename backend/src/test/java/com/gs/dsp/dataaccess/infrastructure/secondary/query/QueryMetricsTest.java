@@ -0,0 +1,53 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private QueryMetrics queryMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        queryMetrics = new QueryMetrics(registry, 2, 1);
+    }
+
+    @Test
+    void forEndpoint_ShouldReuseMetersOfTheSameEndpoint() {
+        QueryMetrics.EndpointMeters first = queryMetrics.forEndpoint("e1", "t1");
+        first.execute().record(5, TimeUnit.MILLISECONDS);
+        first.rows().record(10);
+
+        QueryMetrics.EndpointMeters second = queryMetrics.forEndpoint("e1", "t1");
+
+        assertSame(first, second);
+        assertEquals(1, registry.get(QueryMetrics.DURATION)
+                .tags("endpoint", "e1", "tenant", "t1", "phase", "execute").timer().count());
+        assertEquals(10, registry.get(QueryMetrics.ROWS).tags("endpoint", "e1").summary().totalAmount());
+    }
+
+    @Test
+    void forEndpoint_BeyondLimits_ShouldUseOverflowTag() {
+        queryMetrics.forEndpoint("e1", "t1");
+        queryMetrics.forEndpoint("e2", "t1");
+        QueryMetrics.EndpointMeters overflow = queryMetrics.forEndpoint("e3", "t2");
+        overflow.total().record(1, TimeUnit.MILLISECONDS);
+
+        assertSame(overflow, queryMetrics.forEndpoint("e4", "t3"));
+        assertEquals(1, registry.get(QueryMetrics.DURATION)
+                .tags("endpoint", QueryMetrics.OTHER, "tenant", QueryMetrics.OTHER, "phase", "total").timer().count());
+        assertEquals(3, registry.get(QueryMetrics.RESPONSE_BYTES).summaries().size());
+    }
+
+    @Test
+    void constructor_WithInvalidLimits_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryMetrics(registry, 0, 1));
+    }
+}
@@ -0,0 +1,94 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatisticsTest {
+
+    private static final String ORDERS = "SELECT * FROM orders WHERE amount >= ?";
+    private static final String CUSTOMERS = "SELECT * FROM customers";
+
+    @Test
+    void top_ByFingerprint_ShouldAggregateEndpointsAndSortByTotalTime() {
+        QueryStatistics statistics = new QueryStatistics(100);
+        statistics.recordExecution("e1", "t1", ORDERS, millis(10), 50);
+        statistics.recordExecution("e2", "t1", ORDERS, millis(30), 50);
+        statistics.recordExecution("e3", "t2", CUSTOMERS, millis(5), 10);
+        statistics.recordResponseBytes("e1", 1000);
+
+        List<QueryStatsRow> top = statistics.top(QueryStatistics.GroupBy.FINGERPRINT, QueryStatistics.SortBy.TOTAL_TIME, 10);
+
+        assertEquals(2, top.size());
+        QueryStatsRow orders = top.get(0);
+        assertEquals(List.of(ORDERS), orders.fingerprints());
+        assertEquals(List.of("e1", "e2"), orders.endpointIds());
+        assertEquals(2, orders.calls());
+        assertEquals(40.0, orders.totalTimeMs(), 0.001);
+        assertEquals(20.0, orders.meanTimeMs(), 0.001);
+        assertEquals(30.0, orders.maxTimeMs(), 0.001);
+        assertEquals(100, orders.rows());
+        assertEquals(1000, orders.bytes());
+        assertEquals(40.0 / 45.0 * 100, orders.percentOfTotalTime(), 0.001);
+    }
+
+    @Test
+    void top_ByEndpoint_ShouldSortByCallsAndLimit() {
+        QueryStatistics statistics = new QueryStatistics(100);
+        for (int i = 0; i < 3; i++) {
+            statistics.recordExecution("busy", "t1", ORDERS, millis(1), 1);
+        }
+        statistics.recordExecution("quiet", "t1", ORDERS, millis(100), 1);
+        statistics.recordError("failing", "t1", null);
+
+        List<QueryStatsRow> top = statistics.top(QueryStatistics.GroupBy.ENDPOINT, QueryStatistics.SortBy.CALLS, 1);
+
+        assertEquals(1, top.size());
+        assertEquals(List.of("busy"), top.get(0).endpointIds());
+        assertEquals(1, statistics.top(QueryStatistics.GroupBy.ENDPOINT, QueryStatistics.SortBy.ERRORS, 1).get(0).errors());
+    }
+
+    @Test
+    void recordExecution_BeyondMaxEntries_ShouldUseOverflowEntry() {
+        QueryStatistics statistics = new QueryStatistics(1);
+        statistics.recordExecution("e1", "t1", ORDERS, millis(1), 1);
+        statistics.recordExecution("e2", "t1", CUSTOMERS, millis(1), 1);
+
+        List<QueryStatsRow> top = statistics.top(QueryStatistics.GroupBy.ENDPOINT, QueryStatistics.SortBy.CALLS, 10);
+
+        assertEquals(2, top.size());
+        assertTrue(top.stream().anyMatch(row -> row.endpointIds().equals(List.of(QueryStatistics.OTHER))));
+    }
+
+    @Test
+    void reset_ShouldDropAllEntries() {
+        QueryStatistics statistics = new QueryStatistics(100);
+        statistics.recordExecution("e1", "t1", ORDERS, millis(1), 1);
+
+        statistics.reset();
+
+        assertTrue(statistics.top(QueryStatistics.GroupBy.FINGERPRINT, QueryStatistics.SortBy.TOTAL_TIME, 10).isEmpty());
+    }
+
+    @Test
+    void histogram_ShouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(i * 100L));
+        }
+        long[] counts = histogram.snapshot();
+
+        double p50 = LatencyHistogram.quantileMillis(counts, 0.50);
+        double p99 = LatencyHistogram.quantileMillis(counts, 0.99);
+        assertTrue(p50 >= 50.0 && p50 <= 50.0 * 1.125, "p50 was " + p50);
+        assertTrue(p99 >= 99.0 && p99 <= 99.0 * 1.125, "p99 was " + p99);
+        assertEquals(0, LatencyHistogram.quantileMillis(new long[LatencyHistogram.BUCKETS], 0.5));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
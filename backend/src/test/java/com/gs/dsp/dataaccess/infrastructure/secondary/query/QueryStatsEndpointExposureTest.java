@@ -0,0 +1,57 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Checks that the query statistics are served on the management port only and that the
+ * reset is not reachable over HTTP with the default configuration.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0")
+@ActiveProfiles("test")
+class QueryStatsEndpointExposureTest {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void queryStats_ShouldNotBeServedOnApplicationPort() {
+        assertNotEquals(serverPort, managementPort);
+        assertFalse(restTemplate.getForEntity(url(serverPort), String.class)
+                .getStatusCode().is2xxSuccessful());
+    }
+
+    @Test
+    void queryStats_ShouldBeReadableOnManagementPort() {
+        assertEquals(HttpStatus.OK, restTemplate
+                .getForEntity(url(managementPort), String.class).getStatusCode());
+    }
+
+    @Test
+    void reset_ShouldNotBeExposedOverHttp() {
+        assertFalse(restTemplate.exchange(url(managementPort), HttpMethod.DELETE, null, String.class)
+                .getStatusCode().is2xxSuccessful());
+    }
+
+    private static String url(int port) {
+        return "http://localhost:" + port + "/actuator/querystats";
+    }
+}
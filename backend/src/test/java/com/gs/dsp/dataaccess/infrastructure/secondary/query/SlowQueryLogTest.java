@@ -0,0 +1,47 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    @Test
+    void isSlow_ShouldCompareAgainstThreshold() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(100, 8);
+
+        assertFalse(slowQueryLog.isSlow(TimeUnit.MILLISECONDS.toNanos(99)));
+        assertTrue(slowQueryLog.isSlow(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    void recent_WhenBufferWraps_ShouldKeepNewestFirst() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, 3);
+        assertEquals(4, slowQueryLog.capacity());
+
+        for (int i = 0; i < 10; i++) {
+            slowQueryLog.record(query("e" + i));
+        }
+
+        List<SlowQuery> recent = slowQueryLog.recent(10);
+        assertEquals(4, recent.size());
+        assertEquals("e9", recent.get(0).endpointId());
+        assertEquals("e6", recent.get(3).endpointId());
+        assertEquals(List.of("e9", "e8"), slowQueryLog.recent(2).stream().map(SlowQuery::endpointId).toList());
+    }
+
+    @Test
+    void recent_WhenEmpty_ShouldReturnNothing() {
+        assertTrue(new SlowQueryLog(0, 4).recent(10).isEmpty());
+    }
+
+    private static SlowQuery query(String endpointId) {
+        return new SlowQuery(Instant.now(), "trace", "tenant", endpointId, "SELECT ?",
+                Map.of("limit", "Integer"), 0, 10, 10, Map.of("total", 1.0));
+    }
+}
@@ -0,0 +1,22 @@
+package com.gs.dsp.dataaccess.infrastructure.secondary.query;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlFingerprintTest {
+
+    @Test
+    void of_ShouldReplaceLiteralsAndCollapseWhitespace() {
+        assertEquals(
+                "SELECT col1 FROM audit_01 WHERE name = ? AND amount > ? LIMIT :limit",
+                SqlFingerprint.of("SELECT col1\n  FROM audit_01 WHERE name = 'O''Brien'  AND amount > 12.5 LIMIT :limit"));
+    }
+
+    @Test
+    void of_ShouldGiveStatementsDifferingOnlyInValuesTheSameFingerprint() {
+        assertEquals(
+                SqlFingerprint.of("SELECT * FROM orders WHERE amount >= 10 AND status = 'NEW'"),
+                SqlFingerprint.of("SELECT *  FROM orders WHERE amount >= 2500 AND status = 'PAID'"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.gs.dsp.dataaccess.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SQL Lexer Tests")
+class SqlLexerTest {
+
+    @Test
+    @DisplayName("Should report each kind of finding with its position")
+    void testFindingKinds() {
+        assertFinding(SqlFinding.Kind.COMMENT, 5, "admin--");
+        assertFinding(SqlFinding.Kind.COMMENT, 5, "Item #5");
+        assertFinding(SqlFinding.Kind.TAUTOLOGY, 2, "' OR '1'='1");
+        assertFinding(SqlFinding.Kind.TAUTOLOGY, 2, "1 and x = y");
+        assertFinding(SqlFinding.Kind.UNION_SELECT, 14, "1 union all \n select null");
+        assertFinding(SqlFinding.Kind.STACKED_STATEMENT, 1, "1;  delete from users");
+        assertFinding(SqlFinding.Kind.PROCEDURE_CALL, 0, "exec proc");
+        assertFinding(SqlFinding.Kind.PROCEDURE_CALL, 2, "1 xp_cmdshell 'dir'");
+        assertFinding(SqlFinding.Kind.TIME_DELAY, 6, "1 and pg_sleep (5)");
+        assertFinding(SqlFinding.Kind.DROP_STATEMENT, 0, "drop table users");
+        assertFinding(SqlFinding.Kind.MARKUP, 0, "<SCRIPT>alert(1)");
+        assertFinding(SqlFinding.Kind.MARKUP, 4, "<a  onclick=go()>");
+    }
+
+    @Test
+    @DisplayName("Should not flag ordinary values and SQL")
+    void testCleanInputs() {
+        assertTrue(SqlLexer.scan("O'Brien").isEmpty());
+        assertTrue(SqlLexer.scan("users.id = orders.user_id AND orders.total > 10").isEmpty());
+        assertTrue(SqlLexer.scan("SELECT id, name FROM users WHERE status = 'active'").isEmpty());
+        assertTrue(SqlLexer.scan("sleep well").isEmpty());
+        assertTrue(SqlLexer.scan("dropdown menu; items").isEmpty());
+        assertTrue(SqlLexer.scan(null).isEmpty());
+        assertTrue(SqlLexer.scan("").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should list every finding, or stop at the first")
+    void testScanAndFirstFinding() {
+        String input = "1'; DROP TABLE users; --";
+
+        List<SqlFinding> findings = SqlLexer.scan(input);
+
+        assertEquals(List.of(SqlFinding.Kind.COMMENT, SqlFinding.Kind.STACKED_STATEMENT, SqlFinding.Kind.DROP_STATEMENT),
+            findings.stream().map(SqlFinding::kind).toList());
+        assertEquals(findings.get(0), SqlLexer.firstFinding(input));
+        assertNull(SqlLexer.firstFinding("plain value"));
+    }
+
+    @Test
+    @DisplayName("Should recognize plain identifiers only")
+    void testIdentifiers() {
+        assertTrue(SqlLexer.isIdentifier("user_profiles"));
+        assertTrue(SqlLexer.isIdentifier("_table1"));
+        assertFalse(SqlLexer.isIdentifier("1table"));
+        assertFalse(SqlLexer.isIdentifier("user-table"));
+        assertFalse(SqlLexer.isIdentifier("café"));
+        assertFalse(SqlLexer.isIdentifier(""));
+    }
+
+    private static void assertFinding(SqlFinding.Kind kind, int position, String input) {
+        SqlFinding finding = SqlLexer.firstFinding(input);
+        assertNotNull(finding, input);
+        assertEquals(kind, finding.kind(), input);
+        assertEquals(position, finding.position(), input);
+    }
+}
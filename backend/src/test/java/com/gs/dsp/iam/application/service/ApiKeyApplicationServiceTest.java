@@ -7,12 +7,19 @@ import com.gs.dsp.iam.domain.repository.ApiKeyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +34,15 @@ class ApiKeyApplicationServiceTest {
     @Mock
     private ApiKeyRepository apiKeyRepository;
 
+    @Mock
+    private ApiKeyUsageRecorder usageRecorder;
+
+    @Spy
+    private ApiKeyHasher apiKeyHasher = new ApiKeyHasher("test-pepper");
+
+    @Spy
+    private ApiKeyVerificationCache verificationCache = new ApiKeyVerificationCache(30_000, 100, 5_000, 100);
+
     @InjectMocks
     private ApiKeyApplicationService apiKeyService;
 
@@ -93,4 +109,104 @@ class ApiKeyApplicationServiceTest {
         apiKeyService.deleteApiKey(idStr);
         verify(apiKeyRepository).deleteById(any(ApiKeyId.class));
     }
+
+    @Test
+    void validateApiKey_ShouldVerifyOnceAndEvictOnRevoke() {
+        ArgumentCaptor<ApiKey> saved = ArgumentCaptor.forClass(ApiKey.class);
+        when(apiKeyRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        String rawKey = apiKeyService.generateApiKey("test-tenant", "Test Key", null);
+        ApiKey generated = saved.getValue();
+        when(apiKeyRepository.findByKeyHash(generated.getKeyHash())).thenReturn(Optional.of(generated));
+        when(apiKeyRepository.findById(generated.getId())).thenReturn(Optional.of(generated));
+
+        assertTrue(apiKeyService.validateApiKey(rawKey).isPresent());
+        assertTrue(apiKeyService.validateApiKey(rawKey).isPresent());
+        verify(apiKeyRepository, times(1)).findByKeyHash(generated.getKeyHash());
+        verify(usageRecorder, times(2)).recordUse(generated.getId());
+
+        apiKeyService.revokeApiKey(generated.getIdValue());
+
+        assertTrue(apiKeyService.validateApiKey(rawKey).isEmpty());
+        verify(apiKeyRepository, times(2)).findByKeyHash(generated.getKeyHash());
+    }
+
+    @Test
+    void revokeApiKey_InTransaction_ShouldEvictOnlyAfterCommit() {
+        ArgumentCaptor<ApiKey> saved = ArgumentCaptor.forClass(ApiKey.class);
+        when(apiKeyRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        String rawKey = apiKeyService.generateApiKey("test-tenant", "Test Key", null);
+        ApiKey generated = saved.getValue();
+        when(apiKeyRepository.findByKeyHash(generated.getKeyHash())).thenReturn(Optional.of(generated));
+        when(apiKeyRepository.findById(generated.getId())).thenReturn(Optional.of(generated));
+        assertTrue(apiKeyService.validateApiKey(rawKey).isPresent());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            apiKeyService.revokeApiKey(generated.getIdValue());
+            verify(verificationCache, never()).evict(generated.getId());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(verificationCache).evict(generated.getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(verificationCache.getVerified(generated.getKeyHash()));
+    }
+
+    @Test
+    void deleteApiKey_InTransaction_ShouldNotEvictWhenRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            apiKeyService.deleteApiKey(apiKeyId.toString());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(verificationCache, never()).evict(apiKeyId);
+    }
+
+    @Test
+    void validateApiKey_ShouldRememberRejectedKeys() {
+        ArgumentCaptor<ApiKey> saved = ArgumentCaptor.forClass(ApiKey.class);
+        when(apiKeyRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        String rawKey = apiKeyService.generateApiKey("test-tenant", "Test Key", null);
+        ApiKey generated = saved.getValue();
+        when(apiKeyRepository.findById(generated.getId())).thenReturn(Optional.of(generated));
+        String wrongKey = rawKey.substring(0, rawKey.indexOf('.') + 1) + "wrong-secret";
+
+        assertTrue(apiKeyService.validateApiKey(wrongKey).isEmpty());
+        assertTrue(apiKeyService.validateApiKey(wrongKey).isEmpty());
+
+        verify(apiKeyRepository, times(1)).findById(generated.getId());
+    }
+
+    @Test
+    void generateApiKey_ShouldStoreKeyedHash() {
+        ArgumentCaptor<ApiKey> saved = ArgumentCaptor.forClass(ApiKey.class);
+        when(apiKeyRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        String rawKey = apiKeyService.generateApiKey("test-tenant", "Test Key", null);
+
+        assertTrue(saved.getValue().getKeyHash().startsWith(ApiKeyHasher.SCHEME_PREFIX));
+        assertEquals(apiKeyHasher.hash(rawKey), saved.getValue().getKeyHash());
+    }
+
+    @Test
+    void validateApiKey_WithBCryptHash_ShouldVerifyAndRehash() {
+        ByteBuffer idBytes = ByteBuffer.allocate(16)
+                .putLong(apiKeyId.getId().getMostSignificantBits())
+                .putLong(apiKeyId.getId().getLeastSignificantBits());
+        String rawKey = "ldop_sk_" + Base64.getUrlEncoder().withoutPadding().encodeToString(idBytes.array()) + ".legacy-secret";
+        ApiKey legacy = ApiKey.create(apiKeyId, new TenantId("test-tenant"), "Legacy Key",
+                new BCryptPasswordEncoder().encode(rawKey), "ldop_sk_", null);
+        when(apiKeyRepository.findById(apiKeyId)).thenReturn(Optional.of(legacy));
+        when(apiKeyRepository.save(legacy)).thenReturn(legacy);
+
+        assertTrue(apiKeyService.validateApiKey(rawKey).isPresent());
+
+        assertEquals(apiKeyHasher.hash(rawKey), legacy.getKeyHash());
+        verify(apiKeyRepository).save(legacy);
+    }
 }
@@ -0,0 +1,59 @@
+package com.gs.dsp.iam.application.service;
+
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import com.gs.dsp.iam.domain.repository.ApiKeyUsageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyUsageRecorderTest {
+
+    @Mock
+    private ApiKeyUsageRepository apiKeyUsageRepository;
+
+    @InjectMocks
+    private ApiKeyUsageRecorder recorder;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldCoalesceRepeatedUsesIntoOneBatch() {
+        ApiKeyId hot = ApiKeyId.generate();
+        ApiKeyId cold = ApiKeyId.generate();
+        for (int i = 0; i < 100; i++) {
+            recorder.recordUse(hot);
+        }
+        recorder.recordUse(cold);
+
+        recorder.flush();
+        recorder.flush();
+
+        ArgumentCaptor<Map<ApiKeyId, LocalDateTime>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(apiKeyUsageRepository, times(1)).updateLastUsedAt(batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertTrue(batch.getValue().containsKey(hot));
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldRetryOnNextFlush() {
+        ApiKeyId id = ApiKeyId.generate();
+        recorder.recordUse(id);
+        doThrow(new IllegalStateException("database down"))
+                .doNothing()
+                .when(apiKeyUsageRepository).updateLastUsedAt(anyMap());
+
+        recorder.flush();
+        recorder.shutdown();
+
+        verify(apiKeyUsageRepository, times(2)).updateLastUsedAt(argThat(batch -> batch.containsKey(id)));
+    }
+}
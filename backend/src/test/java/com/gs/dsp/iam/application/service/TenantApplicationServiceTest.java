@@ -0,0 +1,86 @@
+package com.gs.dsp.iam.application.service;
+
+import com.gs.dsp.iam.domain.model.Tenant;
+import com.gs.dsp.iam.domain.model.TenantId;
+import com.gs.dsp.iam.domain.model.TenantStatus;
+import com.gs.dsp.iam.domain.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that tenant status changes reach the status cache only once committed.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantApplicationServiceTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private TenantStatusCache tenantStatusCache;
+
+    @InjectMocks
+    private TenantApplicationService tenantService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void createTenant_ShouldCacheStatusOnlyAfterCommit() {
+        when(tenantRepository.existsById(new TenantId("acme"))).thenReturn(false);
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Tenant tenant = tenantService.createTenant("acme", "Acme", null);
+        verify(tenantStatusCache, never()).put(any());
+
+        commit();
+        verify(tenantStatusCache).put(tenant);
+    }
+
+    @Test
+    void updateTenantStatus_WhenRolledBack_ShouldNotTouchCache() {
+        Tenant tenant = Tenant.create(new TenantId("acme"), "Acme", null);
+        when(tenantRepository.findById(new TenantId("acme"))).thenReturn(Optional.of(tenant));
+        when(tenantRepository.save(tenant)).thenReturn(tenant);
+
+        tenantService.updateTenantStatus("acme", TenantStatus.INACTIVE);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(tenantStatusCache);
+    }
+
+    @Test
+    void deleteTenant_ShouldRemoveFromCacheAfterCommit() {
+        when(tenantRepository.existsById(new TenantId("acme"))).thenReturn(true);
+
+        tenantService.deleteTenant("acme");
+        verify(tenantStatusCache, never()).remove("acme");
+
+        commit();
+        verify(tenantStatusCache).remove("acme");
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
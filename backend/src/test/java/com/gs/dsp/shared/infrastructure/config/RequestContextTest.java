@@ -0,0 +1,46 @@
+package com.gs.dsp.shared.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestContextTest {
+
+    @Test
+    void call_ShouldBindForTheCallAndRestoreAfterwards() throws Exception {
+        RequestContext context = new RequestContext("trace-1", null, null, Instant.now().plusSeconds(30));
+
+        String tenant = RequestContext.<String, Exception>call(context, () -> {
+            TenantContext.setTenantId("tenant-1");
+            assertThat(MDC.get(RequestContext.MDC_TRACE_ID_KEY)).isEqualTo("trace-1");
+            assertThat(MDC.get(RequestContext.MDC_TENANT_ID_KEY)).isEqualTo("tenant-1");
+            return TenantContext.getTenantId();
+        });
+
+        assertThat(tenant).isEqualTo("tenant-1");
+        assertThat(RequestContext.current()).isNull();
+        assertThat(TenantContext.getTenantId()).isNull();
+        assertThat(MDC.get(RequestContext.MDC_TRACE_ID_KEY)).isNull();
+    }
+
+    @Test
+    void wrap_ShouldCarryContextToForkedTasks() throws Exception {
+        RequestContext context = new RequestContext("trace-2", "tenant-2", null, null);
+
+        String seen = RequestContext.<String, Exception>call(context, () -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> child = executor.submit(RequestContext.wrap(() ->
+                        TenantContext.getTenantId() + "/" + MDC.get(RequestContext.MDC_TRACE_ID_KEY)));
+                return child.get();
+            }
+        });
+
+        assertThat(seen).isEqualTo("tenant-2/trace-2");
+    }
+}
@@ -0,0 +1,143 @@
+package com.gs.dsp.shared.infrastructure.ratelimit;
+
+import com.gs.dsp.iam.domain.model.ApiKeyId;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TokenBucket and RateLimitService.
+ */
+class RateLimitServiceTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testTokenBucket_AllowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long now = 0;
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, bucket.tryAcquire(1, now));
+        }
+        long wait = bucket.tryAcquire(1, now);
+        assertEquals(SECOND / 10, wait);
+        assertEquals(0L, bucket.remaining(now));
+    }
+
+    @Test
+    void testTokenBucket_RefillsAtSustainedRate() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        assertEquals(0L, bucket.tryAcquire(1, 0));
+        assertTrue(bucket.tryAcquire(1, SECOND / 20) > 0);
+        assertEquals(0L, bucket.tryAcquire(1, SECOND / 10));
+    }
+
+    @Test
+    void testTokenBucket_ChargeGoesIntoDebt() {
+        TokenBucket bucket = new TokenBucket(100, 100);
+        bucket.charge(300, 0);
+        // 200 permits over the burst must be repaid at 100/s
+        assertEquals(2 * SECOND, bucket.tryAcquire(0, 0));
+        assertEquals(0L, bucket.tryAcquire(0, 2 * SECOND));
+    }
+
+    @Test
+    void testRateLimitService_RejectsKeyOverBurst() {
+        RateLimitService service = new RateLimitService(true, 1, 2, 0, 0, 0, 0, 0, 0, 1000, 60_000);
+        ApiKeyId keyId = ApiKeyId.generate();
+
+        RateLimitDecision first = service.tryAcquire(keyId, "tenant-1");
+        assertTrue(first.allowed());
+        assertEquals(2, first.limit());
+        assertEquals(1, first.remaining());
+        assertTrue(service.tryAcquire(keyId, "tenant-1").allowed());
+
+        RateLimitDecision denied = service.tryAcquire(keyId, "tenant-1");
+        assertFalse(denied.allowed());
+        assertEquals(0, denied.remaining());
+        assertEquals(1, denied.retryAfterSeconds());
+
+        // Other keys have their own buckets
+        assertTrue(service.tryAcquire(ApiKeyId.generate(), "tenant-1").allowed());
+    }
+
+    @Test
+    void testRateLimitService_TenantLimitSharedAcrossKeys() {
+        RateLimitService service = new RateLimitService(true, 0, 0, 0, 0, 1, 1, 0, 0, 1000, 60_000);
+
+        assertTrue(service.tryAcquire(ApiKeyId.generate(), "tenant-1").allowed());
+        assertFalse(service.tryAcquire(ApiKeyId.generate(), "tenant-1").allowed());
+        assertTrue(service.tryAcquire(ApiKeyId.generate(), "tenant-2").allowed());
+    }
+
+    @Test
+    void testRateLimitService_RowDebtRejectsNextRequest() {
+        RateLimitService service = new RateLimitService(true, 100, 100, 10, 10, 0, 0, 0, 0, 1000, 60_000);
+        ApiKeyId keyId = ApiKeyId.generate();
+
+        assertTrue(service.tryAcquire(keyId, "tenant-1").allowed());
+        service.chargeRows(keyId, "tenant-1", 1000);
+
+        RateLimitDecision denied = service.tryAcquire(keyId, "tenant-1");
+        assertFalse(denied.allowed());
+        assertTrue(denied.retryAfterSeconds() > 1);
+    }
+
+    @Test
+    void testRateLimitService_KeyChurnDoesNotResetThrottledBucket() {
+        RateLimitService service = new RateLimitService(true, 0.01, 1, 0, 0, 0, 0, 0, 0, 10, 60_000);
+        ApiKeyId keyId = ApiKeyId.generate();
+
+        assertTrue(service.tryAcquire(keyId, null).allowed());
+        assertFalse(service.tryAcquire(keyId, null).allowed());
+        for (int i = 0; i < 1000; i++) {
+            ApiKeyId other = ApiKeyId.generate();
+            for (int j = 0; j < 5; j++) {
+                service.tryAcquire(other, null);
+            }
+        }
+
+        assertFalse(service.tryAcquire(keyId, null).allowed());
+    }
+
+    @Test
+    void testRateLimitService_IdleExpiryKeepsRowDebt() throws InterruptedException {
+        RateLimitService service = new RateLimitService(true, 100, 100, 1, 1, 0, 0, 0, 0, 1000, 20);
+        ApiKeyId keyId = ApiKeyId.generate();
+
+        assertTrue(service.tryAcquire(keyId, null).allowed());
+        service.chargeRows(keyId, null, 1000);
+        Thread.sleep(50);
+        service.tryAcquire(ApiKeyId.generate(), null);
+
+        assertFalse(service.tryAcquire(keyId, null).allowed());
+    }
+
+    @Test
+    void testTokenBucket_NanosUntilFull() {
+        TokenBucket bucket = new TokenBucket(10, 5);
+        assertEquals(0L, bucket.nanosUntilFull(0));
+        bucket.charge(3, 0);
+        assertEquals(3 * SECOND / 10, bucket.nanosUntilFull(0));
+        assertEquals(0L, bucket.nanosUntilFull(SECOND));
+    }
+
+    @Test
+    void testRateLimitService_Disabled() {
+        RateLimitService service = new RateLimitService(false, 1, 1, 1, 1, 1, 1, 1, 1, 1000, 60_000);
+        ApiKeyId keyId = ApiKeyId.generate();
+        for (int i = 0; i < 10; i++) {
+            RateLimitDecision decision = service.tryAcquire(keyId, "tenant-1");
+            assertTrue(decision.allowed());
+            assertFalse(decision.isLimited());
+        }
+    }
+
+    @Test
+    void testRateLimitService_RejectsUnboundedBucketSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimitService(true, 1, 1, 1, 1, 1, 1, 1, 1, 0, 60_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimitService(true, 1, 1, 1, 1, 1, 1, 1, 1, 1000, 0));
+    }
+}
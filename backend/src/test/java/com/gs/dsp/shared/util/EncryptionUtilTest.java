@@ -0,0 +1,111 @@
+package com.gs.dsp.shared.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncryptionUtilTest {
+
+    private static final String KEY_1 = "12345678901234567890123456789012";
+    private static final String KEY_2 = "abcdefghijklmnopqrstuvwxyz012345";
+
+    private final EncryptionUtil encryptionUtil = new EncryptionUtil(KEY_1, 1, "", 60_000, 100);
+
+    @Test
+    void encrypt_ShouldRoundTripWithVersionedCiphertext() {
+        String encrypted = encryptionUtil.encrypt("s3cret");
+
+        assertTrue(encrypted.startsWith("v1:"));
+        assertEquals("s3cret", encryptionUtil.decrypt(encrypted));
+    }
+
+    @Test
+    void encrypt_ShouldUseFreshIvEachTime() {
+        assertNotEquals(encryptionUtil.encrypt("s3cret"), encryptionUtil.encrypt("s3cret"));
+    }
+
+    @Test
+    void decrypt_ShouldRejectTamperedCiphertext() {
+        String encrypted = encryptionUtil.encrypt("s3cret");
+        byte[] payload = Base64.getDecoder().decode(encrypted.substring(3));
+        payload[payload.length - 1] ^= 1;
+        String tampered = "v1:" + Base64.getEncoder().encodeToString(payload);
+
+        assertThrows(RuntimeException.class, () -> encryptionUtil.decrypt(tampered));
+    }
+
+    @Test
+    void decrypt_ShouldReadLegacyEcbCiphertext() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY_1.getBytes(StandardCharsets.UTF_8), "AES"));
+        String legacy = Base64.getEncoder().encodeToString(cipher.doFinal("s3cret".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("s3cret", encryptionUtil.decrypt(legacy));
+    }
+
+    @Test
+    void decrypt_ShouldReadValuesFromPreviousKeyAfterRotation() {
+        String encryptedWithOldKey = encryptionUtil.encrypt("s3cret");
+        EncryptionUtil rotated = new EncryptionUtil(KEY_2, 2, "1:" + KEY_1, 60_000, 100);
+
+        assertEquals("s3cret", rotated.decrypt(encryptedWithOldKey));
+        assertTrue(rotated.encrypt("s3cret").startsWith("v2:"));
+    }
+
+    @Test
+    void decrypt_ShouldFailForUnknownKeyVersion() {
+        EncryptionUtil rotated = new EncryptionUtil(KEY_2, 2, "", 60_000, 100);
+        String encrypted = rotated.encrypt("s3cret");
+
+        assertThrows(RuntimeException.class, () -> encryptionUtil.decrypt(encrypted));
+    }
+
+    @Test
+    void decryptCredential_ShouldCachePerOwnerAndCiphertext() {
+        UUID connectorId = UUID.randomUUID();
+        String first = encryptionUtil.encrypt("first");
+        String second = encryptionUtil.encrypt("second");
+
+        assertEquals("first", encryptionUtil.decryptCredential(connectorId, first));
+        assertEquals("first", encryptionUtil.decryptCredential(connectorId, first));
+        assertEquals("second", encryptionUtil.decryptCredential(connectorId, second));
+    }
+
+    @Test
+    void encrypt_ShouldRoundTripConcurrentlyOnVirtualThreads() throws Exception {
+        byte[] payload = Base64.getDecoder().decode(encryptionUtil.encrypt("secret").substring(3));
+        payload[payload.length - 1] ^= 1;
+        String tampered = "v1:" + Base64.getEncoder().encodeToString(payload);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String value = "secret-" + i;
+                results.add(executor.submit(() -> {
+                    // A failed decryption must not leave a broken cipher in the pool
+                    assertThrows(RuntimeException.class, () -> encryptionUtil.decrypt(tampered));
+                    return encryptionUtil.decrypt(encryptionUtil.encrypt(value));
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("secret-" + i, results.get(i).get());
+            }
+        }
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new EncryptionUtil(KEY_1, 0, "", 60_000, 100));
+        assertThrows(IllegalArgumentException.class, () -> new EncryptionUtil(KEY_1, 1, "bad", 60_000, 100));
+    }
+}